@@ -0,0 +1,74 @@
+package de.fjobilabs.springframework.hateoas.hal.benchmark;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import de.fjobilabs.springframework.hateoas.hal.benchmark.model.ArrayResource;
+import de.fjobilabs.springframework.hateoas.hal.benchmark.model.CollectionResource;
+import de.fjobilabs.springframework.hateoas.hal.benchmark.model.ParallelCollectionResource;
+
+/**
+ * Measures the decoding of embedded collections, declared either as array or
+ * as {@link Collection}, for small and large {@code _embedded} relations. The
+ * collection is also decoded with {@code @Embedded(parallel = true)}.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 12:09:45
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmbeddedCollectionBenchmark {
+    
+    @Param({"10", "1000", "50000"})
+    public int size;
+    
+    private ObjectReader collectionReader;
+    private ObjectReader arrayReader;
+    private ObjectReader parallelCollectionReader;
+    private byte[] document;
+    
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = HalDocuments.createObjectMapper();
+        this.collectionReader = objectMapper.readerFor(CollectionResource.class);
+        this.arrayReader = objectMapper.readerFor(ArrayResource.class);
+        this.parallelCollectionReader = objectMapper.readerFor(ParallelCollectionResource.class);
+        this.document = HalDocuments.embeddedItems(objectMapper, this.size);
+    }
+    
+    @Benchmark
+    public CollectionResource collection() throws IOException {
+        return this.collectionReader.readValue(this.document);
+    }
+    
+    @Benchmark
+    public ArrayResource array() throws IOException {
+        return this.arrayReader.readValue(this.document);
+    }
+    
+    @Benchmark
+    public ParallelCollectionResource parallelCollection() throws IOException {
+        return this.parallelCollectionReader.readValue(this.document);
+    }
+}
@@ -0,0 +1,144 @@
+package de.fjobilabs.springframework.hateoas.hal.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.hateoas.core.DefaultRelProvider;
+import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Builds the HAL documents the benchmarks decode and the {@link ObjectMapper}
+ * they use. Documents are created once per trial, so building them is not
+ * part of the measurement.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 11:48:30
+ * @version 1.0
+ */
+public class HalDocuments {
+    
+    private HalDocuments() {
+    }
+    
+    /**
+     * Creates an {@link ObjectMapper} configured like the one Spring HATEOAS
+     * uses for HAL.
+     * 
+     * @return The object mapper.
+     */
+    public static ObjectMapper createObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new Jackson2HalModule());
+        objectMapper
+                .setHandlerInstantiator(new HalHandlerInstantiator(new DefaultRelProvider(), null, null));
+        return objectMapper;
+    }
+    
+    public static byte[] flat(ObjectMapper objectMapper) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(flatDocument(0, false));
+    }
+    
+    public static byte[] flatWithUnknownProperties(ObjectMapper objectMapper)
+            throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(flatDocument(0, true));
+    }
+    
+    public static byte[] wide(ObjectMapper objectMapper) throws JsonProcessingException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        for (int i = 1; i <= 40; i++) {
+            String name = String.format("field%02d", i);
+            switch ((i - 1) % 5) {
+                case 0:
+                    document.put(name, "value of " + name);
+                    break;
+                case 1:
+                    document.put(name, 1000L * i);
+                    break;
+                case 2:
+                    document.put(name, i);
+                    break;
+                case 3:
+                    document.put(name, i * 0.5);
+                    break;
+                default:
+                    document.put(name, i % 2 == 0);
+            }
+        }
+        document.put("_links", selfLink("/wide/1"));
+        return objectMapper.writeValueAsBytes(document);
+    }
+    
+    public static byte[] nested(ObjectMapper objectMapper, int depth)
+            throws JsonProcessingException {
+        Map<String, Object> document = null;
+        for (int level = depth; level >= 0; level--) {
+            Map<String, Object> parent = new LinkedHashMap<>();
+            parent.put("level", level);
+            parent.put("name", "level " + level);
+            if (document != null) {
+                parent.put("_embedded", Collections.singletonMap("child", document));
+            }
+            parent.put("_links", selfLink("/nested/" + level));
+            document = parent;
+        }
+        return objectMapper.writeValueAsBytes(document);
+    }
+    
+    /**
+     * Creates a document which embeds the given number of items under the
+     * {@code items} relation. Like all embedded collections, the relation
+     * contains a nested resources document.
+     */
+    public static byte[] embeddedItems(ObjectMapper objectMapper, int size)
+            throws JsonProcessingException {
+        List<Object> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(item(i));
+        }
+        Map<String, Object> collection = new LinkedHashMap<>();
+        collection.put("_embedded", Collections.singletonMap("itemResourceList", items));
+        collection.put("_links", selfLink("/items"));
+        
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("name", "items");
+        document.put("_embedded", Collections.singletonMap("items", collection));
+        document.put("_links", selfLink("/collection/1"));
+        return objectMapper.writeValueAsBytes(document);
+    }
+    
+    private static Map<String, Object> flatDocument(int id, boolean unknownProperties) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("id", id);
+        document.put("name", "resource " + id);
+        document.put("description", "A flat resource with a few properties");
+        document.put("active", true);
+        document.put("count", 42);
+        if (unknownProperties) {
+            document.put("unknownValue", "not mapped");
+            document.put("unknownObject", flatDocument(id + 1, false));
+            document.put("unknownArray", Collections.nCopies(5, "not mapped"));
+        }
+        document.put("_links", selfLink("/flat/" + id));
+        return document;
+    }
+    
+    private static Map<String, Object> item(int id) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("id", id);
+        item.put("name", "item " + id);
+        item.put("price", id * 1.25);
+        item.put("_links", selfLink("/items/" + id));
+        return item;
+    }
+    
+    private static Map<String, Object> selfLink(String href) {
+        return Collections.singletonMap("self", Collections.singletonMap("href", href));
+    }
+}
@@ -0,0 +1,95 @@
+package de.fjobilabs.springframework.hateoas.hal.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import de.fjobilabs.springframework.hateoas.hal.HalEmbeddedResourceSupport;
+
+/**
+ * Measures the server side serialization of a
+ * {@link HalEmbeddedResourceSupport}, including the assembly of the embedded
+ * content.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 12:15:27
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HalEmbeddedResourceSupportBenchmark {
+    
+    @Param({"10", "1000"})
+    public int size;
+    
+    private ObjectWriter writer;
+    private List<Item> items;
+    private Item owner;
+    
+    @Setup
+    public void setUp() {
+        this.writer = HalDocuments.createObjectMapper().writer();
+        this.items = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.items.add(new Item(i, "item " + i, i * 1.25));
+        }
+        this.owner = new Item(-1, "owner", 0);
+    }
+    
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        HalEmbeddedResourceSupport resource = new HalEmbeddedResourceSupport();
+        resource.add(new Link("/collection/1"));
+        resource.embedd(this.items, "items");
+        resource.embedd(this.owner, "owner");
+        return this.writer.writeValueAsBytes(resource);
+    }
+    
+    /**
+     * Plain server side model of an embedded object.
+     */
+    public static class Item {
+        
+        private final long id;
+        private final String name;
+        private final double price;
+        
+        public Item(long id, String name, double price) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+        }
+        
+        public long getId() {
+            return id;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public double getPrice() {
+            return price;
+        }
+    }
+}
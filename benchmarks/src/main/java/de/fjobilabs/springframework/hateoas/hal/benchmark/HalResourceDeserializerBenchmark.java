@@ -0,0 +1,95 @@
+package de.fjobilabs.springframework.hateoas.hal.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import de.fjobilabs.springframework.hateoas.hal.benchmark.model.FlatResource;
+import de.fjobilabs.springframework.hateoas.hal.benchmark.model.IgnoringFlatResource;
+import de.fjobilabs.springframework.hateoas.hal.benchmark.model.NestedResource;
+import de.fjobilabs.springframework.hateoas.hal.benchmark.model.WideResource;
+import de.fjobilabs.springframework.hateoas.hal.client.HalResourceDeserializer;
+
+/**
+ * Measures the {@link HalResourceDeserializer} on documents of different
+ * shapes.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 12:02:14
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HalResourceDeserializerBenchmark {
+    
+    @Param({"16"})
+    public int nestingDepth;
+    
+    private ObjectReader flatReader;
+    private ObjectReader ignoringFlatReader;
+    private ObjectReader wideReader;
+    private ObjectReader nestedReader;
+    
+    private byte[] flatDocument;
+    private byte[] flatDocumentWithUnknownProperties;
+    private byte[] wideDocument;
+    private byte[] nestedDocument;
+    
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = HalDocuments.createObjectMapper();
+        this.flatReader = objectMapper.readerFor(FlatResource.class);
+        this.ignoringFlatReader = objectMapper.readerFor(IgnoringFlatResource.class);
+        this.wideReader = objectMapper.readerFor(WideResource.class);
+        this.nestedReader = objectMapper.readerFor(NestedResource.class);
+        
+        this.flatDocument = HalDocuments.flat(objectMapper);
+        this.flatDocumentWithUnknownProperties = HalDocuments
+                .flatWithUnknownProperties(objectMapper);
+        this.wideDocument = HalDocuments.wide(objectMapper);
+        this.nestedDocument = HalDocuments.nested(objectMapper, this.nestingDepth);
+    }
+    
+    @Benchmark
+    public FlatResource flat() throws IOException {
+        return this.flatReader.readValue(this.flatDocument);
+    }
+    
+    @Benchmark
+    public FlatResource flatIgnoringUnknownPropertiesWithoutUnknown() throws IOException {
+        return this.ignoringFlatReader.readValue(this.flatDocument);
+    }
+    
+    @Benchmark
+    public FlatResource flatIgnoringUnknownProperties() throws IOException {
+        return this.ignoringFlatReader.readValue(this.flatDocumentWithUnknownProperties);
+    }
+    
+    @Benchmark
+    public WideResource wide() throws IOException {
+        return this.wideReader.readValue(this.wideDocument);
+    }
+    
+    @Benchmark
+    public NestedResource nested() throws IOException {
+        return this.nestedReader.readValue(this.nestedDocument);
+    }
+}
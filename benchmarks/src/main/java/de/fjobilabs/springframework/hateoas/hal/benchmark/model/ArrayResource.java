@@ -0,0 +1,34 @@
+package de.fjobilabs.springframework.hateoas.hal.benchmark.model;
+
+import de.fjobilabs.springframework.hateoas.hal.client.Embedded;
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * Resource which embeds its items as array.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 11:41:53
+ * @version 1.0
+ */
+public class ArrayResource extends HalResource {
+    
+    private String name;
+    private ItemResource[] items;
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public ItemResource[] getItems() {
+        return items;
+    }
+    
+    @Embedded(value = "items", collectionContentType = ItemResource.class)
+    public void setItems(ItemResource[] items) {
+        this.items = items;
+    }
+}
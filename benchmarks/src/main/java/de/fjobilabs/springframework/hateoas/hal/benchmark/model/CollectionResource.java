@@ -0,0 +1,36 @@
+package de.fjobilabs.springframework.hateoas.hal.benchmark.model;
+
+import java.util.Collection;
+
+import de.fjobilabs.springframework.hateoas.hal.client.Embedded;
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * Resource which embeds its items as {@link Collection}.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 11:41:07
+ * @version 1.0
+ */
+public class CollectionResource extends HalResource {
+    
+    private String name;
+    private Collection<ItemResource> items;
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public Collection<ItemResource> getItems() {
+        return items;
+    }
+    
+    @Embedded(value = "items", collectionContentType = ItemResource.class)
+    public void setItems(Collection<ItemResource> items) {
+        this.items = items;
+    }
+}
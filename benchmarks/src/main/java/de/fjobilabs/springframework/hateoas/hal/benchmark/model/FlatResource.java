@@ -0,0 +1,59 @@
+package de.fjobilabs.springframework.hateoas.hal.benchmark.model;
+
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * Resource with a few scalar properties and no embedded resources.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 11:37:44
+ * @version 1.0
+ */
+public class FlatResource extends HalResource {
+    
+    private long id;
+    private String name;
+    private String description;
+    private boolean active;
+    private int count;
+    
+    public long getId() {
+        return id;
+    }
+    
+    public void setId(long id) {
+        this.id = id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public boolean isActive() {
+        return active;
+    }
+    
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+    
+    public int getCount() {
+        return count;
+    }
+    
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,14 @@
+package de.fjobilabs.springframework.hateoas.hal.benchmark.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * {@link FlatResource} which ignores unknown properties.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 11:38:20
+ * @version 1.0
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class IgnoringFlatResource extends FlatResource {
+}
@@ -0,0 +1,41 @@
+package de.fjobilabs.springframework.hateoas.hal.benchmark.model;
+
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * Small resource which is used as embedded element.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 11:36:02
+ * @version 1.0
+ */
+public class ItemResource extends HalResource {
+    
+    private long id;
+    private String name;
+    private double price;
+    
+    public long getId() {
+        return id;
+    }
+    
+    public void setId(long id) {
+        this.id = id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public double getPrice() {
+        return price;
+    }
+    
+    public void setPrice(double price) {
+        this.price = price;
+    }
+}
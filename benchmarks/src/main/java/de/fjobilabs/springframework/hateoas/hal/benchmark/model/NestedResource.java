@@ -0,0 +1,44 @@
+package de.fjobilabs.springframework.hateoas.hal.benchmark.model;
+
+import de.fjobilabs.springframework.hateoas.hal.client.Embedded;
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * Resource which embeds a resource of its own type, to build deeply nested
+ * documents.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 11:39:51
+ * @version 1.0
+ */
+public class NestedResource extends HalResource {
+    
+    private int level;
+    private String name;
+    private NestedResource child;
+    
+    public int getLevel() {
+        return level;
+    }
+    
+    public void setLevel(int level) {
+        this.level = level;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public NestedResource getChild() {
+        return child;
+    }
+    
+    @Embedded("child")
+    public void setChild(NestedResource child) {
+        this.child = child;
+    }
+}
@@ -0,0 +1,374 @@
+package de.fjobilabs.springframework.hateoas.hal.benchmark.model;
+
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * Resource with 40 scalar properties.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 11:43:12
+ * @version 1.0
+ */
+public class WideResource extends HalResource {
+    
+    private String field01;
+    private long field02;
+    private int field03;
+    private double field04;
+    private boolean field05;
+    private String field06;
+    private long field07;
+    private int field08;
+    private double field09;
+    private boolean field10;
+    private String field11;
+    private long field12;
+    private int field13;
+    private double field14;
+    private boolean field15;
+    private String field16;
+    private long field17;
+    private int field18;
+    private double field19;
+    private boolean field20;
+    private String field21;
+    private long field22;
+    private int field23;
+    private double field24;
+    private boolean field25;
+    private String field26;
+    private long field27;
+    private int field28;
+    private double field29;
+    private boolean field30;
+    private String field31;
+    private long field32;
+    private int field33;
+    private double field34;
+    private boolean field35;
+    private String field36;
+    private long field37;
+    private int field38;
+    private double field39;
+    private boolean field40;
+    
+    public String getField01() {
+        return field01;
+    }
+    
+    public void setField01(String field01) {
+        this.field01 = field01;
+    }
+    
+    public long getField02() {
+        return field02;
+    }
+    
+    public void setField02(long field02) {
+        this.field02 = field02;
+    }
+    
+    public int getField03() {
+        return field03;
+    }
+    
+    public void setField03(int field03) {
+        this.field03 = field03;
+    }
+    
+    public double getField04() {
+        return field04;
+    }
+    
+    public void setField04(double field04) {
+        this.field04 = field04;
+    }
+    
+    public boolean isField05() {
+        return field05;
+    }
+    
+    public void setField05(boolean field05) {
+        this.field05 = field05;
+    }
+    
+    public String getField06() {
+        return field06;
+    }
+    
+    public void setField06(String field06) {
+        this.field06 = field06;
+    }
+    
+    public long getField07() {
+        return field07;
+    }
+    
+    public void setField07(long field07) {
+        this.field07 = field07;
+    }
+    
+    public int getField08() {
+        return field08;
+    }
+    
+    public void setField08(int field08) {
+        this.field08 = field08;
+    }
+    
+    public double getField09() {
+        return field09;
+    }
+    
+    public void setField09(double field09) {
+        this.field09 = field09;
+    }
+    
+    public boolean isField10() {
+        return field10;
+    }
+    
+    public void setField10(boolean field10) {
+        this.field10 = field10;
+    }
+    
+    public String getField11() {
+        return field11;
+    }
+    
+    public void setField11(String field11) {
+        this.field11 = field11;
+    }
+    
+    public long getField12() {
+        return field12;
+    }
+    
+    public void setField12(long field12) {
+        this.field12 = field12;
+    }
+    
+    public int getField13() {
+        return field13;
+    }
+    
+    public void setField13(int field13) {
+        this.field13 = field13;
+    }
+    
+    public double getField14() {
+        return field14;
+    }
+    
+    public void setField14(double field14) {
+        this.field14 = field14;
+    }
+    
+    public boolean isField15() {
+        return field15;
+    }
+    
+    public void setField15(boolean field15) {
+        this.field15 = field15;
+    }
+    
+    public String getField16() {
+        return field16;
+    }
+    
+    public void setField16(String field16) {
+        this.field16 = field16;
+    }
+    
+    public long getField17() {
+        return field17;
+    }
+    
+    public void setField17(long field17) {
+        this.field17 = field17;
+    }
+    
+    public int getField18() {
+        return field18;
+    }
+    
+    public void setField18(int field18) {
+        this.field18 = field18;
+    }
+    
+    public double getField19() {
+        return field19;
+    }
+    
+    public void setField19(double field19) {
+        this.field19 = field19;
+    }
+    
+    public boolean isField20() {
+        return field20;
+    }
+    
+    public void setField20(boolean field20) {
+        this.field20 = field20;
+    }
+    
+    public String getField21() {
+        return field21;
+    }
+    
+    public void setField21(String field21) {
+        this.field21 = field21;
+    }
+    
+    public long getField22() {
+        return field22;
+    }
+    
+    public void setField22(long field22) {
+        this.field22 = field22;
+    }
+    
+    public int getField23() {
+        return field23;
+    }
+    
+    public void setField23(int field23) {
+        this.field23 = field23;
+    }
+    
+    public double getField24() {
+        return field24;
+    }
+    
+    public void setField24(double field24) {
+        this.field24 = field24;
+    }
+    
+    public boolean isField25() {
+        return field25;
+    }
+    
+    public void setField25(boolean field25) {
+        this.field25 = field25;
+    }
+    
+    public String getField26() {
+        return field26;
+    }
+    
+    public void setField26(String field26) {
+        this.field26 = field26;
+    }
+    
+    public long getField27() {
+        return field27;
+    }
+    
+    public void setField27(long field27) {
+        this.field27 = field27;
+    }
+    
+    public int getField28() {
+        return field28;
+    }
+    
+    public void setField28(int field28) {
+        this.field28 = field28;
+    }
+    
+    public double getField29() {
+        return field29;
+    }
+    
+    public void setField29(double field29) {
+        this.field29 = field29;
+    }
+    
+    public boolean isField30() {
+        return field30;
+    }
+    
+    public void setField30(boolean field30) {
+        this.field30 = field30;
+    }
+    
+    public String getField31() {
+        return field31;
+    }
+    
+    public void setField31(String field31) {
+        this.field31 = field31;
+    }
+    
+    public long getField32() {
+        return field32;
+    }
+    
+    public void setField32(long field32) {
+        this.field32 = field32;
+    }
+    
+    public int getField33() {
+        return field33;
+    }
+    
+    public void setField33(int field33) {
+        this.field33 = field33;
+    }
+    
+    public double getField34() {
+        return field34;
+    }
+    
+    public void setField34(double field34) {
+        this.field34 = field34;
+    }
+    
+    public boolean isField35() {
+        return field35;
+    }
+    
+    public void setField35(boolean field35) {
+        this.field35 = field35;
+    }
+    
+    public String getField36() {
+        return field36;
+    }
+    
+    public void setField36(String field36) {
+        this.field36 = field36;
+    }
+    
+    public long getField37() {
+        return field37;
+    }
+    
+    public void setField37(long field37) {
+        this.field37 = field37;
+    }
+    
+    public int getField38() {
+        return field38;
+    }
+    
+    public void setField38(int field38) {
+        this.field38 = field38;
+    }
+    
+    public double getField39() {
+        return field39;
+    }
+    
+    public void setField39(double field39) {
+        this.field39 = field39;
+    }
+    
+    public boolean isField40() {
+        return field40;
+    }
+    
+    public void setField40(boolean field40) {
+        this.field40 = field40;
+    }
+}
@@ -0,0 +1,490 @@
+package de.fjobilabs.springframework.hateoas.hal.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a {@code GeneratedHalResourceMetadata} class for every concrete
+ * {@code HalResource} subclass of the compiled sources.<br>
+ * The generated class holds the property writers and embedded resource
+ * descriptors the {@code HalResourceMetadataRegistry} would otherwise find by
+ * reflection. Its writers call the setters directly, so no reflection or
+ * method handle is involved when a property is written. The introspection
+ * follows the rules of {@code PropertyUtils} and {@code EmbeddedProperyUtils}.
+ * <br>
+ * Classes which can't be referenced from generated code, e.g. private nested
+ * classes, are skipped and introspected at runtime as before.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 17:48:02
+ * @version 1.0
+ */
+@SupportedAnnotationTypes("*")
+public class HalResourceMetadataProcessor extends AbstractProcessor {
+    
+    private static final String CLIENT_PACKAGE = "de.fjobilabs.springframework.hateoas.hal.client";
+    private static final String HAL_RESOURCE = CLIENT_PACKAGE + ".HalResource";
+    private static final String EMBEDDED = CLIENT_PACKAGE + ".Embedded";
+    private static final String DEFAULT_COLLECTION_CONTENT_TYPE = EMBEDDED
+            + ".DefaultCollectionContentType";
+    private static final String LAZY_EMBEDDED = CLIENT_PACKAGE + ".LazyEmbedded";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JSON_IGNORE_PROPERTIES = "com.fasterxml.jackson.annotation.JsonIgnoreProperties";
+    private static final String CLASS_NAME_SUFFIX = "_HalMetadata";
+    
+    private Elements elements;
+    private Types types;
+    
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+    
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        TypeElement halResource = this.elements.getTypeElement(HAL_RESOURCE);
+        if (halResource == null) {
+            // The library is not on the class path
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            processElement(element, halResource);
+        }
+        // Other processors may still handle the annotations
+        return false;
+    }
+    
+    private void processElement(Element element, TypeElement halResource) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        if (isResourceClass(type, halResource)) {
+            ResourceModel model = createModel(type);
+            if (model != null) {
+                writeSource(model);
+            }
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            processElement(enclosed, halResource);
+        }
+    }
+    
+    private boolean isResourceClass(TypeElement type, TypeElement halResource) {
+        if (type.getKind() != ElementKind.CLASS || type.equals(halResource)
+                || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        if (!this.types.isSubtype(this.types.erasure(type.asType()),
+                this.types.erasure(halResource.asType()))) {
+            return false;
+        }
+        // The generated class must be able to reference and instantiate the class
+        for (Element current = type; current instanceof TypeElement; current = current
+                .getEnclosingElement()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (((TypeElement) current).getNestingKind() == NestingKind.MEMBER
+                    && current.getKind() == ElementKind.CLASS
+                    && !modifiers.contains(Modifier.STATIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private ResourceModel createModel(TypeElement type) {
+        ResourceModel model = new ResourceModel(type, getPackageName(type),
+                getSimpleBinaryName(type) + CLASS_NAME_SUFFIX, typeName(type.asType()));
+        model.instantiable = hasAccessibleDefaultConstructor(type);
+        model.ignoreUnknownProperties = isIgnoreUnknownProperties(type);
+        for (BeanProperty property : findBeanProperties(type).values()) {
+            if (property.getter != null && HAL_RESOURCE.equals(
+                    ((TypeElement) property.getter.getEnclosingElement()).getQualifiedName()
+                            .toString())) {
+                continue;
+            }
+            model.properties.add(property);
+            AnnotationMirror embedded = getAnnotation(property.getter, EMBEDDED);
+            if (embedded == null) {
+                embedded = getAnnotation(property.setter, EMBEDDED);
+            }
+            if (embedded != null) {
+                EmbeddedModel embeddedModel = createEmbeddedModel(type, property, embedded);
+                if (embeddedModel == null) {
+                    return null;
+                }
+                model.embeddeds.add(embeddedModel);
+            }
+        }
+        return model;
+    }
+    
+    private EmbeddedModel createEmbeddedModel(TypeElement type, BeanProperty property,
+            AnnotationMirror annotation) {
+        EmbeddedModel model = new EmbeddedModel(property);
+        model.relationName = (String) getAnnotationValue(annotation, "value");
+        model.parallel = (Boolean) getAnnotationValue(annotation, "parallel");
+        TypeMirror contentType = (TypeMirror) getAnnotationValue(annotation,
+                "collectionContentType");
+        model.type = property.getType();
+        model.lazy = property.setter != null
+                && LAZY_EMBEDDED.equals(typeName(this.types.erasure(property.setterType)));
+        if (model.lazy) {
+            model.type = getTypeArgument(property.setterType);
+            if (model.type == null) {
+                processingEnv.getMessager().printMessage(Kind.WARNING,
+                        "Can't resolve the embedded type of lazy property '" + property.name
+                                + "', the metadata is created at runtime",
+                        type);
+                return null;
+            }
+        }
+        String typeName = typeName(this.types.erasure(model.type));
+        model.elementStream = "java.util.Iterator".equals(typeName)
+                || "java.util.stream.Stream".equals(typeName);
+        model.consumer = "java.util.function.Consumer".equals(typeName);
+        if ((model.elementStream || model.consumer)
+                && DEFAULT_COLLECTION_CONTENT_TYPE.equals(typeName(contentType))) {
+            TypeMirror elementType = getTypeArgument(
+                    property.setter != null ? property.setterType : property.getterType);
+            if (elementType != null) {
+                contentType = elementType;
+            }
+        }
+        model.collectionContentType = contentType;
+        return model;
+    }
+    
+    /**
+     * Finds the JavaBeans properties of the type, like the
+     * {@link java.beans.Introspector} does for public methods.
+     */
+    private Map<String, BeanProperty> findBeanProperties(TypeElement type) {
+        DeclaredType declaredType = (DeclaredType) type.asType();
+        Map<String, BeanProperty> properties = new LinkedHashMap<>();
+        Map<String, List<ExecutableElement>> setters = new LinkedHashMap<>();
+        for (Element member : this.elements.getAllMembers(type)) {
+            if (member.getKind() != ElementKind.METHOD
+                    || !member.getModifiers().contains(Modifier.PUBLIC)
+                    || member.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) member;
+            String name = method.getSimpleName().toString();
+            ExecutableType methodType = (ExecutableType) this.types.asMemberOf(declaredType,
+                    method);
+            int parameterCount = method.getParameters().size();
+            TypeKind returnKind = methodType.getReturnType().getKind();
+            if (parameterCount == 0 && name.startsWith("get") && name.length() > 3
+                    && returnKind != TypeKind.VOID) {
+                BeanProperty property = getProperty(properties, decapitalize(name.substring(3)));
+                // A boolean "is" getter is preferred
+                if (property.getter == null) {
+                    property.getter = method;
+                    property.getterType = methodType.getReturnType();
+                }
+            } else if (parameterCount == 0 && name.startsWith("is") && name.length() > 2
+                    && returnKind == TypeKind.BOOLEAN) {
+                BeanProperty property = getProperty(properties, decapitalize(name.substring(2)));
+                property.getter = method;
+                property.getterType = methodType.getReturnType();
+            } else if (parameterCount == 1 && name.startsWith("set") && name.length() > 3) {
+                String propertyName = decapitalize(name.substring(3));
+                getProperty(properties, propertyName);
+                setters.computeIfAbsent(propertyName, key -> new ArrayList<>()).add(method);
+            }
+        }
+        for (BeanProperty property : properties.values()) {
+            selectSetter(declaredType, property, setters.get(property.name));
+            property.jsonName = getJsonName(property);
+        }
+        return properties;
+    }
+    
+    /**
+     * Selects the setter matching the type of the getter if it is overloaded.
+     */
+    private void selectSetter(DeclaredType declaredType, BeanProperty property,
+            List<ExecutableElement> candidates) {
+        if (candidates == null) {
+            return;
+        }
+        for (ExecutableElement candidate : candidates) {
+            TypeMirror parameterType = ((ExecutableType) this.types.asMemberOf(declaredType,
+                    candidate)).getParameterTypes().get(0);
+            boolean matchesGetter = property.getter != null && this.types
+                    .isSameType(this.types.erasure(parameterType),
+                            this.types.erasure(property.getterType));
+            if (property.setter == null || matchesGetter) {
+                property.setter = candidate;
+                property.setterType = parameterType;
+            }
+            if (matchesGetter) {
+                return;
+            }
+        }
+    }
+    
+    private String getJsonName(BeanProperty property) {
+        for (ExecutableElement method : new ExecutableElement[] {property.getter,
+                property.setter}) {
+            AnnotationMirror annotation = getAnnotation(method, JSON_PROPERTY);
+            if (annotation != null) {
+                String value = (String) getAnnotationValue(annotation, "value");
+                if (!value.isEmpty()) {
+                    return value;
+                }
+            }
+        }
+        return property.name;
+    }
+    
+    private boolean isIgnoreUnknownProperties(TypeElement type) {
+        AnnotationMirror annotation = findTypeAnnotation(type.asType(), JSON_IGNORE_PROPERTIES);
+        return annotation != null && (Boolean) getAnnotationValue(annotation, "ignoreUnknown");
+    }
+    
+    /**
+     * Searches the annotation on the type, its superclasses and interfaces.
+     */
+    private AnnotationMirror findTypeAnnotation(TypeMirror type, String annotationName) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        AnnotationMirror annotation = getAnnotation(element, annotationName);
+        if (annotation != null) {
+            return annotation;
+        }
+        for (TypeMirror supertype : this.types.directSupertypes(type)) {
+            annotation = findTypeAnnotation(supertype, annotationName);
+            if (annotation != null) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+    
+    private boolean hasAccessibleDefaultConstructor(TypeElement type) {
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.CONSTRUCTOR
+                    && ((ExecutableElement) member).getParameters().isEmpty()) {
+                return !member.getModifiers().contains(Modifier.PRIVATE);
+            }
+        }
+        return false;
+    }
+    
+    private void writeSource(ResourceModel model) {
+        String qualifiedName = model.packageName.isEmpty() ? model.className
+                : model.packageName + "." + model.className;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName,
+                    model.type);
+            try (PrintWriter writer = new PrintWriter(file.openWriter())) {
+                new MetadataSourceWriter(writer, this).write(model);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR,
+                    "Failed to write HAL metadata " + qualifiedName + ": " + e, model.type);
+        }
+    }
+    
+    private TypeMirror getTypeArgument(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        if (arguments.isEmpty()) {
+            return null;
+        }
+        TypeMirror argument = arguments.get(0);
+        if (argument.getKind() == TypeKind.WILDCARD) {
+            argument = ((WildcardType) argument).getExtendsBound();
+        }
+        if (argument == null || argument.getKind() == TypeKind.TYPEVAR) {
+            return null;
+        }
+        return argument;
+    }
+    
+    private AnnotationMirror getAnnotation(Element element, String annotationName) {
+        if (element == null) {
+            return null;
+        }
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (annotationName.equals(typeName(annotation.getAnnotationType()))) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+    
+    private Object getAnnotationValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : this.elements
+                .getElementValuesWithDefaults(annotation).entrySet()) {
+            if (value.getKey().getSimpleName().contentEquals(name)) {
+                return value.getValue().getValue();
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Returns the source code name of the erased type.
+     */
+    String typeName(TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName()
+                        .toString();
+            case ARRAY:
+                return typeName(((ArrayType) type).getComponentType()) + "[]";
+            case TYPEVAR:
+                return typeName(this.types.erasure(type));
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return type.getKind().name().toLowerCase();
+            default:
+                return "java.lang.Object";
+        }
+    }
+    
+    /**
+     * Returns the type to cast an {@link Object} to, before it can be passed
+     * as a value of the given type.
+     */
+    String castTypeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return this.types.boxedClass(this.types.getPrimitiveType(type.getKind()))
+                    .getQualifiedName().toString();
+        }
+        return typeName(type);
+    }
+    
+    private String getPackageName(TypeElement type) {
+        PackageElement packageElement = this.elements.getPackageOf(type);
+        return packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    }
+    
+    /**
+     * Returns the binary name without the package, e.g. {@code Outer$Inner}.
+     */
+    private String getSimpleBinaryName(TypeElement type) {
+        String binaryName = this.elements.getBinaryName(type).toString();
+        int lastDot = binaryName.lastIndexOf('.');
+        return lastDot < 0 ? binaryName : binaryName.substring(lastDot + 1);
+    }
+    
+    private BeanProperty getProperty(Map<String, BeanProperty> properties, String name) {
+        return properties.computeIfAbsent(name, BeanProperty::new);
+    }
+    
+    /**
+     * Same as {@link java.beans.Introspector#decapitalize(String)}.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1))
+                && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+    
+    static class ResourceModel {
+        
+        final TypeElement type;
+        final String packageName;
+        final String className;
+        final String targetClassName;
+        final List<BeanProperty> properties = new ArrayList<>();
+        final List<EmbeddedModel> embeddeds = new ArrayList<>();
+        boolean instantiable;
+        boolean ignoreUnknownProperties;
+        
+        ResourceModel(TypeElement type, String packageName, String className,
+                String targetClassName) {
+            this.type = type;
+            this.packageName = packageName;
+            this.className = className;
+            this.targetClassName = targetClassName;
+        }
+    }
+    
+    static class BeanProperty {
+        
+        final String name;
+        String jsonName;
+        ExecutableElement getter;
+        TypeMirror getterType;
+        ExecutableElement setter;
+        TypeMirror setterType;
+        
+        BeanProperty(String name) {
+            this.name = name;
+        }
+        
+        /**
+         * The type of the getter, like {@link java.beans.PropertyDescriptor}.
+         */
+        TypeMirror getType() {
+            return getter != null ? getterType : setterType;
+        }
+    }
+    
+    static class EmbeddedModel {
+        
+        final BeanProperty property;
+        String relationName;
+        TypeMirror type;
+        TypeMirror collectionContentType;
+        boolean lazy;
+        boolean parallel;
+        boolean elementStream;
+        boolean consumer;
+        
+        EmbeddedModel(BeanProperty property) {
+            this.property = property;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package de.fjobilabs.springframework.hateoas.hal.processor;
+
+import java.io.PrintWriter;
+
+import de.fjobilabs.springframework.hateoas.hal.processor.HalResourceMetadataProcessor.BeanProperty;
+import de.fjobilabs.springframework.hateoas.hal.processor.HalResourceMetadataProcessor.EmbeddedModel;
+import de.fjobilabs.springframework.hateoas.hal.processor.HalResourceMetadataProcessor.ResourceModel;
+
+/**
+ * Writes the source code of a generated metadata class.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 18:21:45
+ * @version 1.0
+ */
+class MetadataSourceWriter {
+    
+    private static final String CLIENT_PACKAGE = "de.fjobilabs.springframework.hateoas.hal.client";
+    private static final String PROPERTY_WRITER = CLIENT_PACKAGE + ".PropertyUtils.PropertyWriter";
+    private static final String EMBEDDED_DESCRIPTOR = CLIENT_PACKAGE
+            + ".EmbeddedProperyUtils.EmbeddedResourcePropertyDescriptor";
+    
+    private final PrintWriter writer;
+    private final HalResourceMetadataProcessor processor;
+    
+    MetadataSourceWriter(PrintWriter writer, HalResourceMetadataProcessor processor) {
+        this.writer = writer;
+        this.processor = processor;
+    }
+    
+    public void write(ResourceModel model) {
+        if (!model.packageName.isEmpty()) {
+            writer.println("package " + model.packageName + ";");
+            writer.println();
+        }
+        writer.println("/**");
+        writer.println(" * HAL metadata of {@link " + model.targetClassName + "}.");
+        writer.println(" * Generated by " + HalResourceMetadataProcessor.class.getName()
+                + ", do not edit.");
+        writer.println(" */");
+        writer.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+        writer.println("public final class " + model.className + " implements " + CLIENT_PACKAGE
+                + ".GeneratedHalResourceMetadata {");
+        writer.println();
+        writeTargetClass(model);
+        writeCreateInstance(model);
+        writePropertyWriters(model);
+        writeEmbeddedResourcePropertyDescriptors(model);
+        writeIgnoreUnknownProperties(model);
+        writer.println("}");
+    }
+    
+    private void writeTargetClass(ResourceModel model) {
+        writer.println("    @Override");
+        writer.println("    public Class<?> getTargetClass() {");
+        writer.println("        return " + model.targetClassName + ".class;");
+        writer.println("    }");
+        writer.println();
+    }
+    
+    private void writeCreateInstance(ResourceModel model) {
+        writer.println("    @Override");
+        writer.println("    public Object createInstance() {");
+        if (model.instantiable) {
+            writer.println("        return new " + model.targetClassName + "();");
+        } else {
+            // Fails with the same exception as the reflective metadata
+            writer.println("        return org.springframework.beans.BeanUtils.instantiateClass("
+                    + model.targetClassName + ".class);");
+        }
+        writer.println("    }");
+        writer.println();
+    }
+    
+    private void writePropertyWriters(ResourceModel model) {
+        writer.println("    @Override");
+        writer.println("    public java.util.Map<String, " + PROPERTY_WRITER
+                + "> createPropertyWriters() {");
+        writer.println("        java.util.Map<String, " + PROPERTY_WRITER
+                + "> writers = new java.util.LinkedHashMap<>();");
+        for (BeanProperty property : model.properties) {
+            writer.println("        writers.put(" + literal(property.jsonName) + ", new "
+                    + PROPERTY_WRITER + "(" + literal(property.name) + ", "
+                    + classLiteral(property) + ", null, " + accessor(model, property) + "));");
+        }
+        writer.println("        return writers;");
+        writer.println("    }");
+        writer.println();
+    }
+    
+    private void writeEmbeddedResourcePropertyDescriptors(ResourceModel model) {
+        writer.println("    @Override");
+        writer.println("    public java.util.Map<String, " + EMBEDDED_DESCRIPTOR
+                + "> createEmbeddedResourcePropertyDescriptors() {");
+        writer.println("        java.util.Map<String, " + EMBEDDED_DESCRIPTOR
+                + "> descriptors = new java.util.HashMap<>();");
+        for (EmbeddedModel embedded : model.embeddeds) {
+            BeanProperty property = embedded.property;
+            // The read method is only used to get the consumer of a property
+            String readMethod = "null";
+            if (embedded.consumer && property.getter != null) {
+                readMethod = "org.springframework.util.ReflectionUtils.findMethod("
+                        + model.targetClassName + ".class, "
+                        + literal(property.getter.getSimpleName().toString()) + ")";
+            }
+            writer.println("        descriptors.put(" + literal(embedded.relationName) + ", new "
+                    + EMBEDDED_DESCRIPTOR + "(null, " + readMethod + ", "
+                    + literal(embedded.relationName) + ", "
+                    + processor.typeName(embedded.type) + ".class, "
+                    + processor.typeName(embedded.collectionContentType) + ".class, "
+                    + accessor(model, property) + ", " + embedded.lazy + ", " + embedded.parallel
+                    + "));");
+        }
+        writer.println("        return descriptors;");
+        writer.println("    }");
+        writer.println();
+    }
+    
+    private void writeIgnoreUnknownProperties(ResourceModel model) {
+        writer.println("    @Override");
+        writer.println("    public boolean isIgnoreUnknownProperties() {");
+        writer.println("        return " + model.ignoreUnknownProperties + ";");
+        writer.println("    }");
+    }
+    
+    private String accessor(ResourceModel model, BeanProperty property) {
+        if (property.setter == null) {
+            return "null";
+        }
+        return "(instance, value) -> ((" + model.targetClassName + ") instance)."
+                + property.setter.getSimpleName() + "(("
+                + processor.castTypeName(property.setterType) + ") value)";
+    }
+    
+    private String classLiteral(BeanProperty property) {
+        return processor.typeName(property.getType()) + ".class";
+    }
+    
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
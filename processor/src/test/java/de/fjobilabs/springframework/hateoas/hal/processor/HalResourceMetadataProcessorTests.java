@@ -0,0 +1,217 @@
+package de.fjobilabs.springframework.hateoas.hal.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fjobilabs.springframework.hateoas.hal.client.EmbeddedProperyUtils.EmbeddedResourcePropertyDescriptor;
+import de.fjobilabs.springframework.hateoas.hal.client.HalResourceMetadata;
+import de.fjobilabs.springframework.hateoas.hal.client.HalResourceMetadataRegistry;
+import de.fjobilabs.springframework.hateoas.hal.client.PropertyUtils.PropertyWriter;
+
+/**
+ * Compiles the resource classes in {@code src/test/resources/fixtures} with
+ * the processor and compares the generated metadata with the metadata
+ * introspected by reflection.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:59:52
+ * @version 1.0
+ */
+public class HalResourceMetadataProcessorTests {
+    
+    private static final List<String> FIXTURES = Arrays.asList("AuditedResource", "Order");
+    
+    private static final String ORDER_JSON = "{\"number\":7,\"customer_name\":\"Jane\","
+            + "\"amount\":1250,\"paid\":true,\"modifiedBy\":\"admin\",\"unknown\":{\"a\":1},"
+            + "\"_links\":{\"self\":{\"href\":\"/orders/7\"}},\"_embedded\":{"
+            + "\"items\":[{\"number\":1},{\"number\":2}],\"related\":[{\"number\":3}],"
+            + "\"history\":[{\"number\":4},{\"number\":5}],\"notes\":[{\"number\":6}],"
+            + "\"customer\":{\"number\":8}}}";
+    
+    @ClassRule
+    public static final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private static List<String> generatedSources;
+    private static ClassLoader classLoader;
+    
+    @BeforeClass
+    public static void compileFixtures() throws Exception {
+        File sourceDirectory = temporaryFolder.newFolder("sources");
+        File classDirectory = temporaryFolder.newFolder("classes");
+        List<File> sources = new ArrayList<>();
+        for (String fixture : FIXTURES) {
+            sources.add(copyFixture(fixture, sourceDirectory.toPath()));
+        }
+        
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics,
+                null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList("-classpath",
+                    System.getProperty("java.class.path"), "-d", classDirectory.getPath(),
+                    "-s", classDirectory.getPath());
+            CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options,
+                    null, fileManager.getJavaFileObjectsFromFiles(sources));
+            task.setProcessors(Collections.singletonList(new HalResourceMetadataProcessor()));
+            boolean success = task.call();
+            assertThat(success).as("Compilation failed: %s", diagnostics.getDiagnostics())
+                    .isTrue();
+        }
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            assertThat(diagnostic.getKind()).as(diagnostic.toString())
+                    .isNotEqualTo(Diagnostic.Kind.WARNING);
+        }
+        
+        generatedSources = new ArrayList<>();
+        try (Stream<Path> files = Files
+                .list(classDirectory.toPath().resolve("fixtures"))) {
+            files.map(file -> file.getFileName().toString()).filter(name -> name.endsWith(".java"))
+                    .forEach(generatedSources::add);
+        }
+        classLoader = new URLClassLoader(new URL[] {classDirectory.toURI().toURL()},
+                HalResourceMetadataProcessorTests.class.getClassLoader());
+    }
+    
+    @After
+    public void enableGeneratedMetadata() {
+        HalResourceMetadataRegistry.setGeneratedMetadataEnabled(true);
+    }
+    
+    @Test
+    public void generatesMetadataForConcreteAccessibleResources() throws Exception {
+        assertThat(generatedSources).containsOnly("Order_HalMetadata.java",
+                "Order$Item_HalMetadata.java");
+        assertThat(getMetadata("fixtures.Order").isGenerated()).isTrue();
+        assertThat(getMetadata("fixtures.Order$Item").isGenerated()).isTrue();
+    }
+    
+    @Test
+    public void generatesSameMetadataAsReflection() throws Exception {
+        for (String className : Arrays.asList("fixtures.Order", "fixtures.Order$Item")) {
+            HalResourceMetadata generated = getMetadata(className);
+            HalResourceMetadataRegistry.setGeneratedMetadataEnabled(false);
+            HalResourceMetadata reflective = getMetadata(className);
+            HalResourceMetadataRegistry.setGeneratedMetadataEnabled(true);
+            
+            assertThat(reflective.isGenerated()).isFalse();
+            assertThat(describeWriters(generated)).as(className)
+                    .isEqualTo(describeWriters(reflective));
+            assertThat(describeDescriptors(generated)).as(className)
+                    .isEqualTo(describeDescriptors(reflective));
+            assertThat(generated.isIgnoreUnknownProperties()).as(className)
+                    .isEqualTo(reflective.isIgnoreUnknownProperties());
+        }
+    }
+    
+    @Test
+    public void usesJsonPropertyNames() throws Exception {
+        assertThat(getMetadata("fixtures.Order").getPropertyWriters())
+                .containsKey("customer_name").doesNotContainKey("customerName");
+    }
+    
+    @Test
+    public void selectsSetterMatchingGetterType() throws Exception {
+        PropertyWriter writer = getMetadata("fixtures.Order").getPropertyWriters().get("amount");
+        
+        assertThat(writer.getType()).isEqualTo(long.class);
+    }
+    
+    @Test
+    public void readsIgnoreUnknownProperties() throws Exception {
+        assertThat(getMetadata("fixtures.Order").isIgnoreUnknownProperties()).isTrue();
+        assertThat(getMetadata("fixtures.Order$Item").isIgnoreUnknownProperties()).isFalse();
+    }
+    
+    @Test
+    public void decodesSameResultAsReflection() throws Exception {
+        String generated = decodeOrder();
+        HalResourceMetadataRegistry.setGeneratedMetadataEnabled(false);
+        String reflective = decodeOrder();
+        
+        assertThat(generated).isEqualTo("number=7, customerName=Jane, amount=1250, paid=true, "
+                + "modifiedBy=admin, items=[Item 1, Item 2], related=[Item 3], "
+                + "history=[Item 4, Item 5], notes=[Item 6], customer=Item 8");
+        assertThat(reflective).isEqualTo(generated);
+    }
+    
+    private static String decodeOrder() throws Exception {
+        Class<?> orderClass = classLoader.loadClass("fixtures.Order");
+        Object order = new ObjectMapper().readValue(ORDER_JSON, orderClass);
+        Method describe = orderClass.getMethod("describe");
+        return (String) describe.invoke(order);
+    }
+    
+    private static HalResourceMetadata getMetadata(String className) throws Exception {
+        return HalResourceMetadataRegistry.getMetadata(classLoader.loadClass(className));
+    }
+    
+    private static Map<String, String> describeWriters(HalResourceMetadata metadata) {
+        Map<String, String> writers = new TreeMap<>();
+        for (Entry<String, PropertyWriter> entry : metadata.getPropertyWriters().entrySet()) {
+            PropertyWriter writer = entry.getValue();
+            writers.put(entry.getKey(), writer.getName() + ": " + writer.getType().getName());
+        }
+        return writers;
+    }
+    
+    private static Map<String, String> describeDescriptors(HalResourceMetadata metadata) {
+        Map<String, String> descriptors = new TreeMap<>();
+        for (Entry<String, EmbeddedResourcePropertyDescriptor> entry : metadata
+                .getEmbeddedResourcePropertyDescriptors().entrySet()) {
+            EmbeddedResourcePropertyDescriptor descriptor = entry.getValue();
+            // The generated metadata only has the read methods of consumers
+            boolean consumer = Consumer.class.equals(descriptor.getType());
+            descriptors.put(entry.getKey(), descriptor.getRelationName() + ": "
+                    + descriptor.getType().getName() + "<"
+                    + descriptor.getCollectionContentType().getName() + ">, lazy="
+                    + descriptor.isLazy() + ", parallel=" + descriptor.isParallel()
+                    + ", writable=" + (descriptor.getWriteAccessor() != null) + ", readable="
+                    + (consumer && descriptor.getReadMethod() != null));
+        }
+        return descriptors;
+    }
+    
+    private static File copyFixture(String name, Path sourceDirectory) throws IOException {
+        Path target = sourceDirectory.resolve("fixtures").resolve(name + ".java");
+        Files.createDirectories(target.getParent());
+        try (InputStream input = HalResourceMetadataProcessorTests.class
+                .getResourceAsStream("/fixtures/" + name + ".java")) {
+            Files.copy(input, target);
+        }
+        return target.toFile();
+    }
+}
@@ -0,0 +1,16 @@
+package fixtures;
+
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+public abstract class AuditedResource<T> extends HalResource {
+    
+    private T modifiedBy;
+    
+    public T getModifiedBy() {
+        return modifiedBy;
+    }
+    
+    public void setModifiedBy(T modifiedBy) {
+        this.modifiedBy = modifiedBy;
+    }
+}
@@ -0,0 +1,139 @@
+package fixtures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import de.fjobilabs.springframework.hateoas.hal.client.Embedded;
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+import de.fjobilabs.springframework.hateoas.hal.client.LazyEmbedded;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Order extends AuditedResource<String> {
+    
+    private int number;
+    private String customerName;
+    private long amount;
+    private boolean paid;
+    private LazyEmbedded<List<Item>> items;
+    private Item[] related;
+    private Stream<Item> history;
+    private final List<Item> notes = new ArrayList<>();
+    private Item customer;
+    
+    public int getNumber() {
+        return number;
+    }
+    
+    public void setNumber(int number) {
+        this.number = number;
+    }
+    
+    @JsonProperty("customer_name")
+    public String getCustomerName() {
+        return customerName;
+    }
+    
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+    
+    public long getAmount() {
+        return amount;
+    }
+    
+    public void setAmount(String amount) {
+        this.amount = Long.parseLong(amount) * 100;
+    }
+    
+    public void setAmount(long amount) {
+        this.amount = amount;
+    }
+    
+    public boolean isPaid() {
+        return paid;
+    }
+    
+    public void setPaid(boolean paid) {
+        this.paid = paid;
+    }
+    
+    public List<Item> getItems() {
+        return items == null ? null : items.get();
+    }
+    
+    @Embedded(value = "items", collectionContentType = Item.class)
+    public void setItems(LazyEmbedded<List<Item>> items) {
+        this.items = items;
+    }
+    
+    public Item[] getRelated() {
+        return related;
+    }
+    
+    @Embedded(value = "related", collectionContentType = Item.class)
+    public void setRelated(Item[] related) {
+        this.related = related;
+    }
+    
+    public Stream<Item> getHistory() {
+        return history;
+    }
+    
+    @Embedded("history")
+    public void setHistory(Stream<Item> history) {
+        this.history = history;
+    }
+    
+    @Embedded("notes")
+    public Consumer<Item> getNotes() {
+        return notes::add;
+    }
+    
+    public Item getCustomer() {
+        return customer;
+    }
+    
+    @Embedded("customer")
+    public void setCustomer(Item customer) {
+        this.customer = customer;
+    }
+    
+    /**
+     * Describes all values, the streamed history can only be described once.
+     */
+    public String describe() {
+        return "number=" + number + ", customerName=" + customerName + ", amount=" + amount
+                + ", paid=" + paid + ", modifiedBy=" + getModifiedBy() + ", items="
+                + getItems() + ", related=" + Arrays.toString(related) + ", history="
+                + (history == null ? null : history.collect(Collectors.toList())) + ", notes="
+                + notes + ", customer=" + customer;
+    }
+    
+    public static class Item extends HalResource {
+        
+        private int number;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+        
+        @Override
+        public String toString() {
+            return "Item " + number;
+        }
+    }
+    
+    private static class Hidden extends HalResource {
+    }
+}
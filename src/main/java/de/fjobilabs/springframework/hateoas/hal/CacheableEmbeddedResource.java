@@ -0,0 +1,30 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+/**
+ * Embedded object whose rendered JSON may be kept in an
+ * {@link EmbeddedFragmentCache}.<br>
+ * The methods are deliberately no bean getters, so they are not rendered as
+ * properties.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:05:44
+ * @version 1.0
+ */
+public interface CacheableEmbeddedResource {
+    
+    /**
+     * @return The identity of the resource among all resources of its class,
+     *         or {@code null} if this instance must not be cached.
+     */
+    Object fragmentId();
+    
+    /**
+     * Returns the version of the resource, e.g. a revision number or the
+     * modification date. A cached fragment is only used if its version equals
+     * the current one, so the version has to change whenever the rendered
+     * JSON changes.
+     * 
+     * @return The version, may be {@code null}.
+     */
+    Object fragmentVersion();
+}
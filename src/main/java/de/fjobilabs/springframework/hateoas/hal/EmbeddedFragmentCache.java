@@ -0,0 +1,282 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Bounded cache of the rendered JSON of embedded objects, which implement
+ * {@link CacheableEmbeddedResource}.<br>
+ * The {@link HalEmbeddedResourcesSerializer} renders such an object once and
+ * writes the cached UTF-8 bytes directly into the output of all later
+ * responses, as long as its {@link CacheableEmbeddedResource#fragmentVersion()
+ * version} is unchanged. If the cache is full, the fragments of the least
+ * recently used object are evicted. Fragments are only used for JSON output without pretty
+ * printing.<br>
+ * A fragment contains everything that is rendered for the object, including
+ * its links. It depends on the mapper which has rendered it, e.g. on its
+ * inclusion, naming strategy and curie provider, and on the request: Links
+ * built from the current request contain its scheme, host and context path.
+ * So fragments are cached per {@link Variant}, i.e. per mapper, locale and base
+ * URI of the request. An object can have a fragment for every variant it is
+ * rendered in. Objects whose links have titles, which are resolved from the
+ * message source of the mapper, are not cached at all.<br>
+ * The cache is enabled by injecting it into the serializer or by setting a
+ * {@link #setDefault(EmbeddedFragmentCache) default cache}.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:09:27
+ * @version 1.0
+ */
+public class EmbeddedFragmentCache {
+    
+    private static volatile EmbeddedFragmentCache defaultCache;
+    
+    private final int maximumSize;
+    private final Map<Object, Fragments> fragments;
+    
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    
+    /**
+     * @param maximumSize The maximum number of resources with cached
+     *            fragments.
+     */
+    public EmbeddedFragmentCache(int maximumSize) {
+        Assert.isTrue(maximumSize > 0, "Maximum size must be greater than 0");
+        this.maximumSize = maximumSize;
+        this.fragments = new LinkedHashMap<Object, Fragments>(16, 0.75f, true) {
+            
+            private static final long serialVersionUID = -3029814718342962035L;
+            
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Fragments> eldest) {
+                if (size() <= EmbeddedFragmentCache.this.maximumSize) {
+                    return false;
+                }
+                evictionCount.increment();
+                return true;
+            }
+        };
+    }
+    
+    /**
+     * @return The cache used by serializers without an injected cache, or
+     *         {@code null} if they don't cache fragments.
+     */
+    public static EmbeddedFragmentCache getDefault() {
+        return defaultCache;
+    }
+    
+    /**
+     * Sets the cache used by serializers without an injected cache.
+     * 
+     * @param cache The cache or {@code null} to disable caching.
+     */
+    public static void setDefault(EmbeddedFragmentCache cache) {
+        defaultCache = cache;
+    }
+    
+    /**
+     * Returns the fragment of a resource, if it has been rendered in its
+     * current version in the given variant.
+     * 
+     * @param resource The resource.
+     * @param variant The variant to render the resource in.
+     * @return The fragment or {@code null} if it has to be rendered.
+     */
+    public SerializableString get(CacheableEmbeddedResource resource, Variant variant) {
+        Object key = createKey(resource);
+        if (key == null) {
+            return null;
+        }
+        SerializedString json = null;
+        synchronized (fragments) {
+            Fragments resourceFragments = fragments.get(key);
+            if (resourceFragments != null && ObjectUtils.nullSafeEquals(resourceFragments.version,
+                    resource.fragmentVersion())) {
+                json = resourceFragments.jsonByVariant.get(variant);
+            }
+        }
+        if (json == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return json;
+    }
+    
+    /**
+     * Caches the rendered JSON of a resource. Fragments of other versions of
+     * the resource are removed.
+     * 
+     * @param resource The resource.
+     * @param variant The variant the JSON has been rendered in.
+     * @param json The JSON value rendered for the resource.
+     */
+    public void put(CacheableEmbeddedResource resource, Variant variant, String json) {
+        Object key = createKey(resource);
+        if (key == null) {
+            return;
+        }
+        Object version = resource.fragmentVersion();
+        SerializedString fragment = new SerializedString(json);
+        // Encode once, so the bytes can be copied into every response
+        fragment.asUnquotedUTF8();
+        synchronized (fragments) {
+            Fragments resourceFragments = fragments.get(key);
+            if (resourceFragments == null
+                    || !ObjectUtils.nullSafeEquals(resourceFragments.version, version)) {
+                resourceFragments = new Fragments(version);
+                fragments.put(key, resourceFragments);
+            }
+            resourceFragments.jsonByVariant.put(variant, fragment);
+        }
+    }
+    
+    /**
+     * Removes the fragments of a resource, e.g. after it has been changed.
+     * 
+     * @param type The class of the resource.
+     * @param id The {@link CacheableEmbeddedResource#fragmentId() id} of the
+     *            resource.
+     */
+    public void invalidate(Class<?> type, Object id) {
+        synchronized (fragments) {
+            fragments.remove(new SimpleImmutableEntry<>(type, id));
+        }
+    }
+    
+    /**
+     * Removes the fragments of all resources of a class.
+     * 
+     * @param type The class of the resources.
+     */
+    public void invalidateAll(Class<?> type) {
+        synchronized (fragments) {
+            Iterator<Object> keys = fragments.keySet().iterator();
+            while (keys.hasNext()) {
+                if (((SimpleImmutableEntry<?, ?>) keys.next()).getKey() == type) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+    
+    public void clear() {
+        synchronized (fragments) {
+            fragments.clear();
+        }
+    }
+    
+    /**
+     * @return The number of resources with cached fragments.
+     */
+    public int size() {
+        synchronized (fragments) {
+            return fragments.size();
+        }
+    }
+    
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    public long getMissCount() {
+        return missCount.sum();
+    }
+    
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+    
+    private static Object createKey(CacheableEmbeddedResource resource) {
+        Object id = resource.fragmentId();
+        if (id == null) {
+            return null;
+        }
+        return new SimpleImmutableEntry<>(resource.getClass(), id);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format(
+                "EmbeddedFragmentCache { size: %d, hitCount: %d, missCount: %d, evictionCount: %d }",
+                size(), getHitCount(), getMissCount(), getEvictionCount());
+    }
+    
+    private static class Fragments {
+        
+        private final Object version;
+        private final Map<Variant, SerializedString> jsonByVariant = new HashMap<>(4);
+        
+        Fragments(Object version) {
+            this.version = version;
+        }
+    }
+    
+    /**
+     * Everything besides the resource, which its rendered JSON depends on: The
+     * codec, i.e. the mapper with its modules and configuration, the locale
+     * and the base URI of the request. Codecs are compared by identity.
+     */
+    public static final class Variant {
+        
+        private final ObjectCodec codec;
+        private final Locale locale;
+        private final String baseUri;
+        
+        /**
+         * @param codec The codec of the generator the resource is rendered to.
+         * @param locale The locale of the current request.
+         * @param baseUri The base URI of the current request, or an empty
+         *            string if there is none.
+         */
+        public Variant(ObjectCodec codec, Locale locale, String baseUri) {
+            Assert.notNull(codec, "ObjectCodec must not be null");
+            Assert.notNull(locale, "Locale must not be null");
+            Assert.notNull(baseUri, "Base URI must not be null");
+            this.codec = codec;
+            this.locale = locale;
+            this.baseUri = baseUri;
+        }
+        
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Variant)) {
+                return false;
+            }
+            Variant that = (Variant) obj;
+            return this.codec == that.codec && this.locale.equals(that.locale)
+                    && this.baseUri.equals(that.baseUri);
+        }
+        
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(codec);
+            result = 31 * result + locale.hashCode();
+            return 31 * result + baseUri.hashCode();
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("Variant { codec: %s, locale: %s, baseUri: %s }",
+                    codec.getClass().getSimpleName(), locale, baseUri);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.hateoas.core.EmbeddedWrapper;
+
+/**
+ * The embedded objects and collections which are rendered under the same
+ * relation.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:52:36
+ * @version 1.0
+ */
+class EmbeddedGroup {
+    
+    private final List<EmbeddedWrapper> wrappers = new ArrayList<>(1);
+    
+    public void add(EmbeddedWrapper wrapper) {
+        this.wrappers.add(wrapper);
+    }
+    
+    public void addAll(EmbeddedGroup group) {
+        this.wrappers.addAll(group.wrappers);
+    }
+    
+    public List<EmbeddedWrapper> getWrappers() {
+        return wrappers;
+    }
+    
+    public int size() {
+        return wrappers.size();
+    }
+    
+    /**
+     * @return Whether the group is rendered as array.
+     */
+    public boolean isCollection() {
+        return wrappers.size() > 1 || wrappers.get(0).isCollectionValue();
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof EmbeddedGroup)) {
+            return false;
+        }
+        return wrappers.equals(((EmbeddedGroup) obj).wrappers);
+    }
+    
+    @Override
+    public int hashCode() {
+        return wrappers.hashCode();
+    }
+    
+    @Override
+    public String toString() {
+        return wrappers.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.hateoas.core.Relation;
+
+/**
+ * Item and collection relation of a class, as declared by its {@link Relation}
+ * annotation.<br>
+ * The annotation lookup is done once per class and cached in a
+ * {@link ClassValue}, so embedding many objects of the same type does not scan
+ * the annotations again.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 14:02:31
+ * @version 1.0
+ */
+class EmbeddedRelation {
+    
+    private static final EmbeddedRelation NONE = new EmbeddedRelation(null, null);
+    
+    private static final ClassValue<EmbeddedRelation> RELATIONS = new ClassValue<EmbeddedRelation>() {
+        
+        @Override
+        protected EmbeddedRelation computeValue(Class<?> type) {
+            Relation relation = AnnotationUtils.getAnnotation(type, Relation.class);
+            if (relation == null) {
+                return NONE;
+            }
+            return new EmbeddedRelation(toRel(relation.value()),
+                    toRel(relation.collectionRelation()));
+        }
+    };
+    
+    private final String itemRel;
+    private final String collectionRel;
+    
+    private EmbeddedRelation(String itemRel, String collectionRel) {
+        this.itemRel = itemRel;
+        this.collectionRel = collectionRel;
+    }
+    
+    /**
+     * Returns the relation declared for the given type.
+     * 
+     * @param type The type of the embedded objects.
+     * @return The relation or {@code null} if the type is not annotated with
+     *         {@link Relation}.
+     */
+    public static EmbeddedRelation forType(Class<?> type) {
+        EmbeddedRelation relation = RELATIONS.get(type);
+        return relation == NONE ? null : relation;
+    }
+    
+    /**
+     * @return The item relation or {@code null} if the annotation declares
+     *         none.
+     */
+    public String getItemRel() {
+        return itemRel;
+    }
+    
+    /**
+     * @return The collection relation or {@code null} if the annotation
+     *         declares none.
+     */
+    public String getCollectionRel() {
+        return collectionRel;
+    }
+    
+    public String getRel(boolean forCollection) {
+        return forCollection ? collectionRel : itemRel;
+    }
+    
+    private static String toRel(String rel) {
+        return Relation.NO_RELATION.equals(rel) ? null : rel;
+    }
+}
@@ -0,0 +1,258 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.springframework.hateoas.core.EmbeddedWrapper;
+import org.springframework.util.StringUtils;
+
+/**
+ * The embedded objects and collections of a {@link HalEmbeddedResourceSupport},
+ * grouped by their relation when they are added.<br>
+ * Wrappers with an explicit relation are grouped by it, wrappers of a type
+ * with a {@link org.springframework.hateoas.core.Relation} annotation by its
+ * collection relation, or by its item relation if it declares no collection
+ * relation. The relation of all other wrappers is derived by the
+ * {@link org.springframework.hateoas.RelProvider} when they are rendered, so
+ * they are grouped by their type and cannot be looked up by relation.<br>
+ * The collection is read-only. It iterates the wrappers group by group.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:55:08
+ * @version 1.0
+ */
+class EmbeddedResources extends AbstractCollection<EmbeddedWrapper> {
+    
+    /**
+     * The groups in the order they were added, by their relation or by their
+     * type if the relation is derived when rendering.
+     */
+    private final Map<Object, EmbeddedGroup> groups;
+    
+    /**
+     * The keys of the groups of annotated types by their item relation, if it
+     * differs from the key.
+     */
+    private final Map<String, Object> itemKeys = new HashMap<>();
+    
+    private int size;
+    
+    EmbeddedResources(int expectedRels) {
+        this.groups = new LinkedHashMap<>(Math.max(16, (int) (expectedRels / 0.75f) + 1));
+    }
+    
+    /**
+     * Adds a wrapper to the group of its relation.
+     * 
+     * @param wrapper The wrapper, which is ignored if it is {@code null}.
+     */
+    void addWrapper(EmbeddedWrapper wrapper) {
+        if (wrapper == null) {
+            return;
+        }
+        Object key = getKey(wrapper);
+        EmbeddedGroup group = groups.get(key);
+        if (group == null) {
+            group = new EmbeddedGroup();
+            groups.put(key, group);
+            registerItemKey(wrapper, key);
+        }
+        group.add(wrapper);
+        size++;
+    }
+    
+    /**
+     * Replaces the wrappers rendered under the given relation. An existing
+     * group keeps its position.
+     */
+    void replaceWrappers(String rel, EmbeddedWrapper wrapper) {
+        Object key = findKey(rel);
+        if (key == null) {
+            addWrapper(wrapper);
+            return;
+        }
+        if (wrapper == null) {
+            removeGroup(key);
+            return;
+        }
+        EmbeddedGroup group = groups.get(key);
+        unregisterItemKey(group, key);
+        size -= group.size();
+        group.getWrappers().clear();
+        group.add(wrapper);
+        size++;
+        if (!key.equals(getKey(wrapper))) {
+            // The group is still found by the relation it is rendered under
+            itemKeys.put(rel, key);
+        } else {
+            registerItemKey(wrapper, key);
+        }
+    }
+    
+    /**
+     * Removes the group rendered under the given relation.
+     * 
+     * @return Whether there was such a group.
+     */
+    boolean removeWrappers(String rel) {
+        Object key = findKey(rel);
+        if (key == null) {
+            return false;
+        }
+        removeGroup(key);
+        return true;
+    }
+    
+    /**
+     * Returns the wrappers rendered under the given relation.
+     * 
+     * @return The wrappers, which are empty if there is no such group.
+     */
+    List<EmbeddedWrapper> getWrappers(String rel) {
+        Object key = findKey(rel);
+        return key == null ? Collections.emptyList()
+                : Collections.unmodifiableList(groups.get(key).getWrappers());
+    }
+    
+    /**
+     * @return The groups, which may still have to be merged if the derived
+     *         relations of some of them are equal.
+     */
+    Collection<EmbeddedGroup> getGroups() {
+        return groups.values();
+    }
+    
+    private void removeGroup(Object key) {
+        EmbeddedGroup group = groups.remove(key);
+        unregisterItemKey(group, key);
+        size -= group.size();
+    }
+    
+    private void registerItemKey(EmbeddedWrapper wrapper, Object key) {
+        String itemRel = getItemRel(wrapper);
+        if (itemRel != null && !itemRel.equals(key)) {
+            itemKeys.put(itemRel, key);
+        }
+    }
+    
+    private void unregisterItemKey(EmbeddedGroup group, Object key) {
+        String rel = getRenderedRel(group);
+        String itemRel = getItemRel(group.getWrappers().get(0));
+        itemKeys.remove(rel, key);
+        if (itemRel != null) {
+            itemKeys.remove(itemRel, key);
+        }
+    }
+    
+    /**
+     * @return The key of the group rendered under the relation or
+     *         {@code null} if there is none.
+     */
+    private Object findKey(String rel) {
+        EmbeddedGroup group = groups.get(rel);
+        if (group != null && rel.equals(getRenderedRel(group))) {
+            return rel;
+        }
+        // An annotated type is rendered by its item relation if it is single
+        Object key = itemKeys.get(rel);
+        if (key == null) {
+            return null;
+        }
+        group = groups.get(key);
+        return group != null && rel.equals(getRenderedRel(group)) ? key : null;
+    }
+    
+    /**
+     * @return The relation the group is rendered under or {@code null} if it
+     *         is derived when rendering.
+     */
+    private static String getRenderedRel(EmbeddedGroup group) {
+        EmbeddedWrapper wrapper = group.getWrappers().get(0);
+        if (wrapper instanceof RelationEmbeddedWrapper) {
+            return ((RelationEmbeddedWrapper) wrapper).getRel(group.isCollection());
+        }
+        return wrapper.getRel();
+    }
+    
+    private static String getItemRel(EmbeddedWrapper wrapper) {
+        if (wrapper instanceof RelationEmbeddedWrapper) {
+            return ((RelationEmbeddedWrapper) wrapper).getRel(false);
+        }
+        return null;
+    }
+    
+    /**
+     * Groups annotated types by their collection relation, so single objects
+     * and collections of a type are merged, and by their item relation if
+     * they declare no collection relation.
+     */
+    private static Object getKey(EmbeddedWrapper wrapper) {
+        if (wrapper instanceof RelationEmbeddedWrapper) {
+            RelationEmbeddedWrapper relationWrapper = (RelationEmbeddedWrapper) wrapper;
+            String rel = relationWrapper.getRel(true);
+            if (rel == null) {
+                rel = relationWrapper.getRel(false);
+            }
+            if (rel != null) {
+                return rel;
+            }
+            return wrapper.getRelTargetType();
+        }
+        String rel = wrapper.getRel();
+        return StringUtils.hasText(rel) ? rel : wrapper.getRelTargetType();
+    }
+    
+    @Override
+    public Iterator<EmbeddedWrapper> iterator() {
+        Iterator<EmbeddedGroup> groupIterator = groups.values().iterator();
+        return new Iterator<EmbeddedWrapper>() {
+            
+            private Iterator<EmbeddedWrapper> wrappers = Collections.emptyIterator();
+            
+            @Override
+            public boolean hasNext() {
+                while (!wrappers.hasNext() && groupIterator.hasNext()) {
+                    wrappers = groupIterator.next().getWrappers().iterator();
+                }
+                return wrappers.hasNext();
+            }
+            
+            @Override
+            public EmbeddedWrapper next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return wrappers.next();
+            }
+        };
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof EmbeddedResources)) {
+            return false;
+        }
+        EmbeddedResources that = (EmbeddedResources) obj;
+        return this.size == that.size && this.groups.equals(that.groups);
+    }
+    
+    @Override
+    public int hashCode() {
+        return groups.hashCode();
+    }
+}
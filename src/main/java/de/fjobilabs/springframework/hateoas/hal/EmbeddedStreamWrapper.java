@@ -0,0 +1,75 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.hateoas.core.EmbeddedWrapper;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddedWrapper} for a sequence of embedded objects, which is only
+ * opened when the resource is rendered.<br>
+ * The elements are never collected. The {@link HalEmbeddedResourcesSerializer}
+ * writes them one by one and closes the stream afterwards.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 13:05:22
+ * @version 1.0
+ */
+class EmbeddedStreamWrapper implements EmbeddedWrapper {
+    
+    private final Supplier<? extends Stream<?>> elements;
+    private final String rel;
+    
+    EmbeddedStreamWrapper(Supplier<? extends Stream<?>> elements, String rel) {
+        Assert.notNull(elements, "Elements must not be null");
+        Assert.hasText(rel, "Rel must not be null or empty");
+        this.elements = elements;
+        this.rel = rel;
+    }
+    
+    /**
+     * Opens the stream of embedded objects.
+     * 
+     * @return The stream, which has to be closed by the caller.
+     */
+    Stream<?> openStream() {
+        Stream<?> stream = this.elements.get();
+        Assert.state(stream != null, "Supplier of embedded resources '" + rel + "' returned null");
+        return stream;
+    }
+    
+    @Override
+    public String getRel() {
+        return rel;
+    }
+    
+    @Override
+    public boolean hasRel(String rel) {
+        return this.rel.equals(rel);
+    }
+    
+    @Override
+    public boolean isCollectionValue() {
+        return true;
+    }
+    
+    /**
+     * Returns the supplier of the embedded objects, because the objects
+     * themselves are not available before the resource is rendered.
+     */
+    @Override
+    public Object getValue() {
+        return elements;
+    }
+    
+    @Override
+    public Class<?> getRelTargetType() {
+        return null;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("EmbeddedStreamWrapper { rel: %s }", rel);
+    }
+}
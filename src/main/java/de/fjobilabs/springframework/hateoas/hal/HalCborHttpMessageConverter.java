@@ -0,0 +1,52 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Reads and writes HAL documents in the CBOR format with the
+ * {@link HalMediaTypes#HAL_CBOR} media type.<br>
+ * Register it in addition to the JSON converter to let clients choose the
+ * format by the {@code Accept} header.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 19:06:51
+ * @version 1.0
+ * @see HalObjectMappers#createCborObjectMapper(org.springframework.hateoas.RelProvider,
+ *      org.springframework.hateoas.hal.CurieProvider,
+ *      org.springframework.context.support.MessageSourceAccessor)
+ */
+public class HalCborHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+    
+    /**
+     * Creates a converter for clients, which derives relations from class
+     * names.
+     */
+    public HalCborHttpMessageConverter() {
+        this(HalObjectMappers.createCborObjectMapper());
+    }
+    
+    /**
+     * @param objectMapper A HAL mapper with a {@link CBORFactory}.
+     */
+    public HalCborHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper, HalMediaTypes.HAL_CBOR);
+        assertCborFactory(objectMapper);
+        // Binary documents have no charset
+        setDefaultCharset(null);
+    }
+    
+    @Override
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        assertCborFactory(objectMapper);
+        super.setObjectMapper(objectMapper);
+    }
+    
+    private static void assertCborFactory(ObjectMapper objectMapper) {
+        Assert.isInstanceOf(CBORFactory.class, objectMapper.getFactory(),
+                "CBORFactory required");
+    }
+}
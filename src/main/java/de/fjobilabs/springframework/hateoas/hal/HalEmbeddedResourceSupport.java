@@ -1,23 +1,40 @@
 package de.fjobilabs.springframework.hateoas.hal;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.springframework.aop.support.AopUtils;
+import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
 import org.springframework.hateoas.core.EmbeddedWrapper;
 import org.springframework.hateoas.core.EmbeddedWrappers;
+import org.springframework.hateoas.core.Relation;
+import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 /**
  * Adds support for embedded resources to a server side resource class.<br>
  * Spring automatically renders the correct HAL json form this class. You simply
  * have to add the resources by callign the {@link #embedd(ResourceSupport)} or
- * {@link #embedd(ResourceSupport, String)} method.
+ * {@link #embedd(ResourceSupport, String)} method.<br>
+ * Large result sets can be embedded by {@link #embeddStream(Stream, String)},
+ * {@link #embeddIterator(Iterator, String)} or
+ * {@link #embeddStreamSupplier(Supplier, String)}. Their elements are only read
+ * when the resource is rendered and are written directly to the response by the
+ * {@link HalEmbeddedResourcesSerializer}.<br>
+ * The embedded resources are grouped by their relation as they are added, so
+ * they can be looked up, replaced and removed by relation while a response is
+ * assembled.
  * 
  * @author Felix Jordan
  * @since 13.04.2017 - 23:07:01
@@ -25,27 +42,50 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  */
 public class HalEmbeddedResourceSupport extends Resources<EmbeddedWrapper> {
     
-    private final List<EmbeddedWrapper> embeddedResources;
+    private static final int DEFAULT_EXPECTED_RELS = 8;
+    
+    private final EmbeddedResources embeddedResources;
     private final EmbeddedWrappers embeddedWrappers;
     
     /**
      * Creates an new {@link HalEmbeddedResourceSupport} instance.
      */
     public HalEmbeddedResourceSupport() {
-        this.embeddedResources = new ArrayList<>();
+        this(DEFAULT_EXPECTED_RELS);
+    }
+    
+    /**
+     * Creates an new {@link HalEmbeddedResourceSupport} instance.
+     * 
+     * @param expectedRels The expected number of relations of the embedded
+     *            resources.
+     */
+    public HalEmbeddedResourceSupport(int expectedRels) {
+        Assert.isTrue(expectedRels >= 0, "Expected number of rels must not be negative");
+        this.embeddedResources = new EmbeddedResources(expectedRels);
         this.embeddedWrappers = new EmbeddedWrappers(false);
     }
     
     /**
-     * Embeds an object or collection into the resource.
+     * Embeds an object or collection into the resource. The relation is taken
+     * from the {@link Relation} annotation of the object's type, or is derived
+     * by the {@link org.springframework.hateoas.RelProvider} when the resource
+     * is rendered.
      * 
      * @param object The object to embed.
      */
     public void embedd(Object object) {
-        /*
-         * TODO Automatically use relation provides by @Relation annotation
-         */
-        this.embeddedResources.add(this.embeddedWrappers.wrap(object));
+        if (object == null || object instanceof EmbeddedWrapper) {
+            this.embeddedResources.addWrapper(this.embeddedWrappers.wrap(object));
+            return;
+        }
+        Class<?> type = getRelTargetType(object);
+        EmbeddedRelation relation = type == null ? null : EmbeddedRelation.forType(type);
+        if (relation == null) {
+            this.embeddedResources.addWrapper(this.embeddedWrappers.wrap(object));
+            return;
+        }
+        this.embeddedResources.addWrapper(new RelationEmbeddedWrapper(object, type, relation));
     }
     
     /**
@@ -55,13 +95,127 @@ public class HalEmbeddedResourceSupport extends Resources<EmbeddedWrapper> {
      * @param rel The relation to use.
      */
     public void embedd(Object object, String rel) {
-        this.embeddedResources.add(this.embeddedWrappers.wrap(object, rel));
+        this.embeddedResources.addWrapper(this.embeddedWrappers.wrap(object, rel));
+    }
+    
+    /**
+     * Embeds the elements of a stream into the resource. The stream is
+     * consumed and closed when the resource is rendered, so the resource can
+     * only be rendered once.
+     * 
+     * @param elements The stream of objects to embed.
+     * @param rel The relation to use.
+     */
+    public void embeddStream(Stream<?> elements, String rel) {
+        Assert.notNull(elements, "Elements must not be null");
+        embeddStreamSupplier(once(elements, rel), rel);
+    }
+    
+    /**
+     * Embeds the remaining elements of an iterator into the resource. The
+     * iterator is consumed when the resource is rendered, so the resource can
+     * only be rendered once.
+     * 
+     * @param elements The iterator of objects to embed.
+     * @param rel The relation to use.
+     */
+    public void embeddIterator(Iterator<?> elements, String rel) {
+        Assert.notNull(elements, "Elements must not be null");
+        Stream<?> stream = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED), false);
+        embeddStreamSupplier(once(stream, rel), rel);
+    }
+    
+    /**
+     * Embeds the elements of the streams created by the given supplier into
+     * the resource. The supplier is called each time the resource is rendered
+     * and the stream is closed afterwards.
+     * 
+     * @param elements The supplier of the stream of objects to embed.
+     * @param rel The relation to use.
+     */
+    public void embeddStreamSupplier(Supplier<? extends Stream<?>> elements, String rel) {
+        this.embeddedResources.addWrapper(new EmbeddedStreamWrapper(elements, rel));
+    }
+    
+    /**
+     * Returns the objects and collections rendered under the given relation.
+     * Objects whose relation is derived by the
+     * {@link org.springframework.hateoas.RelProvider} are not found, because
+     * their relation is only known when the resource is rendered.
+     * 
+     * @param rel The relation.
+     * @return The wrappers of the objects, which are empty if nothing is
+     *         embedded by the relation.
+     */
+    public List<EmbeddedWrapper> getEmbedded(String rel) {
+        return this.embeddedResources.getWrappers(rel);
+    }
+    
+    /**
+     * @param rel The relation.
+     * @return Whether anything is embedded by the given relation.
+     */
+    public boolean hasEmbedded(String rel) {
+        return !getEmbedded(rel).isEmpty();
+    }
+    
+    /**
+     * Removes everything embedded by the given relation.
+     * 
+     * @param rel The relation.
+     * @return Whether anything was embedded by the relation.
+     */
+    public boolean removeEmbedded(String rel) {
+        return this.embeddedResources.removeWrappers(rel);
+    }
+    
+    /**
+     * Replaces everything embedded by the given relation with the object or
+     * collection. The relation keeps its position in the {@code _embedded}
+     * object.
+     * 
+     * @param object The object to embed.
+     * @param rel The relation to use.
+     */
+    public void replaceEmbedded(Object object, String rel) {
+        Assert.hasText(rel, "Rel must not be null or empty");
+        this.embeddedResources.replaceWrappers(rel, this.embeddedWrappers.wrap(object, rel));
+    }
+    
+    /**
+     * Determines the type the relation is derived from, like the wrappers of
+     * Spring HATEOAS do.
+     */
+    private static Class<?> getRelTargetType(Object object) {
+        Object peek = object;
+        if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            peek = collection.isEmpty() ? null : collection.iterator().next();
+        }
+        if (peek instanceof Resource) {
+            peek = ((Resource<?>) peek).getContent();
+        }
+        return peek == null ? null : AopUtils.getTargetClass(peek);
+    }
+    
+    private static Supplier<Stream<?>> once(Stream<?> stream, String rel) {
+        AtomicReference<Stream<?>> reference = new AtomicReference<>(stream);
+        return () -> {
+            Stream<?> elements = reference.getAndSet(null);
+            if (elements == null) {
+                throw new IllegalStateException(
+                        "Embedded resources '" + rel + "' have already been rendered");
+            }
+            return elements;
+        };
     }
     
     @JsonProperty("_embedded")
+    @JsonSerialize(using = HalEmbeddedResourcesSerializer.class)
     @Override
     public Collection<EmbeddedWrapper> getContent() {
-        return Collections.unmodifiableCollection(embeddedResources);
+        return embeddedResources;
     }
     
     @Override
@@ -0,0 +1,445 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RelProvider;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.core.DefaultRelProvider;
+import org.springframework.hateoas.core.EmbeddedWrapper;
+import org.springframework.hateoas.hal.CurieProvider;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Renders the {@code _embedded} object of a {@link HalEmbeddedResourceSupport}
+ * directly to the generator.<br>
+ * Embedded objects and collections are grouped by their relation like Spring
+ * HATEOAS does. Streams added by
+ * {@link HalEmbeddedResourceSupport#embeddStreamSupplier(java.util.function.Supplier, String)}
+ * and its variants are written element by element and closed afterwards, so
+ * they are never held in memory.<br>
+ * If an {@link EmbeddedFragmentCache} is configured, embedded objects
+ * implementing {@link CacheableEmbeddedResource} are rendered once per mapper,
+ * locale and base URI of the current servlet request and afterwards copied
+ * from the cache.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 13:12:48
+ * @version 1.0
+ */
+public class HalEmbeddedResourcesSerializer extends StdSerializer<Collection<EmbeddedWrapper>> {
+    
+    private static final long serialVersionUID = -4373128606413786751L;
+    
+    /**
+     * Spring HATEOAS adds this link to a resource with curied embedded
+     * relations, so the curies are rendered in its {@code _links}.
+     */
+    private static final Link CURIES_REQUIRED_DUE_TO_EMBEDS = new Link("__rel__",
+            "¯\\_(ツ)_/¯");
+    
+    private static final String DEFAULT_REL = "content";
+    private static final String LINKS_FIELD_NAME = "_links";
+    private static final String TITLE_FIELD_NAME = "title";
+    
+    private static final boolean SERVLET_PRESENT = ClassUtils.isPresent(
+            "javax.servlet.http.HttpServletRequest",
+            HalEmbeddedResourcesSerializer.class.getClassLoader())
+            && ClassUtils.isPresent(
+                    "org.springframework.web.servlet.support.ServletUriComponentsBuilder",
+                    HalEmbeddedResourcesSerializer.class.getClassLoader());
+    
+    private final RelProvider relProvider;
+    private CurieProvider curieProvider;
+    private EmbeddedFragmentCache fragmentCache;
+    
+    /**
+     * Creates a serializer which derives missing relations from the
+     * {@link org.springframework.hateoas.core.Relation} annotation or from the
+     * class name.
+     */
+    public HalEmbeddedResourcesSerializer() {
+        this(new DefaultingRelProvider());
+    }
+    
+    /**
+     * Creates a serializer which uses the given provider for missing
+     * relations. This constructor is used when the serializer is created by a
+     * bean factory.
+     * 
+     * @param relProvider The provider for missing relations.
+     */
+    @Autowired
+    public HalEmbeddedResourcesSerializer(RelProvider relProvider) {
+        super(TypeFactory.defaultInstance().constructCollectionType(Collection.class,
+                EmbeddedWrapper.class));
+        Assert.notNull(relProvider, "RelProvider must not be null");
+        this.relProvider = relProvider;
+    }
+    
+    /**
+     * Sets the provider to namespace the relations derived by the
+     * {@link RelProvider}.
+     * 
+     * @param curieProvider The provider, may be {@code null}.
+     */
+    @Autowired(required = false)
+    public void setCurieProvider(CurieProvider curieProvider) {
+        this.curieProvider = curieProvider;
+    }
+    
+    /**
+     * Sets the cache for the rendered JSON of embedded objects.
+     * 
+     * @param fragmentCache The cache or {@code null} to use the
+     *            {@link EmbeddedFragmentCache#getDefault() default cache}.
+     */
+    @Autowired(required = false)
+    public void setFragmentCache(EmbeddedFragmentCache fragmentCache) {
+        this.fragmentCache = fragmentCache;
+    }
+    
+    @Override
+    public void serialize(Collection<EmbeddedWrapper> value, JsonGenerator gen,
+            SerializerProvider provider) throws IOException {
+        Map<String, EmbeddedGroup> groups;
+        if (value instanceof EmbeddedResources) {
+            groups = getGroupsByRel((EmbeddedResources) value);
+        } else {
+            groups = groupByRel(value);
+        }
+        markCuriedEmbeds(groups, gen);
+        FragmentTarget fragments = getFragmentTarget(gen, provider);
+        gen.writeStartObject();
+        for (Entry<String, EmbeddedGroup> group : groups.entrySet()) {
+            gen.writeFieldName(group.getKey());
+            writeGroup(group.getValue(), fragments, gen, provider);
+        }
+        gen.writeEndObject();
+    }
+    
+    @Override
+    public boolean isEmpty(SerializerProvider provider, Collection<EmbeddedWrapper> value) {
+        return value == null || value.isEmpty();
+    }
+    
+    /**
+     * Resolves the relations of the groups, which have already been grouped
+     * when they were added. Only groups whose derived relations are equal have
+     * to be merged.
+     */
+    private Map<String, EmbeddedGroup> getGroupsByRel(EmbeddedResources resources) {
+        Collection<EmbeddedGroup> groups = resources.getGroups();
+        Map<String, EmbeddedGroup> groupsByRel = new LinkedHashMap<>(
+                Math.max(16, (int) (groups.size() / 0.75f) + 1));
+        for (EmbeddedGroup group : groups) {
+            String rel = getRelFor(group.getWrappers().get(0), group.isCollection());
+            EmbeddedGroup existingGroup = groupsByRel.putIfAbsent(rel, group);
+            if (existingGroup != null) {
+                EmbeddedGroup mergedGroup = new EmbeddedGroup();
+                mergedGroup.addAll(existingGroup);
+                mergedGroup.addAll(group);
+                groupsByRel.put(rel, mergedGroup);
+            }
+        }
+        return groupsByRel;
+    }
+    
+    /**
+     * Groups the wrappers by their relation the same way Spring HATEOAS does:
+     * A single object is rendered by its item relation, several objects or
+     * collections are merged into an array under their collection relation.
+     */
+    private Map<String, EmbeddedGroup> groupByRel(Collection<EmbeddedWrapper> wrappers) {
+        Map<String, EmbeddedGroup> groups = new LinkedHashMap<>();
+        for (EmbeddedWrapper wrapper : wrappers) {
+            if (wrapper == null) {
+                continue;
+            }
+            String collectionRel = getRelFor(wrapper, true);
+            String rel = collectionRel;
+            if (!groups.containsKey(collectionRel)) {
+                rel = getRelFor(wrapper, wrapper.isCollectionValue());
+            }
+            EmbeddedGroup group = groups.get(rel);
+            if (group == null) {
+                group = new EmbeddedGroup();
+                group.add(wrapper);
+                groups.put(rel, group);
+                continue;
+            }
+            group.add(wrapper);
+            if (!rel.equals(collectionRel)) {
+                groups.remove(rel);
+                groups.put(collectionRel, group);
+            }
+        }
+        return groups;
+    }
+    
+    private String getRelFor(EmbeddedWrapper wrapper, boolean forCollection) {
+        String rel;
+        if (wrapper instanceof RelationEmbeddedWrapper) {
+            rel = ((RelationEmbeddedWrapper) wrapper).getRel(forCollection);
+        } else {
+            rel = wrapper.getRel();
+            if (StringUtils.hasText(rel)) {
+                return rel;
+            }
+            Class<?> type = wrapper.getRelTargetType();
+            if (type == null) {
+                throw new IllegalStateException("Embedded wrapper " + wrapper
+                        + " has neither a rel nor a rel target type");
+            }
+            rel = forCollection ? relProvider.getCollectionResourceRelFor(type)
+                    : relProvider.getItemResourceRelFor(type);
+        }
+        if (rel != null && curieProvider != null) {
+            rel = curieProvider.getNamespacedRelFor(rel);
+        }
+        return rel == null ? DEFAULT_REL : rel;
+    }
+    
+    private void writeGroup(EmbeddedGroup group, FragmentTarget fragments, JsonGenerator gen,
+            SerializerProvider provider) throws IOException {
+        if (!group.isCollection()) {
+            writeElement(group.getWrappers().get(0).getValue(), fragments, gen, provider);
+            return;
+        }
+        gen.writeStartArray();
+        for (EmbeddedWrapper wrapper : group.getWrappers()) {
+            if (wrapper instanceof EmbeddedStreamWrapper) {
+                writeStream((EmbeddedStreamWrapper) wrapper, fragments, gen, provider);
+            } else if (wrapper.getValue() instanceof Collection) {
+                for (Object element : (Collection<?>) wrapper.getValue()) {
+                    writeElement(element, fragments, gen, provider);
+                }
+            } else {
+                writeElement(wrapper.getValue(), fragments, gen, provider);
+            }
+        }
+        gen.writeEndArray();
+    }
+    
+    private void writeStream(EmbeddedStreamWrapper wrapper, FragmentTarget fragments,
+            JsonGenerator gen, SerializerProvider provider) throws IOException {
+        // Most streams contain elements of a single type
+        Class<?> elementType = null;
+        JsonSerializer<Object> elementSerializer = null;
+        try (Stream<?> stream = wrapper.openStream()) {
+            Iterator<?> elements = stream.iterator();
+            while (elements.hasNext()) {
+                Object element = elements.next();
+                if (element == null) {
+                    provider.defaultSerializeNull(gen);
+                    continue;
+                }
+                if (fragments != null && element instanceof CacheableEmbeddedResource) {
+                    writeFragment((CacheableEmbeddedResource) element, fragments, gen, provider);
+                    continue;
+                }
+                if (element.getClass() != elementType) {
+                    elementType = element.getClass();
+                    elementSerializer = provider.findTypedValueSerializer(elementType, true, null);
+                }
+                elementSerializer.serialize(element, gen, provider);
+            }
+        }
+    }
+    
+    private void writeElement(Object element, FragmentTarget fragments, JsonGenerator gen,
+            SerializerProvider provider) throws IOException {
+        if (fragments != null && element instanceof CacheableEmbeddedResource) {
+            writeFragment((CacheableEmbeddedResource) element, fragments, gen, provider);
+            return;
+        }
+        provider.defaultSerializeValue(element, gen);
+    }
+    
+    private void writeFragment(CacheableEmbeddedResource element, FragmentTarget fragments,
+            JsonGenerator gen, SerializerProvider provider) throws IOException {
+        SerializableString fragment = fragments.cache.get(element, fragments.variant);
+        if (fragment == null) {
+            String json = render(element, gen, provider);
+            if (!hasLinkTitles(json, gen.getCodec().getFactory())) {
+                fragments.cache.put(element, fragments.variant, json);
+            }
+            gen.writeRawValue(json);
+            return;
+        }
+        // Copies the encoded bytes of the fragment
+        gen.writeRawValue(fragment);
+    }
+    
+    private String render(Object element, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        ObjectCodec codec = gen.getCodec();
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator fragmentGen = codec.getFactory().createGenerator(writer)) {
+            fragmentGen.setCodec(codec);
+            fragmentGen.overrideStdFeatures(gen.getFeatureMask(), ~0);
+            fragmentGen.setCharacterEscapes(gen.getCharacterEscapes());
+            fragmentGen.setHighestNonEscapedChar(gen.getHighestEscapedChar());
+            provider.defaultSerializeValue(element, fragmentGen);
+        }
+        return writer.toString();
+    }
+    
+    /**
+     * Checks whether any link of the rendered JSON has a title. Links have no
+     * titles of their own, Spring HATEOAS resolves them from the message
+     * source for the locale of the request.
+     */
+    private static boolean hasLinkTitles(String json, JsonFactory factory) throws IOException {
+        try (JsonParser parser = factory.createParser(json)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME
+                        && TITLE_FIELD_NAME.equals(parser.getCurrentName())
+                        && isLinkObject(parser.getParsingContext())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    private static boolean isLinkObject(JsonStreamContext context) {
+        JsonStreamContext links = context.getParent();
+        if (links != null && links.inArray()) {
+            links = links.getParent();
+        }
+        JsonStreamContext resource = links == null ? null : links.getParent();
+        return resource != null && LINKS_FIELD_NAME.equals(resource.getCurrentName());
+    }
+    
+    /**
+     * Returns where fragments are cached, if fragments can be used for the
+     * output: Fragments are plain JSON without indentation, so they can
+     * neither be written to binary formats or token buffers nor be pretty
+     * printed. They are rendered without a view, so they are not used if a
+     * view is active.
+     */
+    private FragmentTarget getFragmentTarget(JsonGenerator gen, SerializerProvider provider) {
+        EmbeddedFragmentCache cache = this.fragmentCache;
+        if (cache == null) {
+            cache = EmbeddedFragmentCache.getDefault();
+        }
+        if (cache == null || gen instanceof TokenBuffer || gen.getPrettyPrinter() != null
+                || gen.getCodec() == null || provider.getActiveView() != null) {
+            return null;
+        }
+        if (!JsonFactory.FORMAT_NAME_JSON.equals(gen.getCodec().getFactory().getFormatName())) {
+            return null;
+        }
+        return new FragmentTarget(cache, new EmbeddedFragmentCache.Variant(gen.getCodec(),
+                LocaleContextHolder.getLocale(), SERVLET_PRESENT ? RequestBaseUri.get() : ""));
+    }
+    
+    private void markCuriedEmbeds(Map<String, EmbeddedGroup> groups, JsonGenerator gen) {
+        if (curieProvider == null) {
+            return;
+        }
+        Object currentValue = gen.getCurrentValue();
+        if (!(currentValue instanceof ResourceSupport)) {
+            return;
+        }
+        for (String rel : groups.keySet()) {
+            if (rel.contains(":")) {
+                ((ResourceSupport) currentValue).add(CURIES_REQUIRED_DUE_TO_EMBEDS);
+                return;
+            }
+        }
+    }
+    
+    /**
+     * The cache and the variant of the current request, which are resolved
+     * once per {@code _embedded} object.
+     */
+    private static class FragmentTarget {
+        
+        private final EmbeddedFragmentCache cache;
+        private final EmbeddedFragmentCache.Variant variant;
+        
+        FragmentTarget(EmbeddedFragmentCache cache, EmbeddedFragmentCache.Variant variant) {
+            this.cache = cache;
+            this.variant = variant;
+        }
+    }
+    
+    /**
+     * Resolves the base URI links are built from, like Spring HATEOAS does:
+     * The scheme, host, port and servlet mapping of the current request,
+     * including forwarded headers. Kept in its own class, so the servlet API
+     * is only loaded if present.
+     */
+    private static class RequestBaseUri {
+        
+        static String get() {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (!(attributes instanceof ServletRequestAttributes)) {
+                return "";
+            }
+            return ServletUriComponentsBuilder
+                    .fromServletMapping(((ServletRequestAttributes) attributes).getRequest())
+                    .build().toUriString();
+        }
+    }
+    
+    /**
+     * Uses the relations of the {@link org.springframework.hateoas.core.Relation}
+     * annotation if present and falls back to the class name, like the default
+     * configuration of Spring HATEOAS.
+     */
+    private static class DefaultingRelProvider implements RelProvider {
+        
+        private final RelProvider defaultRelProvider = new DefaultRelProvider();
+        
+        @Override
+        public String getItemResourceRelFor(Class<?> type) {
+            EmbeddedRelation relation = EmbeddedRelation.forType(type);
+            return relation == null ? defaultRelProvider.getItemResourceRelFor(type)
+                    : relation.getItemRel();
+        }
+        
+        @Override
+        public String getCollectionResourceRelFor(Class<?> type) {
+            EmbeddedRelation relation = EmbeddedRelation.forType(type);
+            return relation == null ? defaultRelProvider.getCollectionResourceRelFor(type)
+                    : relation.getCollectionRel();
+        }
+        
+        @Override
+        public boolean supports(Class<?> delimiter) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Media types of HAL documents in the binary Jackson formats.<br>
+ * The documents have the same {@code _links} and {@code _embedded} structure
+ * as {@code application/hal+json}, only the encoding differs.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 18:55:12
+ * @version 1.0
+ */
+public final class HalMediaTypes {
+    
+    public static final String HAL_SMILE_VALUE = "application/hal+smile";
+    public static final MediaType HAL_SMILE = MediaType.valueOf(HAL_SMILE_VALUE);
+    
+    public static final String HAL_CBOR_VALUE = "application/hal+cbor";
+    public static final MediaType HAL_CBOR = MediaType.valueOf(HAL_CBOR_VALUE);
+    
+    private HalMediaTypes() {
+    }
+}
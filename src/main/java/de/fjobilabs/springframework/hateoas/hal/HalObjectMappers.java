@@ -0,0 +1,99 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.hateoas.RelProvider;
+import org.springframework.hateoas.core.DefaultRelProvider;
+import org.springframework.hateoas.hal.CurieProvider;
+import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Creates {@link ObjectMapper ObjectMappers} which read and write HAL
+ * documents in the binary Smile or CBOR format.<br>
+ * The mappers are configured like the HAL mapper of Spring HATEOAS, so
+ * {@link HalEmbeddedResourceSupport} is rendered and
+ * {@link de.fjobilabs.springframework.hateoas.hal.client.HalResource
+ * HalResources} are decoded exactly as with JSON. The Smile and CBOR data
+ * formats are optional dependencies and have to be added to use these
+ * mappers.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 18:58:40
+ * @version 1.0
+ */
+public final class HalObjectMappers {
+    
+    private HalObjectMappers() {
+    }
+    
+    /**
+     * Creates a Smile mapper, which derives relations from class names. It is
+     * meant for clients, which only read documents.
+     * 
+     * @return The new mapper.
+     */
+    public static ObjectMapper createSmileObjectMapper() {
+        return createSmileObjectMapper(new DefaultRelProvider(), null, null);
+    }
+    
+    /**
+     * @param relProvider The provider of the relations of embedded resources.
+     * @param curieProvider The curie provider, may be {@code null}.
+     * @param messageSourceAccessor The accessor to resolve link titles, may be
+     *            {@code null}.
+     * @return The new mapper.
+     */
+    public static ObjectMapper createSmileObjectMapper(RelProvider relProvider,
+            CurieProvider curieProvider, MessageSourceAccessor messageSourceAccessor) {
+        return configure(new ObjectMapper(new SmileFactory()), relProvider, curieProvider,
+                messageSourceAccessor);
+    }
+    
+    /**
+     * Creates a CBOR mapper, which derives relations from class names. It is
+     * meant for clients, which only read documents.
+     * 
+     * @return The new mapper.
+     */
+    public static ObjectMapper createCborObjectMapper() {
+        return createCborObjectMapper(new DefaultRelProvider(), null, null);
+    }
+    
+    /**
+     * @param relProvider The provider of the relations of embedded resources.
+     * @param curieProvider The curie provider, may be {@code null}.
+     * @param messageSourceAccessor The accessor to resolve link titles, may be
+     *            {@code null}.
+     * @return The new mapper.
+     */
+    public static ObjectMapper createCborObjectMapper(RelProvider relProvider,
+            CurieProvider curieProvider, MessageSourceAccessor messageSourceAccessor) {
+        return configure(new ObjectMapper(new CBORFactory()), relProvider, curieProvider,
+                messageSourceAccessor);
+    }
+    
+    /**
+     * Registers the HAL module of Spring HATEOAS at a mapper of any format.
+     * 
+     * @param objectMapper The mapper to configure.
+     * @param relProvider The provider of the relations of embedded resources.
+     * @param curieProvider The curie provider, may be {@code null}.
+     * @param messageSourceAccessor The accessor to resolve link titles, may be
+     *            {@code null}.
+     * @return The configured mapper.
+     */
+    public static ObjectMapper configure(ObjectMapper objectMapper, RelProvider relProvider,
+            CurieProvider curieProvider, MessageSourceAccessor messageSourceAccessor) {
+        Assert.notNull(objectMapper, "ObjectMapper must not be null");
+        Assert.notNull(relProvider, "RelProvider must not be null");
+        objectMapper.registerModule(new Jackson2HalModule());
+        objectMapper.setHandlerInstantiator(
+                new HalHandlerInstantiator(relProvider, curieProvider, messageSourceAccessor));
+        return objectMapper;
+    }
+}
@@ -0,0 +1,52 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Reads and writes HAL documents in the Smile format with the
+ * {@link HalMediaTypes#HAL_SMILE} media type.<br>
+ * Register it in addition to the JSON converter to let clients choose the
+ * format by the {@code Accept} header.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 19:04:26
+ * @version 1.0
+ * @see HalObjectMappers#createSmileObjectMapper(org.springframework.hateoas.RelProvider,
+ *      org.springframework.hateoas.hal.CurieProvider,
+ *      org.springframework.context.support.MessageSourceAccessor)
+ */
+public class HalSmileHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+    
+    /**
+     * Creates a converter for clients, which derives relations from class
+     * names.
+     */
+    public HalSmileHttpMessageConverter() {
+        this(HalObjectMappers.createSmileObjectMapper());
+    }
+    
+    /**
+     * @param objectMapper A HAL mapper with a {@link SmileFactory}.
+     */
+    public HalSmileHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper, HalMediaTypes.HAL_SMILE);
+        assertSmileFactory(objectMapper);
+        // Binary documents have no charset
+        setDefaultCharset(null);
+    }
+    
+    @Override
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        assertSmileFactory(objectMapper);
+        super.setObjectMapper(objectMapper);
+    }
+    
+    private static void assertSmileFactory(ObjectMapper objectMapper) {
+        Assert.isInstanceOf(SmileFactory.class, objectMapper.getFactory(),
+                "SmileFactory required");
+    }
+}
@@ -0,0 +1,64 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import java.util.Collection;
+
+import org.springframework.hateoas.core.EmbeddedWrapper;
+
+/**
+ * {@link EmbeddedWrapper} for an object or collection whose type declares its
+ * relations by the {@link org.springframework.hateoas.core.Relation}
+ * annotation.<br>
+ * The wrapper keeps both relations, so the {@link HalEmbeddedResourcesSerializer}
+ * can still render a single object by its item relation and merge several
+ * objects under their collection relation.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 14:10:05
+ * @version 1.0
+ */
+class RelationEmbeddedWrapper implements EmbeddedWrapper {
+    
+    private final Object value;
+    private final Class<?> relTargetType;
+    private final EmbeddedRelation relation;
+    
+    RelationEmbeddedWrapper(Object value, Class<?> relTargetType, EmbeddedRelation relation) {
+        this.value = value;
+        this.relTargetType = relTargetType;
+        this.relation = relation;
+    }
+    
+    public String getRel(boolean forCollection) {
+        return relation.getRel(forCollection);
+    }
+    
+    @Override
+    public String getRel() {
+        return relation.getRel(isCollectionValue());
+    }
+    
+    @Override
+    public boolean hasRel(String rel) {
+        return rel != null && rel.equals(getRel());
+    }
+    
+    @Override
+    public boolean isCollectionValue() {
+        return value instanceof Collection;
+    }
+    
+    @Override
+    public Object getValue() {
+        return value;
+    }
+    
+    @Override
+    public Class<?> getRelTargetType() {
+        return relTargetType;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("RelationEmbeddedWrapper { rel: %s, value: %s }", getRel(), value);
+    }
+}
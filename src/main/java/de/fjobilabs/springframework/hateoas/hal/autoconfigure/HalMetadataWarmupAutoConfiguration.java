@@ -0,0 +1,53 @@
+package de.fjobilabs.springframework.hateoas.hal.autoconfigure;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fjobilabs.springframework.hateoas.hal.client.HalMetadataWarmer;
+
+/**
+ * Introspects all {@link de.fjobilabs.springframework.hateoas.hal.client.HalResource
+ * HalResource} classes of the configured packages at startup with a
+ * {@link HalMetadataWarmer}.<br>
+ * The warm-up is only enabled by {@code hal.metadata.warmup.enabled=true} and
+ * scans only the packages listed in {@code hal.metadata.warmup.base-packages}.
+ * It runs after all singletons have been created, which is before the embedded
+ * web server accepts requests. An invalid resource class fails the startup of
+ * the application.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:57:03
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "hal.metadata.warmup", name = "enabled", matchIfMissing = false)
+@EnableConfigurationProperties(HalMetadataWarmupProperties.class)
+public class HalMetadataWarmupAutoConfiguration {
+    
+    @Bean
+    public SmartInitializingSingleton halMetadataWarmup(HalMetadataWarmupProperties properties,
+            BeanFactory beanFactory, ObjectProvider<ObjectMapper> objectMapper) {
+        return () -> {
+            if (properties.getBasePackages().isEmpty()) {
+                return;
+            }
+            HalMetadataWarmer warmer = new HalMetadataWarmer(properties.getBasePackages());
+            warmer.setParallelism(properties.getParallelism());
+            if (beanFactory instanceof ConfigurableBeanFactory) {
+                warmer.setClassLoader(((ConfigurableBeanFactory) beanFactory).getBeanClassLoader());
+            }
+            if (properties.isWarmDeserializers()) {
+                warmer.setObjectMapper(objectMapper.getIfUnique());
+            }
+            warmer.warmUp();
+        };
+    }
+}
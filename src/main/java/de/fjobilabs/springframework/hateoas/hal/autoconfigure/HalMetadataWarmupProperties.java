@@ -0,0 +1,72 @@
+package de.fjobilabs.springframework.hateoas.hal.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the {@link HalMetadataWarmupAutoConfiguration}.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:56:49
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "hal.metadata.warmup")
+public class HalMetadataWarmupProperties {
+    
+    /**
+     * Whether the HAL resource classes are introspected at startup.
+     */
+    private boolean enabled;
+    
+    /**
+     * The packages to scan for HAL resource classes. Nothing is scanned if no
+     * package is configured.
+     */
+    private List<String> basePackages = new ArrayList<>();
+    
+    /**
+     * The number of threads scanning and introspecting classes. Defaults to
+     * the number of processors.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    
+    /**
+     * Whether the deserializers of the resource classes and their property
+     * types are created by the ObjectMapper of the application as well.
+     */
+    private boolean warmDeserializers = true;
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public List<String> getBasePackages() {
+        return basePackages;
+    }
+    
+    public void setBasePackages(List<String> basePackages) {
+        this.basePackages = basePackages;
+    }
+    
+    public int getParallelism() {
+        return parallelism;
+    }
+    
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+    
+    public boolean isWarmDeserializers() {
+        return warmDeserializers;
+    }
+    
+    public void setWarmDeserializers(boolean warmDeserializers) {
+        this.warmDeserializers = warmDeserializers;
+    }
+}
@@ -0,0 +1,94 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import de.fjobilabs.springframework.hateoas.hal.client.metrics.HalDeserializationEvent;
+
+/**
+ * Mutable counters of a single {@link HalResourceDeserializer#deserialize}
+ * call. Only created while a listener is set.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 17:04:33
+ * @version 1.0
+ */
+class DecodeStatistics {
+    
+    private final long startNanos = System.nanoTime();
+    private int propertyCount;
+    private int embeddedRelationCount;
+    private int embeddedElementCount;
+    private int skippedPropertyCount;
+    private int excludedPropertyCount;
+    private long writeNanos;
+    
+    void propertyWritten(long startNanos) {
+        this.propertyCount++;
+        this.writeNanos += System.nanoTime() - startNanos;
+    }
+    
+    /**
+     * Counts a property which is passed to a {@link ResourceCreator}.
+     */
+    void propertyRead() {
+        this.propertyCount++;
+    }
+    
+    /**
+     * Measures the creator call and the writes which had to wait for it.
+     */
+    void instanceCreated(long startNanos) {
+        this.writeNanos += System.nanoTime() - startNanos;
+    }
+    
+    void embeddedResourceWritten(long startNanos) {
+        this.writeNanos += System.nanoTime() - startNanos;
+    }
+    
+    void embeddedRelationRead() {
+        this.embeddedRelationCount++;
+    }
+    
+    void embeddedElementRead() {
+        this.embeddedElementCount++;
+    }
+    
+    /**
+     * Counts the elements of a bound embedded resource. Captured relations,
+     * e.g. lazy ones or iterators, are not counted.
+     */
+    void embeddedResourceRead(Object embeddedResource) {
+        if (embeddedResource instanceof Collection) {
+            this.embeddedElementCount += ((Collection<?>) embeddedResource).size();
+        } else if (embeddedResource != null && embeddedResource.getClass().isArray()) {
+            this.embeddedElementCount += Array.getLength(embeddedResource);
+        } else if (embeddedResource != null && !(embeddedResource instanceof LazyEmbedded)
+                && !(embeddedResource instanceof Iterator)
+                && !(embeddedResource instanceof Stream)) {
+            this.embeddedElementCount++;
+        }
+    }
+    
+    /**
+     * Counts an unknown property or relation.
+     */
+    void propertySkipped() {
+        this.skippedPropertyCount++;
+    }
+    
+    /**
+     * Counts a property or relation outside of the {@link HalProjection}.
+     */
+    void propertyExcluded() {
+        this.excludedPropertyCount++;
+    }
+    
+    HalDeserializationEvent toEvent(Class<?> targetClass) {
+        return new HalDeserializationEvent(targetClass, System.nanoTime() - this.startNanos,
+                this.propertyCount, this.embeddedRelationCount, this.embeddedElementCount,
+                this.skippedPropertyCount, this.excludedPropertyCount, this.writeNanos);
+    }
+}
@@ -0,0 +1,365 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import de.fjobilabs.springframework.hateoas.hal.client.exception.HalDecodingLimitExceededException;
+import de.fjobilabs.springframework.hateoas.hal.client.metrics.HalDeserializationListener;
+
+/**
+ * State of one top-level deserialization: the identity map of the
+ * {@link HalIdentity} resources, the counters checked against the
+ * {@link HalDecodingLimits}, the {@link ParallelDecodingConfig} and the
+ * {@link HalDeserializationListener} of the mapper.<br>
+ * The scope is bound to the thread of the top-level
+ * {@link HalResourceDeserializer}, so nested deserializers, which are called
+ * with a new deserialization context, find the same scope. The
+ * {@link ParallelElementDecoder} binds a {@link #fork() fork} of it to its
+ * worker threads.<br>
+ * An instance is only published to the identity map of the document, which is
+ * shared by all threads, after it has been fully bound. While it is bound, it
+ * is only visible to the thread binding it, so references to it from nested
+ * resources, i.e. cycles, are resolved.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 21:18:02
+ * @version 1.0
+ */
+class DecodingScope {
+    
+    private static final ThreadLocal<DecodingScope> CURRENT = new ThreadLocal<>();
+    
+    private final Document document;
+    private int depth;
+    private Map<Object, Object> pendingInstances;
+    
+    private DecodingScope(Document document, int depth, Map<Object, Object> pendingInstances) {
+        this.document = document;
+        this.depth = depth;
+        this.pendingInstances = pendingInstances;
+    }
+    
+    /**
+     * @return The scope of the current thread or {@code null} if no resource
+     *         is deserialized.
+     */
+    static DecodingScope current() {
+        return CURRENT.get();
+    }
+    
+    /**
+     * Opens a new scope for a top-level deserialization. It has to be closed
+     * by {@link #close()}.
+     * 
+     * @param context The context of the top-level deserialization, whose
+     *            attributes configure the scope.
+     */
+    static DecodingScope open(DeserializationContext context) {
+        Object limits = context.getAttribute(HalDecodingLimits.ATTRIBUTE);
+        Object parallelDecodingConfig = context.getAttribute(ParallelDecodingConfig.ATTRIBUTE);
+        Object listener = context.getAttribute(HalDeserializationListener.ATTRIBUTE);
+        Document document = new Document(
+                limits instanceof HalDecodingLimits ? (HalDecodingLimits) limits
+                        : HalDecodingLimits.getDefault(),
+                parallelDecodingConfig instanceof ParallelDecodingConfig
+                        ? (ParallelDecodingConfig) parallelDecodingConfig
+                        : ParallelDecodingConfig.getDefault(),
+                listener instanceof HalDeserializationListener
+                        ? (HalDeserializationListener) listener
+                        : HalResourceDeserializer.getListener());
+        DecodingScope scope = new DecodingScope(document, 0, null);
+        CURRENT.set(scope);
+        return scope;
+    }
+    
+    /**
+     * Binds a scope to the current thread.
+     * 
+     * @param scope The scope, may be {@code null}.
+     * @return The previous scope of the thread, to be passed to
+     *         {@link #restore(DecodingScope)}.
+     */
+    static DecodingScope enter(DecodingScope scope) {
+        DecodingScope previous = CURRENT.get();
+        CURRENT.set(scope);
+        return previous;
+    }
+    
+    static void restore(DecodingScope previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+    
+    void close() {
+        CURRENT.remove();
+    }
+    
+    /**
+     * Creates a scope of the same document for another thread, which starts
+     * at the current depth. The instances bound by this thread are visible to
+     * the fork, so elements decoded by it can refer to their parents.
+     */
+    DecodingScope fork() {
+        Map<Object, Object> pendingInstances = this.pendingInstances == null ? null
+                : new HashMap<>(this.pendingInstances);
+        return new DecodingScope(this.document, this.depth, pendingInstances);
+    }
+    
+    /**
+     * Creates a scope for binding a relation, which has been captured in this
+     * scope, after the document has been read. It starts at the current depth
+     * and has the limits and the configuration of this scope, but a new
+     * identity map and element count. The scope is not bound to a thread, it
+     * has to be {@link #enter(DecodingScope) entered} for binding.
+     */
+    DecodingScope detach() {
+        Document detachedDocument = new Document(this.document.limits,
+                this.document.parallelDecodingConfig, this.document.listener);
+        return new DecodingScope(detachedDocument, this.depth, null);
+    }
+    
+    HalDecodingLimits getLimits() {
+        return document.limits;
+    }
+    
+    ParallelDecodingConfig getParallelDecodingConfig() {
+        return document.parallelDecodingConfig;
+    }
+    
+    HalDeserializationListener getListener() {
+        return document.listener;
+    }
+    
+    /**
+     * Enters a nested resource.
+     * 
+     * @param type The resource class.
+     * @throws HalDecodingLimitExceededException If the maximum depth is
+     *             exceeded.
+     */
+    void enterResource(Class<?> type) {
+        int maxDepth = document.limits.getMaxDepth();
+        if (++this.depth > maxDepth) {
+            this.depth--;
+            throw new HalDecodingLimitExceededException("Resource " + type.getName()
+                    + " exceeds the maximum nesting depth of " + maxDepth, maxDepth);
+        }
+    }
+    
+    void exitResource() {
+        this.depth--;
+    }
+    
+    /**
+     * Checks the number of properties of a resource.
+     * 
+     * @param type The resource class.
+     * @param propertyCount The number of properties read so far.
+     * @throws HalDecodingLimitExceededException If the maximum number of
+     *             properties is exceeded.
+     */
+    void propertyRead(Class<?> type, int propertyCount) {
+        int maxProperties = document.limits.getMaxProperties();
+        if (propertyCount > maxProperties) {
+            throw new HalDecodingLimitExceededException("Resource " + type.getName()
+                    + " exceeds the maximum of " + maxProperties + " properties",
+                    maxProperties);
+        }
+    }
+    
+    /**
+     * Creates a counter for the elements of an embedded relation. Without a
+     * scope, e.g. when elements of a captured iterator are bound, only the
+     * limit per relation of the default limits applies.
+     * 
+     * @param scope The scope, may be {@code null}.
+     * @param relationName The name of the relation.
+     * @return The counter.
+     */
+    static ElementCounter countElements(DecodingScope scope, String relationName) {
+        if (scope == null) {
+            return new ElementCounter(null, HalDecodingLimits.getDefault(), relationName);
+        }
+        return new ElementCounter(scope.document, scope.document.limits, relationName);
+    }
+    
+    /**
+     * Looks up an instance which is bound by this thread or has been
+     * published.
+     * 
+     * @param type The resource class.
+     * @param id The identity, may be {@code null}.
+     * @return The instance registered with the identity or {@code null} if
+     *         there is none.
+     */
+    Object find(Class<?> type, Object id) {
+        if (id == null) {
+            return null;
+        }
+        Object key = new SimpleImmutableEntry<>(type, id);
+        if (this.pendingInstances != null) {
+            Object instance = this.pendingInstances.get(key);
+            if (instance != null) {
+                return instance;
+            }
+        }
+        Map<Object, Object> instances = document.instances;
+        return instances == null ? null : instances.get(key);
+    }
+    
+    /**
+     * Registers an instance, which is still bound by this thread, unless an
+     * instance with the same identity exists. The instance is only visible to
+     * this thread until it is {@link #publish(Class, Object, Object)
+     * published}.
+     * 
+     * @param type The resource class.
+     * @param id The identity of the instance, may be {@code null}.
+     * @param instance The instance.
+     * @return The existing instance with the same identity or {@code null} if
+     *         the instance has been registered.
+     */
+    Object registerPending(Class<?> type, Object id, Object instance) {
+        Object existingInstance = find(type, id);
+        if (id == null || existingInstance != null) {
+            return existingInstance;
+        }
+        if (this.pendingInstances == null) {
+            this.pendingInstances = new HashMap<>();
+        }
+        this.pendingInstances.put(new SimpleImmutableEntry<>(type, id), instance);
+        return null;
+    }
+    
+    /**
+     * Publishes a fully bound instance to all threads decoding the document.
+     * If another thread has published an instance with the same identity in
+     * the meantime, that instance is kept.
+     * 
+     * @param type The resource class.
+     * @param id The identity of the instance, may be {@code null}.
+     * @param instance The instance.
+     * @return The published instance with the identity, which is the given
+     *         instance unless another thread was faster.
+     */
+    Object publish(Class<?> type, Object id, Object instance) {
+        if (id == null) {
+            return instance;
+        }
+        Object key = new SimpleImmutableEntry<>(type, id);
+        if (this.pendingInstances != null) {
+            this.pendingInstances.remove(key);
+        }
+        Object existingInstance = document.getInstances().putIfAbsent(key, instance);
+        return existingInstance == null ? instance : existingInstance;
+    }
+    
+    /**
+     * Publishes an instance, which has been created after all its values were
+     * read. It replaces an instance with the same identity published in the
+     * meantime, e.g. a reference to the resource from within itself.
+     * 
+     * @param type The resource class.
+     * @param id The identity of the instance, may be {@code null}.
+     * @param instance The instance.
+     */
+    void publishCreated(Class<?> type, Object id, Object instance) {
+        if (id != null) {
+            document.getInstances().put(new SimpleImmutableEntry<>(type, id), instance);
+        }
+    }
+    
+    /**
+     * Counts the elements of one embedded relation against the limits.
+     * 
+     * @author Felix Jordan
+     * @since 18.10.2026 - 22:40:13
+     * @version 1.0
+     */
+    static class ElementCounter {
+        
+        private final Document document;
+        private final int maxElements;
+        private final String relationName;
+        private int count;
+        
+        private ElementCounter(Document document, HalDecodingLimits limits,
+                String relationName) {
+            this.document = document;
+            this.maxElements = limits.getMaxEmbeddedElementsPerRelation();
+            this.relationName = relationName;
+        }
+        
+        /**
+         * Counts the next element before it is read.
+         * 
+         * @throws HalDecodingLimitExceededException If a limit is exceeded.
+         */
+        void elementRead() {
+            if (++this.count > this.maxElements) {
+                throw new HalDecodingLimitExceededException(
+                        "Embedded resource '" + this.relationName + "' exceeds the maximum of "
+                                + this.maxElements + " elements",
+                        this.maxElements);
+            }
+            if (this.document != null) {
+                this.document.elementRead();
+            }
+        }
+    }
+    
+    /**
+     * State shared by all threads decoding the same document.
+     */
+    private static class Document {
+        
+        private final HalDecodingLimits limits;
+        private final ParallelDecodingConfig parallelDecodingConfig;
+        private final HalDeserializationListener listener;
+        private final boolean elementsLimited;
+        private final AtomicInteger elementCount = new AtomicInteger();
+        private volatile Map<Object, Object> instances;
+        
+        Document(HalDecodingLimits limits, ParallelDecodingConfig parallelDecodingConfig,
+                HalDeserializationListener listener) {
+            this.limits = limits;
+            this.parallelDecodingConfig = parallelDecodingConfig;
+            this.listener = listener;
+            this.elementsLimited = limits.getMaxEmbeddedElementsPerDocument() != Integer.MAX_VALUE;
+        }
+        
+        void elementRead() {
+            if (!this.elementsLimited) {
+                return;
+            }
+            int maxElements = this.limits.getMaxEmbeddedElementsPerDocument();
+            if (this.elementCount.incrementAndGet() > maxElements) {
+                throw new HalDecodingLimitExceededException(
+                        "Document exceeds the maximum of " + maxElements + " embedded resources",
+                        maxElements);
+            }
+        }
+        
+        Map<Object, Object> getInstances() {
+            Map<Object, Object> instances = this.instances;
+            if (instances == null) {
+                synchronized (this) {
+                    instances = this.instances;
+                    if (instances == null) {
+                        instances = new ConcurrentHashMap<>();
+                        this.instances = instances;
+                    }
+                }
+            }
+            return instances;
+        }
+    }
+}
@@ -10,7 +10,7 @@ import java.lang.annotation.Target;
  * @since 14.04.2017 - 23:49:40
  * @version 1.0
  */
-@Target({ElementType.FIELD, ElementType.METHOD})
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Embedded {
     
@@ -18,6 +18,13 @@ public @interface Embedded {
     
     Class<?> collectionContentType() default DefaultCollectionContentType.class;
     
+    /**
+     * Binds the elements of an embedded array or collection concurrently, as
+     * configured by the {@link ParallelDecodingConfig} of the mapper. Only worth it
+     * for collections with thousands of elements.
+     */
+    boolean parallel() default false;
+    
     /**
      * Empty class to have a default value for the
      * {@link Embedded#collectionContentType()} property.
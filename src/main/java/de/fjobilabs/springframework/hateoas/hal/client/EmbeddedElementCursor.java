@@ -0,0 +1,88 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Moves a parser from element to element of an embedded collection, without
+ * binding the elements.<br>
+ * An embedded collection is a resources document, whose elements are
+ * embedded under one or more relations:
+ * 
+ * <pre>
+ * { "_embedded": { "items": [ {...}, {...} ] }, "_links": {...} }
+ * </pre>
+ * 
+ * The elements of all relations are returned in document order, like the
+ * HAL resources deserializer of Spring HATEOAS does. A plain JSON array of
+ * elements is accepted as well.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 14:48:20
+ * @version 1.0
+ */
+class EmbeddedElementCursor {
+    
+    private static final String EMBEDDED_ELEMENT_NAME = "_embedded";
+    
+    private final JsonParser parser;
+    private final boolean plainArray;
+    private boolean inEmbedded;
+    private boolean inArray;
+    private boolean finished;
+    
+    /**
+     * @param parser The parser, positioned at the first token of the
+     *            collection.
+     */
+    EmbeddedElementCursor(JsonParser parser) {
+        this.parser = parser;
+        JsonToken token = parser.getCurrentToken();
+        this.plainArray = token == JsonToken.START_ARRAY;
+        this.inArray = this.plainArray;
+        this.finished = token != JsonToken.START_OBJECT && !this.plainArray;
+    }
+    
+    /**
+     * Moves the parser to the first token of the next element. The caller
+     * has to consume the whole element before calling this method again. Once
+     * there are no more elements, the parser is positioned at the last token
+     * of the collection.
+     * 
+     * @return {@code true} if there is a next element.
+     * @throws IOException If reading from the parser fails.
+     */
+    boolean next() throws IOException {
+        while (!this.finished) {
+            if (this.inArray) {
+                if (this.parser.nextToken() != JsonToken.END_ARRAY) {
+                    return true;
+                }
+                this.inArray = false;
+                this.finished = this.plainArray;
+            } else if (this.inEmbedded) {
+                if (this.parser.nextToken() == JsonToken.END_OBJECT) {
+                    this.inEmbedded = false;
+                } else if (this.parser.nextToken() == JsonToken.START_ARRAY) {
+                    this.inArray = true;
+                } else {
+                    // A relation with a single element
+                    return true;
+                }
+            } else if (this.parser.nextToken() == JsonToken.END_OBJECT) {
+                this.finished = true;
+            } else {
+                String name = this.parser.getCurrentName();
+                if (this.parser.nextToken() == JsonToken.START_OBJECT
+                        && EMBEDDED_ELEMENT_NAME.equals(name)) {
+                    this.inEmbedded = true;
+                } else {
+                    this.parser.skipChildren();
+                }
+            }
+        }
+        return false;
+    }
+}
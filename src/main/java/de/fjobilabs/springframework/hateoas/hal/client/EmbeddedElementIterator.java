@@ -0,0 +1,77 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import de.fjobilabs.springframework.hateoas.hal.client.exception.EmbeddedResourcePropertyException;
+
+/**
+ * {@link Iterator} over the captured tokens of an embedded collection, which
+ * binds one element at a time when it is requested.<br>
+ * The tokens of all elements are buffered while the resource is read, so the
+ * raw relation is held in memory until the iteration is done. Only the bound
+ * objects are created one at a time and can be released after use. To process
+ * a relation without buffering it, declare the property as
+ * {@link java.util.function.Consumer Consumer}.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 15:03:52
+ * @version 1.0
+ * @param <T> The element type.
+ */
+class EmbeddedElementIterator<T> implements Iterator<T> {
+    
+    private final String relationName;
+    private final Class<T> elementType;
+    private final JsonParser parser;
+    private final EmbeddedElementCursor cursor;
+    private Boolean hasNext;
+    
+    EmbeddedElementIterator(String relationName, Class<T> elementType, TokenBuffer tokens,
+            ObjectCodec codec) {
+        this.relationName = relationName;
+        this.elementType = elementType;
+        this.parser = tokens.asParser(codec);
+        try {
+            this.parser.nextToken();
+        } catch (IOException e) {
+            throw createException(e);
+        }
+        this.cursor = new EmbeddedElementCursor(this.parser);
+    }
+    
+    @Override
+    public boolean hasNext() {
+        if (this.hasNext == null) {
+            try {
+                this.hasNext = this.cursor.next();
+            } catch (IOException e) {
+                throw createException(e);
+            }
+        }
+        return this.hasNext;
+    }
+    
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.hasNext = null;
+        try {
+            return this.parser.readValueAs(this.elementType);
+        } catch (IOException e) {
+            throw createException(e);
+        }
+    }
+    
+    private EmbeddedResourcePropertyException createException(IOException cause) {
+        return new EmbeddedResourcePropertyException(
+                "Failed to read embedded resource '" + this.relationName + "'", cause);
+    }
+}
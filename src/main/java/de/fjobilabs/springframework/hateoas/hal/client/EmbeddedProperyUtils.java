@@ -5,13 +5,19 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationUtils;
 
 import de.fjobilabs.springframework.hateoas.hal.client.exception.EmbeddedResourcePropertyException;
@@ -28,11 +34,17 @@ public class EmbeddedProperyUtils {
     
     public static Map<String, EmbeddedResourcePropertyDescriptor> createPropertyDescriptorMap(
             Class<?> type) {
+        return createPropertyDescriptorMap(type,
+                HalResourceMetadataRegistry.getPropertyAccessorStrategy());
+    }
+    
+    public static Map<String, EmbeddedResourcePropertyDescriptor> createPropertyDescriptorMap(
+            Class<?> type, PropertyAccessorStrategy accessorStrategy) {
         Map<String, EmbeddedResourcePropertyDescriptor> propetyDescriptors = new HashMap<>();
         PropertyDescriptor[] descriptors = BeanUtils.getPropertyDescriptors(type);
         for (PropertyDescriptor descriptor : descriptors) {
             EmbeddedResourcePropertyDescriptor propertyDescriptor = createEmbeddedResourcePropertyDescriptor(
-                    descriptor);
+                    type, descriptor, accessorStrategy);
             if (propertyDescriptor != null) {
                 propetyDescriptors.put(propertyDescriptor.getRelationName(), propertyDescriptor);
             }
@@ -44,53 +56,177 @@ public class EmbeddedProperyUtils {
             Map<String, EmbeddedResourcePropertyDescriptor> propertyDescriptors, Object instance,
             Map<String, Object> properties) {
         for (Entry<String, Object> property : properties.entrySet()) {
-            setEmbeddedResource(instance, propertyDescriptors.get(property.getKey()),
+            setEmbeddedResource(propertyDescriptors.get(property.getKey()), instance,
                     property.getValue());
         }
     }
     
-    private static void setEmbeddedResource(Object instance,
-            EmbeddedResourcePropertyDescriptor descriptor, Object embeddedResource) {
-        Method writerMethod = descriptor.getWriteMethod();
-        if (writerMethod == null) {
+    public static void setEmbeddedResource(EmbeddedResourcePropertyDescriptor descriptor,
+            Object instance, Object embeddedResource) {
+        PropertyWriteAccessor accessor = descriptor.getWriteAccessor();
+        if (accessor == null) {
             throw new EmbeddedResourcePropertyException(
                     "Embedded resource '" + descriptor.getRelationName() + "' can't be written");
         }
         try {
-            writerMethod.invoke(instance, embeddedResource);
+            accessor.write(instance, embeddedResource);
         } catch (IllegalAccessException e) {
             throw new EmbeddedResourcePropertyException(
                     "Cannot acess writer method for embedded resource '"
                             + descriptor.getRelationName() + "'",
                     e);
-        } catch (IllegalArgumentException | InvocationTargetException e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new EmbeddedResourcePropertyException(
                     "Failed to write embedded resource '" + descriptor.getRelationName() + "'", e);
         }
     }
     
     private static EmbeddedResourcePropertyDescriptor createEmbeddedResourcePropertyDescriptor(
-            PropertyDescriptor descriptor) {
-        EmbeddedResourcePropertyDescriptor propertyDescriptor = getPropertyDescriptorFromMethod(
-                descriptor.getReadMethod(), descriptor.getPropertyType());
-        if (propertyDescriptor == null) {
-            propertyDescriptor = getPropertyDescriptorFromMethod(descriptor.getWriteMethod(),
-                    descriptor.getPropertyType());
-        }
-        return propertyDescriptor;
+            Class<?> beanClass, PropertyDescriptor descriptor,
+            PropertyAccessorStrategy accessorStrategy) {
+        Embedded annotation = getEmbeddedAnnotation(descriptor.getReadMethod());
+        if (annotation == null) {
+            annotation = getEmbeddedAnnotation(descriptor.getWriteMethod());
+        }
+        if (annotation == null) {
+            return null;
+        }
+        // The annotation may be placed on the getter, but we always write by the setter
+        Method writeMethod = descriptor.getWriteMethod();
+        PropertyWriteAccessor accessor = null;
+        if (writeMethod != null) {
+            accessor = accessorStrategy.createWriteAccessor(writeMethod);
+        }
+        Class<?> type = descriptor.getPropertyType();
+        // The getter of a lazy property usually returns the unwrapped value
+        boolean lazy = writeMethod != null
+                && LazyEmbedded.class.equals(writeMethod.getParameterTypes()[0]);
+        if (lazy) {
+            type = resolveLazyEmbeddedType(beanClass, writeMethod);
+        }
+        Class<?> collectionContentType = annotation.collectionContentType();
+        if (isElementStreamType(type)
+                && Embedded.DefaultCollectionContentType.class.equals(collectionContentType)) {
+            collectionContentType = resolveElementType(beanClass, descriptor, type);
+        }
+        return new EmbeddedResourcePropertyDescriptor(writeMethod, descriptor.getReadMethod(),
+                annotation.value(), type, collectionContentType, accessor, lazy,
+                annotation.parallel());
     }
     
-    private static EmbeddedResourcePropertyDescriptor getPropertyDescriptorFromMethod(Method method,
-            Class<?> propertyType) {
+    /**
+     * Creates the descriptor of an embedded resource passed to a
+     * {@link ResourceCreator}. The descriptor has no accessors, because the
+     * resource is an argument of the constructor.
+     * 
+     * @param constructor The creator constructor.
+     * @param index The index of the parameter.
+     * @param annotation The annotation of the embedded resource.
+     * @return The descriptor.
+     */
+    static EmbeddedResourcePropertyDescriptor createParameterDescriptor(Constructor<?> constructor,
+            int index, Embedded annotation) {
+        MethodParameter parameter = new MethodParameter(constructor, index);
+        ResolvableType parameterType = ResolvableType.forMethodParameter(parameter);
+        Class<?> type = parameter.getParameterType();
+        boolean lazy = LazyEmbedded.class.equals(type);
+        if (lazy) {
+            parameterType = parameterType.getGeneric(0);
+            type = parameterType.resolve();
+            if (type == null) {
+                throw new EmbeddedResourcePropertyException(
+                        "Can't resolve the embedded type of lazy parameter " + index + " of "
+                                + constructor);
+            }
+        }
+        Class<?> collectionContentType = annotation.collectionContentType();
+        if (isElementStreamType(type)
+                && Embedded.DefaultCollectionContentType.class.equals(collectionContentType)) {
+            collectionContentType = parameterType.as(type).getGeneric(0)
+                    .resolve(Embedded.DefaultCollectionContentType.class);
+        }
+        return new EmbeddedResourcePropertyDescriptor(null, null, annotation.value(), type,
+                collectionContentType, null, lazy, annotation.parallel());
+    }
+    
+    /**
+     * Returns the consumer of a property declared as {@link Consumer}, which
+     * receives the elements of the embedded collection as they are read.
+     * 
+     * @param descriptor The descriptor of the property.
+     * @param instance The instance to read the consumer from.
+     * @return The consumer or {@code null} if the instance has no consumer.
+     */
+    @SuppressWarnings("unchecked")
+    public static Consumer<Object> getEmbeddedResourceConsumer(
+            EmbeddedResourcePropertyDescriptor descriptor, Object instance) {
+        Method readMethod = descriptor.getReadMethod();
+        if (readMethod == null) {
+            throw new EmbeddedResourcePropertyException("Consumer of embedded resource '"
+                    + descriptor.getRelationName() + "' can't be read");
+        }
+        try {
+            return (Consumer<Object>) readMethod.invoke(instance);
+        } catch (IllegalAccessException e) {
+            throw new EmbeddedResourcePropertyException(
+                    "Cannot acess reader method for embedded resource '"
+                            + descriptor.getRelationName() + "'",
+                    e);
+        } catch (IllegalArgumentException | InvocationTargetException e) {
+            throw new EmbeddedResourcePropertyException(
+                    "Failed to read consumer of embedded resource '"
+                            + descriptor.getRelationName() + "'",
+                    e);
+        }
+    }
+    
+    /**
+     * Types which receive the elements of an embedded collection one by one.
+     */
+    private static boolean isElementStreamType(Class<?> type) {
+        return Iterator.class.equals(type) || Stream.class.equals(type)
+                || Consumer.class.equals(type);
+    }
+    
+    /**
+     * Resolves {@code T} of a property declared as {@code Iterator<T>},
+     * {@code Stream<T>} or {@code Consumer<T>}.
+     */
+    private static Class<?> resolveElementType(Class<?> beanClass, PropertyDescriptor descriptor,
+            Class<?> type) {
+        ResolvableType propertyType;
+        if (descriptor.getWriteMethod() != null) {
+            propertyType = ResolvableType.forMethodParameter(descriptor.getWriteMethod(), 0,
+                    beanClass);
+        } else {
+            propertyType = ResolvableType.forMethodReturnType(descriptor.getReadMethod(),
+                    beanClass);
+        }
+        return propertyType.as(type).getGeneric(0)
+                .resolve(Embedded.DefaultCollectionContentType.class);
+    }
+    
+    /**
+     * Resolves {@code T} of a property declared as {@code LazyEmbedded<T>}.
+     */
+    private static Class<?> resolveLazyEmbeddedType(Class<?> beanClass, Method writeMethod) {
+        Class<?> type = ResolvableType.forMethodParameter(writeMethod, 0, beanClass).getGeneric(0)
+                .resolve();
+        if (type == null) {
+            throw new EmbeddedResourcePropertyException(
+                    "Can't resolve the embedded type of lazy property '" + writeMethod.getName()
+                            + "' of " + beanClass);
+        }
+        return type;
+    }
+    
+    private static Embedded getEmbeddedAnnotation(Method method) {
         if (method == null) {
             return null;
         }
-        Embedded annotation = AnnotationUtils.getAnnotation(method, Embedded.class);
-        if (annotation != null) {
-            return new EmbeddedResourcePropertyDescriptor(method, annotation.value(), propertyType,
-                    annotation.collectionContentType());
-        }
-        return null;
+        return AnnotationUtils.getAnnotation(method, Embedded.class);
     }
     
     public static class EmbeddedResourcePropertyDescriptor implements Serializable {
@@ -98,20 +234,78 @@ public class EmbeddedProperyUtils {
         private static final long serialVersionUID = 201632889205761170L;
         
         private SerializableMethod writeMethod;
+        private SerializableMethod readMethod;
         private String relationName;
         private Class<?> type;
         private Class<?> collectionContentType;
+        private transient PropertyWriteAccessor writeAccessor;
+        private boolean lazy;
+        private boolean parallel;
         
         public EmbeddedResourcePropertyDescriptor(Method writeMethod, String relationName,
                 Class<?> type, Class<?> collectionContentType) {
-            this.writeMethod = new SerializableMethod(writeMethod);
+            this(writeMethod, relationName, type, collectionContentType, null);
+        }
+        
+        public EmbeddedResourcePropertyDescriptor(Method writeMethod, String relationName,
+                Class<?> type, Class<?> collectionContentType,
+                PropertyWriteAccessor writeAccessor) {
+            this(writeMethod, null, relationName, type, collectionContentType, writeAccessor,
+                    false, false);
+        }
+        
+        /**
+         * @param writeMethod The write method of the property.
+         * @param readMethod The read method of the property, only used for
+         *            {@link Consumer} properties.
+         * @param relationName The name of the relation in {@code _embedded}.
+         * @param type The type the embedded resource is bound to. For a lazy
+         *            property this is the type argument of the
+         *            {@link LazyEmbedded} holder.
+         * @param collectionContentType The content type of an array,
+         *            collection, {@link Iterator}, {@link Stream} or
+         *            {@link Consumer}.
+         * @param writeAccessor The accessor to invoke the write method.
+         * @param lazy Whether the property is declared as
+         *            {@link LazyEmbedded}.
+         * @param parallel Whether the elements of an array or collection are
+         *            bound concurrently.
+         */
+        public EmbeddedResourcePropertyDescriptor(Method writeMethod, Method readMethod,
+                String relationName, Class<?> type, Class<?> collectionContentType,
+                PropertyWriteAccessor writeAccessor, boolean lazy, boolean parallel) {
+            this.writeMethod = writeMethod == null ? null : new SerializableMethod(writeMethod);
+            this.readMethod = readMethod == null ? null : new SerializableMethod(readMethod);
             this.relationName = relationName;
             this.type = type;
             this.collectionContentType = collectionContentType;
+            this.writeAccessor = writeAccessor;
+            this.lazy = lazy;
+            this.parallel = parallel;
         }
         
         public Method getWriteMethod() {
-            return writeMethod.getMethod();
+            return writeMethod == null ? null : writeMethod.getMethod();
+        }
+        
+        public Method getReadMethod() {
+            return readMethod == null ? null : readMethod.getMethod();
+        }
+        
+        /**
+         * Returns the accessor to write the embedded resource. If no accessor
+         * was given, e.g. after Java deserialization, a reflective accessor is
+         * created.
+         * 
+         * @return The accessor or {@code null} if the property has no write
+         *         method.
+         */
+        public PropertyWriteAccessor getWriteAccessor() {
+            if (writeAccessor == null && writeMethod != null) {
+                writeAccessor = new ReflectionPropertyAccessorStrategy()
+                        .createWriteAccessor(writeMethod.getMethod());
+            }
+            return writeAccessor;
         }
         
         public String getRelationName() {
@@ -125,6 +319,14 @@ public class EmbeddedProperyUtils {
         public Class<?> getCollectionContentType() {
             return collectionContentType;
         }
+        
+        public boolean isLazy() {
+            return lazy;
+        }
+        
+        public boolean isParallel() {
+            return parallel;
+        }
     }
     
     private static class SerializableMethod implements Serializable {
@@ -0,0 +1,49 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.util.Map;
+
+import de.fjobilabs.springframework.hateoas.hal.client.EmbeddedProperyUtils.EmbeddedResourcePropertyDescriptor;
+import de.fjobilabs.springframework.hateoas.hal.client.PropertyUtils.PropertyWriter;
+
+/**
+ * Precomputed HAL model of a {@link HalResource} class, generated at compile
+ * time by the {@code spring-hateoas-hal-support-processor}.<br>
+ * The implementation of a resource class {@code com.example.MyResource} is
+ * named {@code com.example.MyResource_HalMetadata}. If it exists, the
+ * {@link HalResourceMetadataRegistry} builds the {@link HalResourceMetadata}
+ * from it instead of introspecting the class. The generated writers call the
+ * setters directly, without reflection.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 17:30:18
+ * @version 1.0
+ */
+public interface GeneratedHalResourceMetadata {
+    
+    /**
+     * Suffix of the name of the generated class, which is appended to the
+     * binary name of the resource class.
+     */
+    String CLASS_NAME_SUFFIX = "_HalMetadata";
+    
+    Class<?> getTargetClass();
+    
+    /**
+     * @return A new instance of the target class.
+     */
+    Object createInstance();
+    
+    /**
+     * @return The property writers, keyed by JSON property name, like
+     *         {@link PropertyUtils#createPropertyWriterMap(Class)}.
+     */
+    Map<String, PropertyWriter> createPropertyWriters();
+    
+    /**
+     * @return The embedded resource descriptors, keyed by relation name, like
+     *         {@link EmbeddedProperyUtils#createPropertyDescriptorMap(Class)}.
+     */
+    Map<String, EmbeddedResourcePropertyDescriptor> createEmbeddedResourcePropertyDescriptors();
+    
+    boolean isIgnoreUnknownProperties();
+}
@@ -0,0 +1,138 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import org.springframework.util.Assert;
+
+/**
+ * Limits of a HAL document, which protect the {@link HalResourceDeserializer}
+ * against hostile or oversized payloads.<br>
+ * The limits are checked while the document is read, before the offending
+ * value is bound. A violation fails the deserialization with a
+ * {@link de.fjobilabs.springframework.hateoas.hal.client.exception.HalDecodingLimitExceededException
+ * HalDecodingLimitExceededException}.<br>
+ * The limits are set per {@link com.fasterxml.jackson.databind.ObjectMapper
+ * ObjectMapper} as deserialization attribute, otherwise the
+ * {@link #getDefault() default limits} are used. By default nothing is
+ * limited:
+ * 
+ * <pre>
+ * mapper.setConfig(mapper.getDeserializationConfig()
+ *         .withAttribute(HalDecodingLimits.ATTRIBUTE, HalDecodingLimits.UNLIMITED
+ *                 .withMaxDepth(16)
+ *                 .withMaxEmbeddedElementsPerRelation(10000)
+ *                 .withMaxEmbeddedElementsPerDocument(100000)
+ *                 .withMaxProperties(500)));
+ * </pre>
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 22:24:51
+ * @version 1.0
+ */
+public final class HalDecodingLimits {
+    
+    /**
+     * Name of the deserialization attribute holding the limits.
+     */
+    public static final String ATTRIBUTE = HalDecodingLimits.class.getName();
+    
+    public static final HalDecodingLimits UNLIMITED = new HalDecodingLimits(Integer.MAX_VALUE,
+            Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    
+    private static volatile HalDecodingLimits defaultLimits = UNLIMITED;
+    
+    private final int maxDepth;
+    private final int maxEmbeddedElementsPerRelation;
+    private final int maxEmbeddedElementsPerDocument;
+    private final int maxProperties;
+    
+    /**
+     * @param maxDepth The maximum nesting depth of resources, the top-level
+     *            resource has a depth of {@code 1}.
+     * @param maxEmbeddedElementsPerRelation The maximum number of elements of
+     *            a single embedded relation.
+     * @param maxEmbeddedElementsPerDocument The maximum number of embedded
+     *            resources in the whole document.
+     * @param maxProperties The maximum number of properties of a single
+     *            resource, including {@code _links} and {@code _embedded}.
+     */
+    public HalDecodingLimits(int maxDepth, int maxEmbeddedElementsPerRelation,
+            int maxEmbeddedElementsPerDocument, int maxProperties) {
+        Assert.isTrue(maxDepth > 0, "Maximum depth must be greater than 0");
+        Assert.isTrue(maxEmbeddedElementsPerRelation >= 0,
+                "Maximum embedded elements per relation must not be negative");
+        Assert.isTrue(maxEmbeddedElementsPerDocument >= 0,
+                "Maximum embedded elements per document must not be negative");
+        Assert.isTrue(maxProperties >= 0, "Maximum properties must not be negative");
+        this.maxDepth = maxDepth;
+        this.maxEmbeddedElementsPerRelation = maxEmbeddedElementsPerRelation;
+        this.maxEmbeddedElementsPerDocument = maxEmbeddedElementsPerDocument;
+        this.maxProperties = maxProperties;
+    }
+    
+    /**
+     * Returns the limits used by all deserializers, which are
+     * {@link #UNLIMITED} by default.
+     * 
+     * @return The limits.
+     */
+    public static HalDecodingLimits getDefault() {
+        return defaultLimits;
+    }
+    
+    /**
+     * Sets the limits used by all deserializers. Documents which are already
+     * being read keep their limits.
+     * 
+     * @param limits The limits.
+     */
+    public static void setDefault(HalDecodingLimits limits) {
+        Assert.notNull(limits, "HalDecodingLimits must not be null");
+        defaultLimits = limits;
+    }
+    
+    public HalDecodingLimits withMaxDepth(int maxDepth) {
+        return new HalDecodingLimits(maxDepth, maxEmbeddedElementsPerRelation,
+                maxEmbeddedElementsPerDocument, maxProperties);
+    }
+    
+    public HalDecodingLimits withMaxEmbeddedElementsPerRelation(
+            int maxEmbeddedElementsPerRelation) {
+        return new HalDecodingLimits(maxDepth, maxEmbeddedElementsPerRelation,
+                maxEmbeddedElementsPerDocument, maxProperties);
+    }
+    
+    public HalDecodingLimits withMaxEmbeddedElementsPerDocument(
+            int maxEmbeddedElementsPerDocument) {
+        return new HalDecodingLimits(maxDepth, maxEmbeddedElementsPerRelation,
+                maxEmbeddedElementsPerDocument, maxProperties);
+    }
+    
+    public HalDecodingLimits withMaxProperties(int maxProperties) {
+        return new HalDecodingLimits(maxDepth, maxEmbeddedElementsPerRelation,
+                maxEmbeddedElementsPerDocument, maxProperties);
+    }
+    
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+    
+    public int getMaxEmbeddedElementsPerRelation() {
+        return maxEmbeddedElementsPerRelation;
+    }
+    
+    public int getMaxEmbeddedElementsPerDocument() {
+        return maxEmbeddedElementsPerDocument;
+    }
+    
+    public int getMaxProperties() {
+        return maxProperties;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format(
+                "HalDecodingLimits { maxDepth: %d, maxEmbeddedElementsPerRelation: %d, "
+                        + "maxEmbeddedElementsPerDocument: %d, maxProperties: %d }",
+                maxDepth, maxEmbeddedElementsPerRelation, maxEmbeddedElementsPerDocument,
+                maxProperties);
+    }
+}
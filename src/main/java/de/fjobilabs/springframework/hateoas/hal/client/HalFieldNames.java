@@ -0,0 +1,174 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import de.fjobilabs.springframework.hateoas.hal.client.PropertyUtils.PropertyWriter;
+
+/**
+ * The pre-encoded field names of a resource class in the order they are
+ * expected in a document.<br>
+ * Every name has an ordinal: {@link #LINKS} and {@link #EMBEDDED} for the HAL
+ * elements and {@link #PROPERTIES} plus an index for the properties. The
+ * {@link HalResourceDeserializer} matches the next field name against the
+ * expected one with {@link com.fasterxml.jackson.core.JsonParser#nextFieldName(SerializableString)},
+ * which compares the encoded bytes for JSON input. Only names out of the
+ * expected order are looked up by {@link #getOrdinal(String)}.<br>
+ * Properties are expected in the order Jackson serializes them, followed by
+ * {@code _links} and {@code _embedded}, like Spring HATEOAS renders them.
+ * Writable properties Jackson doesn't serialize are expected last.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:56:02
+ * @version 1.0
+ */
+class HalFieldNames {
+    
+    static final String LINKS_NAME = "_links";
+    static final String EMBEDDED_NAME = "_embedded";
+    
+    static final int UNKNOWN = -1;
+    static final int LINKS = 0;
+    static final int EMBEDDED = 1;
+    static final int PROPERTIES = 2;
+    
+    /**
+     * Only used to introspect the serialization order.
+     */
+    private static final ObjectMapper INTROSPECTION_MAPPER = new ObjectMapper();
+    
+    private final SerializedString[] expectedNames;
+    private final int[] expectedOrdinals;
+    /**
+     * The position in the expected order by ordinal.
+     */
+    private final int[] positions;
+    private final PropertyWriter[] propertyWriters;
+    private final Map<String, Integer> ordinals;
+    
+    private HalFieldNames(List<String> propertyNames, Map<String, PropertyWriter> writers) {
+        this(propertyNames, Collections.emptyList(), writers);
+    }
+    
+    /**
+     * @param propertyNames The names of the properties expected before the
+     *            HAL elements.
+     * @param trailingPropertyNames The names of the properties expected after
+     *            the HAL elements.
+     * @param writers The writers of all properties.
+     */
+    private HalFieldNames(List<String> propertyNames, List<String> trailingPropertyNames,
+            Map<String, PropertyWriter> writers) {
+        List<String> allNames = new ArrayList<>(propertyNames);
+        allNames.addAll(trailingPropertyNames);
+        int count = PROPERTIES + allNames.size();
+        this.expectedNames = new SerializedString[count];
+        this.expectedOrdinals = new int[count];
+        this.positions = new int[count];
+        this.propertyWriters = new PropertyWriter[allNames.size()];
+        this.ordinals = new HashMap<>();
+        int position = 0;
+        for (int i = 0; i < allNames.size(); i++) {
+            this.propertyWriters[i] = writers.get(allNames.get(i));
+            if (i < propertyNames.size()) {
+                add(position++, PROPERTIES + i, allNames.get(i));
+            }
+        }
+        add(position++, LINKS, LINKS_NAME);
+        add(position++, EMBEDDED, EMBEDDED_NAME);
+        for (int i = propertyNames.size(); i < allNames.size(); i++) {
+            add(position++, PROPERTIES + i, allNames.get(i));
+        }
+    }
+    
+    private void add(int position, int ordinal, String name) {
+        SerializedString encodedName = new SerializedString(name);
+        // Encodes the name once instead of on the first comparison
+        encodedName.asQuotedUTF8();
+        this.expectedNames[position] = encodedName;
+        this.expectedOrdinals[position] = ordinal;
+        this.positions[ordinal] = position;
+        this.ordinals.put(name, ordinal);
+    }
+    
+    /**
+     * Creates the names of a class whose properties are introspected by
+     * reflection.
+     */
+    static HalFieldNames introspect(Class<?> type, Map<String, PropertyWriter> writers) {
+        List<String> names = new ArrayList<>();
+        try {
+            for (BeanPropertyDefinition property : INTROSPECTION_MAPPER.getSerializationConfig()
+                    .introspect(INTROSPECTION_MAPPER.constructType(type)).findProperties()) {
+                if (writers.containsKey(property.getName())) {
+                    names.add(property.getName());
+                }
+            }
+        } catch (RuntimeException e) {
+            // The order is only a hint
+        }
+        Set<String> trailingNames = new LinkedHashSet<>(writers.keySet());
+        trailingNames.removeAll(names);
+        return new HalFieldNames(names, new ArrayList<>(trailingNames), writers);
+    }
+    
+    /**
+     * Creates the names in the iteration order of the writers, e.g. of
+     * generated metadata.
+     */
+    static HalFieldNames of(Map<String, PropertyWriter> writers) {
+        Collection<String> names = writers.keySet();
+        return new HalFieldNames(new ArrayList<>(names), writers);
+    }
+    
+    /**
+     * @param position The position in the expected order.
+     * @return The name expected at the position or {@code null} if no more
+     *         names are expected.
+     */
+    SerializableString getExpectedName(int position) {
+        return position < expectedNames.length ? expectedNames[position] : null;
+    }
+    
+    int getExpectedOrdinal(int position) {
+        return expectedOrdinals[position];
+    }
+    
+    /**
+     * @return The position of the name expected after the given ordinal.
+     */
+    int getNextPosition(int ordinal) {
+        return positions[ordinal] + 1;
+    }
+    
+    /**
+     * @return The ordinal of the name or {@link #UNKNOWN}.
+     */
+    int getOrdinal(String name) {
+        Integer ordinal = ordinals.get(name);
+        return ordinal == null ? UNKNOWN : ordinal;
+    }
+    
+    String getName(int ordinal) {
+        return expectedNames[positions[ordinal]].getValue();
+    }
+    
+    /**
+     * @param ordinal The ordinal of a property.
+     * @return The writer of the property.
+     */
+    PropertyWriter getPropertyWriter(int ordinal) {
+        return propertyWriters[ordinal - PROPERTIES];
+    }
+}
@@ -0,0 +1,32 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link HalResource} class whose instances are deduplicated within
+ * one document.<br>
+ * While a top-level resource is deserialized, every instance of the annotated
+ * class is registered by its identity. If the same identity occurs again, for
+ * example the same author embedded in every item of a list, the rest of that
+ * object is skipped and the first instance is reused. Instances are therefore
+ * shared and must not be modified independently.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 21:12:45
+ * @version 1.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface HalIdentity {
+    
+    /**
+     * The JSON name of the property identifying the resource. By default the
+     * href of the {@code self} link is used.
+     */
+    String property() default "";
+}
@@ -0,0 +1,202 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.hateoas.Link;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Compact storage of the {@code _links} of a {@link HalResource}.<br>
+ * Only the relation names and hrefs are stored, in two parallel arrays.
+ * Relation names are interned, so resources of the same type share their rel
+ * strings. {@link Link} objects are created only when they are requested.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 14:02:11
+ * @version 1.0
+ */
+public class HalLinks {
+    
+    static final HalLinks EMPTY = new HalLinks(0);
+    
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final String HREF_ATTRIBUTE_NAME = "href";
+    
+    private String[] rels;
+    private String[] hrefs;
+    private int size;
+    
+    HalLinks() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    private HalLinks(int capacity) {
+        this.rels = new String[capacity];
+        this.hrefs = new String[capacity];
+    }
+    
+    /**
+     * Reads a {@code _links} object. The parser must be positioned at the
+     * start of the object. Link attributes other than {@code href} are
+     * skipped.
+     * 
+     * @param parser The parser.
+     * @return The links.
+     * @throws IOException If reading from the parser fails.
+     */
+    static HalLinks read(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return EMPTY;
+        }
+        HalLinks links = EMPTY;
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String rel = parser.getCurrentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    links = readLink(rel, parser, links);
+                }
+            } else {
+                links = readLink(rel, parser, links);
+            }
+        }
+        return links;
+    }
+    
+    private static HalLinks readLink(String rel, JsonParser parser, HalLinks links)
+            throws IOException {
+        String href = readHref(parser);
+        if (href == null) {
+            return links;
+        }
+        HalLinks result = links == EMPTY ? new HalLinks() : links;
+        result.add(rel, href);
+        return result;
+    }
+    
+    private static String readHref(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String href = null;
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            if (HREF_ATTRIBUTE_NAME.equals(name)) {
+                href = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return href;
+    }
+    
+    void add(String rel, String href) {
+        if (this.size == this.rels.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, this.size * 2);
+            this.rels = Arrays.copyOf(this.rels, capacity);
+            this.hrefs = Arrays.copyOf(this.hrefs, capacity);
+        }
+        this.rels[this.size] = rel.intern();
+        this.hrefs[this.size] = href;
+        this.size++;
+    }
+    
+    /**
+     * Returns the href of the first link with the given relation, without
+     * creating a {@link Link}.
+     * 
+     * @param rel The relation name.
+     * @return The href or {@code null} if there is no such link.
+     */
+    public String getHref(String rel) {
+        int index = indexOf(rel, 0);
+        return index < 0 ? null : this.hrefs[index];
+    }
+    
+    public boolean hasLink(String rel) {
+        return indexOf(rel, 0) >= 0;
+    }
+    
+    /**
+     * Returns the first link with the given relation.
+     * 
+     * @param rel The relation name.
+     * @return The link or {@code null} if there is no such link.
+     */
+    public Link getLink(String rel) {
+        int index = indexOf(rel, 0);
+        return index < 0 ? null : createLink(index);
+    }
+    
+    /**
+     * Returns all links with the given relation, in document order.
+     * 
+     * @param rel The relation name.
+     * @return The links, never {@code null}.
+     */
+    public List<Link> getLinks(String rel) {
+        List<Link> links = null;
+        for (int index = indexOf(rel, 0); index >= 0; index = indexOf(rel, index + 1)) {
+            if (links == null) {
+                links = new ArrayList<>();
+            }
+            links.add(createLink(index));
+        }
+        return links == null ? Collections.<Link> emptyList() : links;
+    }
+    
+    /**
+     * Returns all links in document order.
+     * 
+     * @return The links, never {@code null}.
+     */
+    public List<Link> getLinks() {
+        List<Link> links = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            links.add(createLink(i));
+        }
+        return links;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    private int indexOf(String rel, int fromIndex) {
+        for (int i = fromIndex; i < this.size; i++) {
+            // Rels are interned, so most lookups match by identity
+            if (this.rels[i] == rel || this.rels[i].equals(rel)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private Link createLink(int index) {
+        return new Link(this.hrefs[index], this.rels[index]);
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("HalLinks { ");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(this.rels[i]).append(": ").append(this.hrefs[i]);
+        }
+        return builder.append(" }").toString();
+    }
+}
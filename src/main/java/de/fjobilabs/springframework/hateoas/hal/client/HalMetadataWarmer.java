@@ -0,0 +1,179 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fjobilabs.springframework.hateoas.hal.client.PropertyUtils.PropertyWriter;
+import de.fjobilabs.springframework.hateoas.hal.client.exception.HalResourceDeserializerException;
+
+/**
+ * Builds and validates the {@link HalResourceMetadata} of all concrete
+ * {@link HalResource} classes in the given packages.<br>
+ * The first document of each class is then decoded without introspection, and
+ * invalid classes are reported before any document is decoded. The packages
+ * are scanned and the classes are introspected on a thread pool of the given
+ * parallelism. If an {@link ObjectMapper} is set, the deserializers of the
+ * property types are created and cached by the mapper as well.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:56:31
+ * @version 1.0
+ */
+public class HalMetadataWarmer {
+    
+    private final Set<String> basePackages;
+    private ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private ObjectMapper objectMapper;
+    
+    /**
+     * @param basePackages The packages to scan, including their sub packages.
+     */
+    public HalMetadataWarmer(Collection<String> basePackages) {
+        Assert.notNull(basePackages, "Base packages must not be null");
+        this.basePackages = new LinkedHashSet<>(basePackages);
+    }
+    
+    public void setClassLoader(ClassLoader classLoader) {
+        Assert.notNull(classLoader, "ClassLoader must not be null");
+        this.classLoader = classLoader;
+    }
+    
+    /**
+     * @param parallelism The number of threads scanning and introspecting
+     *            classes, defaults to the number of processors.
+     */
+    public void setParallelism(int parallelism) {
+        Assert.isTrue(parallelism > 0, "Parallelism must be greater than 0");
+        this.parallelism = parallelism;
+    }
+    
+    /**
+     * @param objectMapper The mapper whose deserializers are created, may be
+     *            {@code null}.
+     */
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * Scans the packages and warms up all resource classes found.
+     * 
+     * @return The resource classes found.
+     * @throws HalResourceDeserializerException If a class is invalid. The
+     *             message lists all invalid classes.
+     */
+    public List<Class<?>> warmUp() {
+        if (this.basePackages.isEmpty()) {
+            return Collections.emptyList();
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("hal-warmup-");
+        threadFactory.setDaemon(true);
+        ExecutorService executor = Executors.newFixedThreadPool(this.parallelism, threadFactory);
+        try {
+            List<CompletableFuture<Set<String>>> scans = new ArrayList<>();
+            for (String basePackage : this.basePackages) {
+                scans.add(CompletableFuture.supplyAsync(() -> scan(basePackage), executor));
+            }
+            // Packages may overlap
+            Set<String> classNames = new LinkedHashSet<>();
+            for (CompletableFuture<Set<String>> scan : scans) {
+                classNames.addAll(join(scan));
+            }
+            Map<String, CompletableFuture<Class<?>>> warmUps = new LinkedHashMap<>();
+            for (String className : classNames) {
+                warmUps.put(className,
+                        CompletableFuture.supplyAsync(() -> warmUp(className), executor));
+            }
+            List<Class<?>> types = new ArrayList<>(warmUps.size());
+            List<String> errors = new ArrayList<>();
+            for (Entry<String, CompletableFuture<Class<?>>> warmUp : warmUps.entrySet()) {
+                try {
+                    types.add(join(warmUp.getValue()));
+                } catch (HalResourceDeserializerException e) {
+                    errors.add(e.getMessage());
+                } catch (RuntimeException | LinkageError e) {
+                    errors.add(warmUp.getKey() + ": " + e);
+                }
+            }
+            if (!errors.isEmpty()) {
+                throw new HalResourceDeserializerException(
+                        "Invalid HAL resource classes: " + String.join("; ", errors));
+            }
+            return types;
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    private Set<String> scan(String basePackage) {
+        // The provider caches metadata readers and is not thread-safe
+        ClassPathScanningCandidateComponentProvider provider;
+        provider = new ClassPathScanningCandidateComponentProvider(false);
+        provider.setResourceLoader(new DefaultResourceLoader(this.classLoader));
+        provider.addIncludeFilter(new AssignableTypeFilter(HalResource.class));
+        Set<String> classNames = new LinkedHashSet<>();
+        for (BeanDefinition candidate : provider.findCandidateComponents(basePackage)) {
+            classNames.add(candidate.getBeanClassName());
+        }
+        return classNames;
+    }
+    
+    private Class<?> warmUp(String className) {
+        Class<?> type = ClassUtils.resolveClassName(className, this.classLoader);
+        HalResourceMetadata metadata = HalResourceMetadataRegistry.getMetadata(type);
+        metadata.validate();
+        if (this.objectMapper != null) {
+            warmUpDeserializer(this.objectMapper.constructType(type));
+            for (PropertyWriter writer : metadata.getPropertyWriters().values()) {
+                warmUpDeserializer(this.objectMapper.constructType(writer.getType()));
+            }
+        }
+        return type;
+    }
+    
+    private void warmUpDeserializer(JavaType type) {
+        AtomicReference<Throwable> cause = new AtomicReference<>();
+        if (!this.objectMapper.canDeserialize(type, cause) && cause.get() != null) {
+            throw new HalResourceDeserializerException(
+                    "No deserializer for " + type + ": " + cause.get().getMessage(), cause.get());
+        }
+    }
+    
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
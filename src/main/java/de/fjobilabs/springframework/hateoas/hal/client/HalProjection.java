@@ -0,0 +1,109 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * Selects the properties and embedded resources a
+ * {@link HalResourceDeserializer} binds. Everything else is skipped without
+ * being bound, even if the resource class declares it.<br>
+ * A projection is passed per call as attribute of an
+ * {@link com.fasterxml.jackson.databind.ObjectReader ObjectReader}:
+ * 
+ * <pre>
+ * mapper.readerFor(Order.class)
+ *         .withAttribute(HalProjection.ATTRIBUTE,
+ *                 HalProjection.properties("id", "total").embedded("items"))
+ *         .readValue(json);
+ * </pre>
+ * 
+ * Alternatively, properties annotated with
+ * {@link com.fasterxml.jackson.annotation.JsonView JsonView} are selected by
+ * the active view of the reader. The projection only applies to the resource
+ * the reader is called for, embedded resources are bound completely.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 19:32:08
+ * @version 1.0
+ */
+public final class HalProjection {
+    
+    /**
+     * Name of the deserialization attribute holding the projection.
+     */
+    public static final String ATTRIBUTE = HalProjection.class.getName();
+    
+    private final Set<String> properties;
+    private final Set<String> embeddedRels;
+    
+    HalProjection(Set<String> properties, Set<String> embeddedRels) {
+        this.properties = Collections.unmodifiableSet(properties);
+        this.embeddedRels = Collections.unmodifiableSet(embeddedRels);
+    }
+    
+    /**
+     * Creates a projection of the given properties without any embedded
+     * resources.
+     * 
+     * @param names The JSON names of the properties to bind.
+     * @return The new projection.
+     */
+    public static HalProjection properties(String... names) {
+        return new HalProjection(toSet(names), Collections.emptySet());
+    }
+    
+    /**
+     * Returns a copy of this projection, which additionally binds the given
+     * embedded resources.
+     * 
+     * @param rels The relations of the embedded resources to bind.
+     * @return The new projection.
+     */
+    public HalProjection embedded(String... rels) {
+        Set<String> embeddedRels = new HashSet<>(this.embeddedRels);
+        embeddedRels.addAll(toSet(rels));
+        return new HalProjection(this.properties, embeddedRels);
+    }
+    
+    public Set<String> getProperties() {
+        return properties;
+    }
+    
+    public Set<String> getEmbeddedRels() {
+        return embeddedRels;
+    }
+    
+    public boolean includesProperty(String name) {
+        return properties.contains(name);
+    }
+    
+    public boolean includesEmbedded(String rel) {
+        return embeddedRels.contains(rel);
+    }
+    
+    /**
+     * Combines two projections, so only what both select is bound.
+     */
+    HalProjection intersect(HalProjection other) {
+        Set<String> properties = new HashSet<>(this.properties);
+        properties.retainAll(other.properties);
+        Set<String> embeddedRels = new HashSet<>(this.embeddedRels);
+        embeddedRels.retainAll(other.embeddedRels);
+        return new HalProjection(properties, embeddedRels);
+    }
+    
+    private static Set<String> toSet(String[] names) {
+        Assert.noNullElements(names, "Names must not contain null elements");
+        return new HashSet<>(Arrays.asList(names));
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("HalProjection { properties: %s, embeddedRels: %s }", properties,
+                embeddedRels);
+    }
+}
@@ -1,11 +1,19 @@
 package de.fjobilabs.springframework.hateoas.hal.client;
 
+import java.util.List;
+
+import org.springframework.hateoas.Link;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 /**
  * Resource class which want to use embedded resources by the {@link Embedded}
  * annotation should inherit from this class to get deserialized by the correct
- * deserializer.
+ * deserializer.<br>
+ * The {@code _links} of the resource are available by the link accessors of
+ * this class. All links are available by {@link #getHalLinks()}, so a
+ * {@code links} property of a subclass doesn't clash with them.
  * 
  * @author Felix Jordan
  * @since 15.04.2017 - 20:34:12
@@ -13,4 +21,45 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
  */
 @JsonDeserialize(using = HalResourceDeserializer.class)
 public class HalResource {
+    
+    private HalLinks links = HalLinks.EMPTY;
+    
+    /**
+     * Returns all links with the given relation.
+     * 
+     * @param rel The relation name.
+     * @return The links, never {@code null}.
+     */
+    public List<Link> getLinks(String rel) {
+        return links.getLinks(rel);
+    }
+    
+    /**
+     * Returns the first link with the given relation.
+     * 
+     * @param rel The relation name.
+     * @return The link or {@code null} if there is no such link.
+     */
+    public Link getLink(String rel) {
+        return links.getLink(rel);
+    }
+    
+    public boolean hasLink(String rel) {
+        return links.hasLink(rel);
+    }
+    
+    /**
+     * Returns the compact link storage of this resource, which allows to
+     * access hrefs without creating {@link Link} objects.
+     * 
+     * @return The links, never {@code null}.
+     */
+    @JsonIgnore
+    public HalLinks getHalLinks() {
+        return links;
+    }
+    
+    void setHalLinks(HalLinks links) {
+        this.links = links;
+    }
 }
@@ -2,28 +2,36 @@ package de.fjobilabs.springframework.hateoas.hal.client;
 
 import java.io.IOException;
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import org.springframework.beans.BeanUtils;
-import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.hateoas.Resources;
+import org.springframework.core.CollectionFactory;
+import org.springframework.hateoas.Link;
+import org.springframework.util.Assert;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import de.fjobilabs.springframework.hateoas.hal.client.EmbeddedProperyUtils.EmbeddedResourcePropertyDescriptor;
+import de.fjobilabs.springframework.hateoas.hal.client.PropertyUtils.PropertyWriter;
 import de.fjobilabs.springframework.hateoas.hal.client.exception.HalResourceDeserializerException;
+import de.fjobilabs.springframework.hateoas.hal.client.metrics.HalDeserializationListener;
 
 /**
  * @author Felix Jordan
@@ -35,13 +43,12 @@ public class HalResourceDeserializer extends StdDeserializer<HalResource>
     
     private static final long serialVersionUID = -8650768414804516240L;
     
-    private static final String EMBEDDED_ELEMENT_NAME = "_embedded";
-    private static final String LINKS_ELEMENT_NAME = "_links";
+    private static final int DEFAULT_COLLECTION_CAPACITY = 16;
+    
+    private static volatile HalDeserializationListener listener = HalDeserializationListener.NOOP;
     
     private final Class<?> targetClass;
-    private final Map<String, Class<?>> propertyTypes;
-    private final Map<String, EmbeddedResourcePropertyDescriptor> embeddedResourcePropertyDescriptors;
-    private boolean ignoreUnknownProperties;
+    private final HalResourceMetadata metadata;
     
     protected HalResourceDeserializer() {
         this(HalResource.class);
@@ -50,12 +57,17 @@ public class HalResourceDeserializer extends StdDeserializer<HalResource>
     protected HalResourceDeserializer(Class<?> targetClass) {
         super(targetClass);
         this.targetClass = targetClass;
-        this.propertyTypes = PropertyUtils.createPropertyTypesMap(targetClass);
-        this.embeddedResourcePropertyDescriptors = EmbeddedProperyUtils
-                .createPropertyDescriptorMap(targetClass);
-        this.ignoreUnknownProperties = shouldIgnoreUnknownProperties(targetClass);
+        this.metadata = HalResourceMetadataRegistry.getMetadata(targetClass);
     }
     
+    /**
+     * Deserializes the resource in a single pass. The target instance is
+     * created first and every property and embedded resource is written into
+     * it as soon as its value has been read. Resources with a
+     * {@link ResourceCreator} are created by a single constructor call after
+     * all values have been read. Properties and embedded resources outside of
+     * the {@link HalProjection} of the context are skipped.
+     */
     @Override
     public HalResource deserialize(JsonParser parser, DeserializationContext context)
             throws IOException {
@@ -63,24 +75,219 @@ public class HalResourceDeserializer extends StdDeserializer<HalResource>
             throw new IOException("Invalid token, expected START_OBJECT");
         }
         
-        Map<String, Object> properties = new HashMap<>();
-        Map<String, Object> embeddedResources = new HashMap<>();
+        DecodingScope scope = DecodingScope.current();
+        if (scope != null) {
+            return deserializeResource(parser, context, scope);
+        }
+        // Top-level resource, which shares its identity map with all nested ones
+        scope = DecodingScope.open(context);
+        try {
+            return deserializeResource(parser, context, scope);
+        } finally {
+            scope.close();
+        }
+    }
+    
+    private HalResource deserializeResource(JsonParser parser, DeserializationContext context,
+            DecodingScope scope) throws IOException {
+        scope.enterResource(this.targetClass);
+        try {
+            HalDeserializationListener listener = scope.getListener();
+            DecodeStatistics statistics = null;
+            if (listener != HalDeserializationListener.NOOP) {
+                statistics = new DecodeStatistics();
+            }
+            
+            HalProjection projection = getProjection(context);
+            ResourceCreator creator = this.metadata.getCreator();
+            Object instance;
+            if (creator == null) {
+                instance = readResource(parser, context, scope, projection, statistics);
+            } else {
+                instance = readCreatorResource(parser, context, scope, creator, projection,
+                        statistics);
+            }
+            if (statistics != null) {
+                listener.resourceDecoded(statistics.toEvent(this.targetClass));
+            }
+            return (HalResource) instance;
+        } finally {
+            scope.exitResource();
+        }
+    }
+    
+    private Object readResource(JsonParser parser, DeserializationContext context,
+            DecodingScope scope, HalProjection projection, DecodeStatistics statistics)
+            throws IOException {
+        Object instance = this.metadata.createInstance();
+        HalFieldNames fieldNames = this.metadata.getFieldNames();
+        boolean identity = this.metadata.hasIdentity();
+        String identityProperty = this.metadata.getIdentityProperty();
+        Object id = null;
+        int propertyCount = 0;
+        int position = 0;
         
-        while (parser.nextToken() != JsonToken.END_OBJECT) {
-            String key = parser.getCurrentName();
+        while (true) {
+            // Matches the encoded name expected next and looks up all others
+            SerializableString expectedName = fieldNames.getExpectedName(position);
+            int ordinal;
+            String key;
+            if (expectedName != null && parser.nextFieldName(expectedName)) {
+                ordinal = fieldNames.getExpectedOrdinal(position);
+                key = expectedName.getValue();
+            } else {
+                if (expectedName == null) {
+                    parser.nextToken();
+                }
+                if (parser.getCurrentToken() == JsonToken.END_OBJECT) {
+                    break;
+                }
+                key = parser.getCurrentName();
+                ordinal = fieldNames.getOrdinal(key);
+            }
+            if (ordinal != HalFieldNames.UNKNOWN) {
+                position = fieldNames.getNextPosition(ordinal);
+            }
+            scope.propertyRead(this.targetClass, ++propertyCount);
             parser.nextToken();
             
-            if (EMBEDDED_ELEMENT_NAME.equals(key)) {
-                parseEmbeddedResources(parser, context.getTypeFactory(), embeddedResources);
-            } else if (LINKS_ELEMENT_NAME.equals(key)) {
-                // Links are not deserialized
-                parser.skipChildren();
+            Object existingInstance = null;
+            switch (ordinal) {
+                case HalFieldNames.EMBEDDED:
+                    parseEmbeddedResources(parser, context, instance, projection, statistics);
+                    break;
+                case HalFieldNames.LINKS:
+                    HalLinks links = HalLinks.read(parser);
+                    ((HalResource) instance).setHalLinks(links);
+                    if (identity && identityProperty == null) {
+                        id = links.getHref(Link.REL_SELF);
+                        existingInstance = scope.registerPending(this.targetClass, id, instance);
+                    }
+                    break;
+                default:
+                    // Normal properties
+                    PropertyWriter writer = ordinal == HalFieldNames.UNKNOWN ? null
+                            : fieldNames.getPropertyWriter(ordinal);
+                    Object value = parseProperty(key, writer, parser, instance, projection,
+                            statistics);
+                    if (identity && key.equals(identityProperty)) {
+                        id = value;
+                        existingInstance = scope.registerPending(this.targetClass, id, instance);
+                    }
+            }
+            if (existingInstance != null) {
+                skipRemainingProperties(parser);
+                return existingInstance;
+            }
+        }
+        // Other threads only see the instance after it has been fully bound
+        return scope.publish(this.targetClass, id, instance);
+    }
+    
+    /**
+     * Collects the arguments of the creator while reading the resource.
+     * Values which are no arguments are written after the instance has been
+     * created.<br>
+     * There is no instance to register while the arguments are read, so a
+     * resource with identity is only looked up once its identity is known and
+     * is shared after construction. A reference to the resource from within
+     * itself is decoded as a separate instance.
+     */
+    private Object readCreatorResource(JsonParser parser, DeserializationContext context,
+            DecodingScope scope, ResourceCreator creator, HalProjection projection,
+            DecodeStatistics statistics) throws IOException {
+        Object[] arguments = new Object[creator.getParameterCount()];
+        List<Consumer<Object>> pendingWrites = new ArrayList<>();
+        HalLinks links = null;
+        HalFieldNames fieldNames = this.metadata.getFieldNames();
+        boolean identity = this.metadata.hasIdentity();
+        String identityProperty = this.metadata.getIdentityProperty();
+        Object id = null;
+        int propertyCount = 0;
+        int position = 0;
+        
+        while (true) {
+            // Creator parameters without a writer are unknown to the field names
+            SerializableString expectedName = fieldNames.getExpectedName(position);
+            int ordinal;
+            String key;
+            if (expectedName != null && parser.nextFieldName(expectedName)) {
+                ordinal = fieldNames.getExpectedOrdinal(position);
+                key = expectedName.getValue();
             } else {
-                // Normal properties
-                parseProperty(key, parser, properties);
+                if (expectedName == null) {
+                    parser.nextToken();
+                }
+                if (parser.getCurrentToken() == JsonToken.END_OBJECT) {
+                    break;
+                }
+                key = parser.getCurrentName();
+                ordinal = fieldNames.getOrdinal(key);
             }
+            if (ordinal != HalFieldNames.UNKNOWN) {
+                position = fieldNames.getNextPosition(ordinal);
+            }
+            scope.propertyRead(this.targetClass, ++propertyCount);
+            parser.nextToken();
+            
+            Object existingInstance = null;
+            switch (ordinal) {
+                case HalFieldNames.EMBEDDED:
+                    parseCreatorEmbeddedResources(parser, context, creator, arguments,
+                            pendingWrites, projection, statistics);
+                    break;
+                case HalFieldNames.LINKS:
+                    links = HalLinks.read(parser);
+                    if (identity && identityProperty == null) {
+                        id = links.getHref(Link.REL_SELF);
+                        existingInstance = scope.find(this.targetClass, id);
+                    }
+                    break;
+                default:
+                    Object value = parseCreatorProperty(key, parser, creator, arguments,
+                            pendingWrites, projection, statistics);
+                    if (identity && key.equals(identityProperty)) {
+                        id = value;
+                        existingInstance = scope.find(this.targetClass, id);
+                    }
+            }
+            if (existingInstance != null) {
+                skipRemainingProperties(parser);
+                return existingInstance;
+            }
+        }
+        
+        long startNanos = statistics == null ? 0 : System.nanoTime();
+        Object instance = creator.create(arguments);
+        if (links != null) {
+            ((HalResource) instance).setHalLinks(links);
+        }
+        for (Consumer<Object> pendingWrite : pendingWrites) {
+            pendingWrite.accept(instance);
         }
-        return (HalResource) createInstance(properties, embeddedResources);
+        if (statistics != null) {
+            statistics.instanceCreated(startNanos);
+        }
+        scope.publishCreated(this.targetClass, id, instance);
+        return instance;
+    }
+    
+    public static HalDeserializationListener getListener() {
+        return listener;
+    }
+    
+    /**
+     * Sets the listener, which is notified about every resource decoded by a
+     * mapper without a {@link HalDeserializationListener#ATTRIBUTE listener
+     * attribute}. As long as the {@link HalDeserializationListener#NOOP}
+     * listener is used, no measurements are taken.
+     * 
+     * @param listener The listener to use, defaults to
+     *            {@link HalDeserializationListener#NOOP}.
+     */
+    public static void setListener(HalDeserializationListener listener) {
+        Assert.notNull(listener, "HalDeserializationListener must not be null");
+        HalResourceDeserializer.listener = listener;
     }
     
     @Override
@@ -93,99 +300,420 @@ public class HalResourceDeserializer extends StdDeserializer<HalResource>
         return new HalResourceDeserializer(clazz);
     }
     
-    private void parseProperty(String key, JsonParser parser, Map<String, Object> properties)
+    /**
+     * Returns the projection passed as attribute, restricted to the active
+     * view if there is one.
+     */
+    private HalProjection getProjection(DeserializationContext context) {
+        Object attribute = context.getAttribute(HalProjection.ATTRIBUTE);
+        HalProjection projection = null;
+        if (attribute instanceof HalProjection) {
+            projection = (HalProjection) attribute;
+        }
+        Class<?> view = context.getActiveView();
+        if (view == null) {
+            return projection;
+        }
+        HalProjection viewProjection = this.metadata.getViewProjection(view,
+                context.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION));
+        return projection == null ? viewProjection : projection.intersect(viewProjection);
+    }
+    
+    /**
+     * @param writer The writer of the property or {@code null} if the property
+     *            is unknown.
+     * @return The value written to the instance or {@code null} if the
+     *         property was skipped.
+     */
+    private Object parseProperty(String key, PropertyWriter writer, JsonParser parser,
+            Object instance, HalProjection projection, DecodeStatistics statistics)
             throws IOException {
-        Object property = handleProperty(key, parser);
-        if (property != null) {
-            properties.put(key, property);
+        if (projection != null && !projection.includesProperty(key)) {
+            skipExcludedValue(parser, statistics);
+            return null;
+        }
+        if (writer == null) {
+            handleUnknownProperty(key);
+            skipValue(parser, statistics);
+            return null;
+        }
+        Object property = parser.readValueAs(writer.getType());
+        if (property == null) {
+            return null;
+        }
+        if (statistics == null) {
+            writer.write(instance, property);
+            return property;
+        }
+        long startNanos = System.nanoTime();
+        writer.write(instance, property);
+        statistics.propertyWritten(startNanos);
+        return property;
+    }
+    
+    private Object parseCreatorProperty(String key, JsonParser parser, ResourceCreator creator,
+            Object[] arguments, List<Consumer<Object>> pendingWrites, HalProjection projection,
+            DecodeStatistics statistics) throws IOException {
+        if (projection != null && !projection.includesProperty(key)) {
+            skipExcludedValue(parser, statistics);
+            return null;
+        }
+        int index = creator.getPropertyIndex(key);
+        if (index != -1) {
+            Object value = parser.getCodec().readValue(parser, creator.getParameterType(index));
+            arguments[index] = value;
+            if (statistics != null) {
+                statistics.propertyRead();
+            }
+            return value;
+        }
+        PropertyWriter writer = this.metadata.getPropertyWriters().get(key);
+        if (writer == null) {
+            handleUnknownProperty(key);
+            skipValue(parser, statistics);
+            return null;
+        }
+        Object value = parser.readValueAs(writer.getType());
+        if (value == null) {
+            return null;
+        }
+        pendingWrites.add(instance -> writer.write(instance, value));
+        if (statistics != null) {
+            statistics.propertyRead();
+        }
+        return value;
+    }
+    
+    private void parseCreatorEmbeddedResources(JsonParser parser, DeserializationContext context,
+            ResourceCreator creator, Object[] arguments, List<Consumer<Object>> pendingWrites,
+            HalProjection projection, DecodeStatistics statistics) throws IOException {
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String key = parser.getCurrentName();
+            parser.nextToken();
+            if (statistics != null) {
+                statistics.embeddedRelationRead();
+            }
+            if (projection != null && !projection.includesEmbedded(key)) {
+                skipExcludedValue(parser, statistics);
+                continue;
+            }
+            int index = creator.getEmbeddedIndex(key);
+            if (index != -1) {
+                Object embeddedResource = readOrCaptureEmbeddedResource(
+                        creator.getEmbeddedDescriptor(index), parser, context);
+                arguments[index] = embeddedResource;
+                if (statistics != null) {
+                    statistics.embeddedResourceRead(embeddedResource);
+                }
+                continue;
+            }
+            EmbeddedResourcePropertyDescriptor descriptor = this.metadata
+                    .getEmbeddedResourcePropertyDescriptors().get(key);
+            if (descriptor == null) {
+                handleUnknownEmbeddedResource(key);
+                skipValue(parser, statistics);
+                continue;
+            }
+            if (Consumer.class.equals(descriptor.getType())) {
+                // The consumer can only be obtained from the created instance
+                checkCollectionContentType(descriptor);
+                List<Object> elements = new ArrayList<>();
+                readEmbeddedElements(descriptor, parser, elements::add);
+                pendingWrites.add(instance -> consumeElements(descriptor, instance, elements));
+                if (statistics != null) {
+                    statistics.embeddedResourceRead(elements);
+                }
+                continue;
+            }
+            Object embeddedResource = readOrCaptureEmbeddedResource(descriptor, parser, context);
+            if (embeddedResource == null) {
+                continue;
+            }
+            if (statistics != null) {
+                statistics.embeddedResourceRead(embeddedResource);
+            }
+            pendingWrites.add(instance -> EmbeddedProperyUtils.setEmbeddedResource(descriptor,
+                    instance, embeddedResource));
         }
     }
     
-    private void parseEmbeddedResources(JsonParser parser, TypeFactory typeFactory,
-            Map<String, Object> embeddedResources) throws IOException {
+    private void consumeElements(EmbeddedResourcePropertyDescriptor descriptor, Object instance,
+            List<Object> elements) {
+        Consumer<Object> consumer = EmbeddedProperyUtils.getEmbeddedResourceConsumer(descriptor,
+                instance);
+        if (consumer != null) {
+            elements.forEach(consumer);
+        }
+    }
+    
+    private void parseEmbeddedResources(JsonParser parser, DeserializationContext context,
+            Object instance, HalProjection projection, DecodeStatistics statistics)
+            throws IOException {
         while (parser.nextToken() != JsonToken.END_OBJECT) {
             String embeddedKey = parser.getCurrentName();
             parser.nextToken();
-            Object embeddedResource = handleEmbeddedResource(embeddedKey, parser, typeFactory);
-            if (embeddedResource != null) {
-                embeddedResources.put(embeddedKey, embeddedResource);
+            if (statistics != null) {
+                statistics.embeddedRelationRead();
+            }
+            if (projection != null && !projection.includesEmbedded(embeddedKey)) {
+                skipExcludedValue(parser, statistics);
+                continue;
             }
+            parseEmbeddedResource(embeddedKey, parser, context, instance, statistics);
         }
     }
     
-    private Object createInstance(Map<String, Object> properties,
-            Map<String, Object> embeddedResources) {
-        Object instance = BeanUtils.instantiateClass(this.targetClass);
-        
-        PropertyUtils.setProperties(instance, properties);
-        EmbeddedProperyUtils.setEmbeddedResources(this.embeddedResourcePropertyDescriptors,
-                instance, embeddedResources);
-        
-        return instance;
+    private void parseEmbeddedResource(String key, JsonParser parser,
+            DeserializationContext context, Object instance, DecodeStatistics statistics)
+            throws IOException {
+        EmbeddedResourcePropertyDescriptor descriptor = this.metadata
+                .getEmbeddedResourcePropertyDescriptors().get(key);
+        if (descriptor == null) {
+            handleUnknownEmbeddedResource(key);
+            skipValue(parser, statistics);
+            return;
+        }
+        if (Consumer.class.equals(descriptor.getType())) {
+            consumeEmbeddedResource(descriptor, parser, instance, statistics);
+            return;
+        }
+        Object embeddedResource = readOrCaptureEmbeddedResource(descriptor, parser, context);
+        if (embeddedResource == null) {
+            return;
+        }
+        if (statistics == null) {
+            EmbeddedProperyUtils.setEmbeddedResource(descriptor, instance, embeddedResource);
+            return;
+        }
+        statistics.embeddedResourceRead(embeddedResource);
+        long startNanos = System.nanoTime();
+        EmbeddedProperyUtils.setEmbeddedResource(descriptor, instance, embeddedResource);
+        statistics.embeddedResourceWritten(startNanos);
     }
     
-    private Object handleProperty(String key, JsonParser parser) throws IOException {
-        Class<?> type = this.propertyTypes.get(key);
-        if (type == null) {
-            return handleUnknownProperty(key);
+    /**
+     * Skips the rest of a resource, which has already been read with the same
+     * {@link HalIdentity}.
+     */
+    private void skipRemainingProperties(JsonParser parser) throws IOException {
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            parser.nextToken();
+            parser.skipChildren();
         }
-        return parser.readValueAs(type);
     }
     
-    private Object handleUnknownProperty(String key) {
-        if (this.ignoreUnknownProperties) {
-            return null;
+    private void skipValue(JsonParser parser, DecodeStatistics statistics) throws IOException {
+        parser.skipChildren();
+        if (statistics != null) {
+            statistics.propertySkipped();
+        }
+    }
+    
+    /**
+     * Skips a property or relation which is not selected by the
+     * {@link HalProjection}.
+     */
+    private void skipExcludedValue(JsonParser parser, DecodeStatistics statistics)
+            throws IOException {
+        parser.skipChildren();
+        if (statistics != null) {
+            statistics.propertyExcluded();
+        }
+    }
+    
+    private void handleUnknownProperty(String key) {
+        if (this.metadata.isIgnoreUnknownProperties()) {
+            return;
         }
         throw new HalResourceDeserializerException(
                 "Invalid property key '" + key + "' for type " + targetClass);
     }
     
-    private Object handleEmbeddedResource(String key, JsonParser parser, TypeFactory typeFactory)
-            throws IOException {
-        EmbeddedResourcePropertyDescriptor descriptor = this.embeddedResourcePropertyDescriptors
-                .get(key);
-        if (descriptor == null) {
-            return handleUnknownEmbeddedResource(key);
+    private Object readOrCaptureEmbeddedResource(EmbeddedResourcePropertyDescriptor descriptor,
+            JsonParser parser, DeserializationContext context) throws IOException {
+        if (descriptor.isLazy()) {
+            return captureEmbeddedResource(descriptor, parser, context);
+        }
+        return readEmbeddedResource(descriptor, parser);
+    }
+    
+    /**
+     * Captures the tokens of a lazy embedded resource, so they can be bound
+     * when the resource is accessed for the first time. The elements of the
+     * relation are counted against the limits of the document while they are
+     * captured, the elements of a collection are captured as plain array.
+     */
+    private LazyEmbedded<?> captureEmbeddedResource(EmbeddedResourcePropertyDescriptor descriptor,
+            JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
         }
+        DecodingScope scope = DecodingScope.current();
+        DecodingScope.ElementCounter counter = DecodingScope.countElements(scope,
+                descriptor.getRelationName());
+        TokenBuffer tokens = new TokenBuffer(parser, context);
+        if (isCollectionType(descriptor.getType())) {
+            checkCollectionContentType(descriptor);
+            tokens.writeStartArray();
+            EmbeddedElementCursor cursor = new EmbeddedElementCursor(parser);
+            while (cursor.next()) {
+                counter.elementRead();
+                tokens.copyCurrentStructure(parser);
+            }
+            tokens.writeEndArray();
+        } else {
+            counter.elementRead();
+            tokens.copyCurrentStructure(parser);
+        }
+        return new LazyEmbedded<>(descriptor.getRelationName(), tokens, parser.getCodec(),
+                scope == null ? null : scope.detach(),
+                tokenParser -> readEmbeddedResource(descriptor, tokenParser));
+    }
+    
+    private static boolean isCollectionType(Class<?> type) {
+        return type.isArray() || Collection.class.isAssignableFrom(type)
+                || Iterator.class.equals(type) || Stream.class.equals(type);
+    }
+    
+    private Object readEmbeddedResource(EmbeddedResourcePropertyDescriptor descriptor,
+            JsonParser parser) throws IOException {
         Class<?> type = descriptor.getType();
         if (type.isArray()) {
-            return readEmbeddedArray(descriptor, parser, typeFactory);
+            checkCollectionContentType(descriptor);
+            return readEmbeddedArray(descriptor, parser);
         }
         if (Collection.class.isAssignableFrom(type)) {
             checkCollectionContentType(descriptor);
-            return readEmbeddedCollection(descriptor, parser, typeFactory);
+            return readEmbeddedCollection(descriptor, parser);
         }
+        if (Iterator.class.equals(type)) {
+            checkCollectionContentType(descriptor);
+            return createEmbeddedIterator(descriptor, parser);
+        }
+        if (Stream.class.equals(type)) {
+            checkCollectionContentType(descriptor);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                    createEmbeddedIterator(descriptor, parser), Spliterator.ORDERED), false);
+        }
+        DecodingScope.countElements(DecodingScope.current(), descriptor.getRelationName())
+                .elementRead();
         return parser.readValueAs(type);
     }
     
-    private Object handleUnknownEmbeddedResource(String key) {
-        if (this.ignoreUnknownProperties) {
-            return null;
+    private void handleUnknownEmbeddedResource(String key) {
+        if (this.metadata.isIgnoreUnknownProperties()) {
+            return;
         }
         throw new HalResourceDeserializerException(
                 "Invalid embedded resource key '" + key + "' for type " + targetClass);
     }
     
     private Object readEmbeddedArray(EmbeddedResourcePropertyDescriptor descriptor,
-            JsonParser parser, TypeFactory typeFactory) throws IOException {
-        Collection<?> collection = readEmbeddedCollection(descriptor, parser, typeFactory);
-        Object[] elements = collection.toArray();
-        int length = elements.length;
-        Object array = Array.newInstance(descriptor.getCollectionContentType(), length);
-        for (int i = 0; i < length; i++) {
-            Array.set(array, i, elements[i]);
+            JsonParser parser) throws IOException {
+        List<Object> elements = new ArrayList<>();
+        collectEmbeddedElements(descriptor, parser, elements::add);
+        Class<?> contentType = descriptor.getCollectionContentType();
+        if (!contentType.isPrimitive()) {
+            return elements.toArray((Object[]) Array.newInstance(contentType, elements.size()));
+        }
+        Object array = Array.newInstance(contentType, elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            Array.set(array, i, elements.get(i));
         }
         return array;
     }
     
     private Collection<?> readEmbeddedCollection(EmbeddedResourcePropertyDescriptor descriptor,
-            JsonParser parser, TypeFactory typeFactory) throws IOException {
-        Resources<?> resources = parser.getCodec().readValue(parser, typeFactory
-                .constructParametricType(Resources.class, descriptor.getCollectionContentType()));
-        if (resources == null) {
-            return Collections.emptyList();
+            JsonParser parser) throws IOException {
+        Collection<Object> collection = createCollection(descriptor);
+        collectEmbeddedElements(descriptor, parser, collection::add);
+        return collection;
+    }
+    
+    private Collection<Object> createCollection(EmbeddedResourcePropertyDescriptor descriptor) {
+        Class<?> type = descriptor.getType();
+        // Keep all elements in document order, a plain collection is no set
+        if (Collection.class.equals(type) || List.class.equals(type)) {
+            return new ArrayList<>(DEFAULT_COLLECTION_CAPACITY);
+        }
+        try {
+            return CollectionFactory.createCollection(type, descriptor.getCollectionContentType(),
+                    DEFAULT_COLLECTION_CAPACITY);
+        } catch (IllegalArgumentException e) {
+            throw new HalResourceDeserializerException("Unsupported collection type " + type
+                    + " for embedded resource: " + descriptor.getRelationName(), e);
+        }
+    }
+    
+    /**
+     * Captures the tokens of the elements of an embedded collection as plain
+     * array, so they can be bound one at a time while iterating. The parser
+     * has to continue with the rest of the document, so the tokens of the
+     * whole relation are buffered.
+     */
+    private Iterator<?> createEmbeddedIterator(EmbeddedResourcePropertyDescriptor descriptor,
+            JsonParser parser) throws IOException {
+        DecodingScope.ElementCounter counter = DecodingScope
+                .countElements(DecodingScope.current(), descriptor.getRelationName());
+        TokenBuffer tokens = new TokenBuffer(parser);
+        tokens.writeStartArray();
+        EmbeddedElementCursor cursor = new EmbeddedElementCursor(parser);
+        while (cursor.next()) {
+            counter.elementRead();
+            tokens.copyCurrentStructure(parser);
+        }
+        tokens.writeEndArray();
+        return new EmbeddedElementIterator<>(descriptor.getRelationName(),
+                descriptor.getCollectionContentType(), tokens, parser.getCodec());
+    }
+    
+    /**
+     * Passes the elements of an embedded collection to the consumer of the
+     * instance, directly as they are read from the parser.
+     */
+    private void consumeEmbeddedResource(EmbeddedResourcePropertyDescriptor descriptor,
+            JsonParser parser, Object instance, DecodeStatistics statistics) throws IOException {
+        Consumer<Object> consumer = EmbeddedProperyUtils.getEmbeddedResourceConsumer(descriptor,
+                instance);
+        if (consumer == null) {
+            parser.skipChildren();
+            return;
+        }
+        checkCollectionContentType(descriptor);
+        if (statistics != null) {
+            consumer = consumer.andThen(element -> statistics.embeddedElementRead());
+        }
+        readEmbeddedElements(descriptor, parser, consumer);
+    }
+    
+    /**
+     * Reads the elements of an embedded array or collection, concurrently if
+     * the property is marked as {@link Embedded#parallel() parallel}.
+     */
+    private void collectEmbeddedElements(EmbeddedResourcePropertyDescriptor descriptor,
+            JsonParser parser, Consumer<Object> consumer) throws IOException {
+        if (!descriptor.isParallel()) {
+            readEmbeddedElements(descriptor, parser, consumer);
+            return;
+        }
+        // Captured relations bound later have no scope
+        DecodingScope scope = DecodingScope.current();
+        ParallelDecodingConfig config = scope == null ? ParallelDecodingConfig.getDefault()
+                : scope.getParallelDecodingConfig();
+        new ParallelElementDecoder(descriptor.getRelationName(),
+                descriptor.getCollectionContentType(), config).read(parser, consumer);
+    }
+    
+    private void readEmbeddedElements(EmbeddedResourcePropertyDescriptor descriptor,
+            JsonParser parser, Consumer<Object> consumer) throws IOException {
+        Class<?> contentType = descriptor.getCollectionContentType();
+        DecodingScope.ElementCounter counter = DecodingScope
+                .countElements(DecodingScope.current(), descriptor.getRelationName());
+        EmbeddedElementCursor cursor = new EmbeddedElementCursor(parser);
+        while (cursor.next()) {
+            counter.elementRead();
+            consumer.accept(parser.readValueAs(contentType));
         }
-        return resources.getContent();
     }
     
     private void checkCollectionContentType(EmbeddedResourcePropertyDescriptor descriptor) {
@@ -196,13 +724,4 @@ public class HalResourceDeserializer extends StdDeserializer<HalResource>
                             + descriptor.getRelationName());
         }
     }
-    
-    private boolean shouldIgnoreUnknownProperties(Class<?> clazz) {
-        JsonIgnoreProperties annotation = AnnotationUtils.findAnnotation(clazz,
-                JsonIgnoreProperties.class);
-        if (annotation == null) {
-            return false;
-        }
-        return annotation.ignoreUnknown();
-    }
 }
@@ -0,0 +1,324 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.beans.PropertyDescriptor;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.beans.BeanInstantiationException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonView;
+
+import de.fjobilabs.springframework.hateoas.hal.client.EmbeddedProperyUtils.EmbeddedResourcePropertyDescriptor;
+import de.fjobilabs.springframework.hateoas.hal.client.PropertyUtils.PropertyWriter;
+import de.fjobilabs.springframework.hateoas.hal.client.exception.HalResourceDeserializerException;
+
+/**
+ * Introspected HAL model of a {@link HalResource} class.<br>
+ * Instances are immutable and should be obtained from the
+ * {@link HalResourceMetadataRegistry}, so the introspection is only done once
+ * per class.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 09:12:40
+ * @version 1.0
+ */
+public class HalResourceMetadata implements Serializable {
+    
+    private static final long serialVersionUID = -2836311257093218364L;
+    
+    private final Class<?> targetClass;
+    private final transient Constructor<?> defaultConstructor;
+    private final transient Map<String, PropertyWriter> propertyWriters;
+    private final transient Map<String, Class<?>> propertyTypes;
+    private final transient HalFieldNames fieldNames;
+    private final transient Map<String, EmbeddedResourcePropertyDescriptor> embeddedResourcePropertyDescriptors;
+    private final transient boolean ignoreUnknownProperties;
+    private final transient GeneratedHalResourceMetadata generatedMetadata;
+    private final transient HalIdentity identity;
+    private final transient ResourceCreator creator;
+    private final transient Map<Class<?>, HalProjection> inclusiveViews = new ConcurrentHashMap<>();
+    private final transient Map<Class<?>, HalProjection> exclusiveViews = new ConcurrentHashMap<>();
+    
+    HalResourceMetadata(Class<?> targetClass, PropertyAccessorStrategy accessorStrategy) {
+        this.targetClass = targetClass;
+        this.generatedMetadata = null;
+        this.defaultConstructor = findDefaultConstructor(targetClass);
+        this.propertyWriters = Collections.unmodifiableMap(
+                PropertyUtils.createPropertyWriterMap(targetClass, accessorStrategy));
+        this.propertyTypes = Collections.unmodifiableMap(createPropertyTypesMap(propertyWriters));
+        this.fieldNames = HalFieldNames.introspect(targetClass, propertyWriters);
+        this.embeddedResourcePropertyDescriptors = Collections.unmodifiableMap(
+                EmbeddedProperyUtils.createPropertyDescriptorMap(targetClass, accessorStrategy));
+        this.ignoreUnknownProperties = shouldIgnoreUnknownProperties(targetClass);
+        this.identity = AnnotationUtils.findAnnotation(targetClass, HalIdentity.class);
+        this.creator = ResourceCreator.find(targetClass);
+    }
+    
+    /**
+     * Creates the metadata from the precomputed model, without introspecting
+     * the target class.
+     */
+    HalResourceMetadata(GeneratedHalResourceMetadata generatedMetadata) {
+        this.targetClass = generatedMetadata.getTargetClass();
+        this.generatedMetadata = generatedMetadata;
+        this.defaultConstructor = null;
+        this.propertyWriters = Collections
+                .unmodifiableMap(generatedMetadata.createPropertyWriters());
+        this.propertyTypes = Collections.unmodifiableMap(createPropertyTypesMap(propertyWriters));
+        // The generated writers are ordered like the properties of the class
+        this.fieldNames = HalFieldNames.of(propertyWriters);
+        this.embeddedResourcePropertyDescriptors = Collections
+                .unmodifiableMap(generatedMetadata.createEmbeddedResourcePropertyDescriptors());
+        this.ignoreUnknownProperties = generatedMetadata.isIgnoreUnknownProperties();
+        this.identity = AnnotationUtils.findAnnotation(this.targetClass, HalIdentity.class);
+        // Creators are not part of the generated model
+        this.creator = ResourceCreator.find(this.targetClass);
+    }
+    
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+    
+    /**
+     * Creates a new instance of the target class by its default constructor.
+     * Classes with a {@link #getCreator() creator} are instantiated by the
+     * creator instead.
+     * 
+     * @return The new instance.
+     * @throws BeanInstantiationException If the instance can't be created.
+     */
+    public Object createInstance() {
+        if (this.generatedMetadata != null) {
+            return this.generatedMetadata.createInstance();
+        }
+        if (this.defaultConstructor == null) {
+            // Fails with a meaningful exception
+            return BeanUtils.instantiateClass(this.targetClass);
+        }
+        return BeanUtils.instantiateClass(this.defaultConstructor);
+    }
+    
+    /**
+     * @return The constructor which receives the properties and embedded
+     *         resources or {@code null} if instances are created by the default
+     *         constructor.
+     */
+    public ResourceCreator getCreator() {
+        return creator;
+    }
+    
+    public Map<String, PropertyWriter> getPropertyWriters() {
+        return propertyWriters;
+    }
+    
+    public Map<String, Class<?>> getPropertyTypes() {
+        return propertyTypes;
+    }
+    
+    /**
+     * @return The pre-encoded names of the properties and HAL elements.
+     */
+    HalFieldNames getFieldNames() {
+        return fieldNames;
+    }
+    
+    public Map<String, EmbeddedResourcePropertyDescriptor> getEmbeddedResourcePropertyDescriptors() {
+        return embeddedResourcePropertyDescriptors;
+    }
+    
+    public boolean isIgnoreUnknownProperties() {
+        return ignoreUnknownProperties;
+    }
+    
+    /**
+     * @return Whether instances are deduplicated, because the class is
+     *         annotated with {@link HalIdentity}.
+     */
+    public boolean hasIdentity() {
+        return identity != null;
+    }
+    
+    /**
+     * @return The JSON name of the property identifying an instance or
+     *         {@code null} if instances are identified by their {@code self}
+     *         link.
+     */
+    public String getIdentityProperty() {
+        if (identity == null || identity.property().isEmpty()) {
+            return null;
+        }
+        return identity.property();
+    }
+    
+    /**
+     * @return Whether the metadata was created from a
+     *         {@link GeneratedHalResourceMetadata} instead of reflection.
+     */
+    public boolean isGenerated() {
+        return generatedMetadata != null;
+    }
+    
+    /**
+     * Returns the projection selected by a {@link JsonView} of the properties
+     * and embedded resources of the target class. The projection is computed
+     * once per view.
+     * 
+     * @param view The active view.
+     * @param defaultViewInclusion Whether properties without a view are
+     *            included, see
+     *            {@link com.fasterxml.jackson.databind.MapperFeature#DEFAULT_VIEW_INCLUSION}.
+     * @return The projection of the view.
+     */
+    public HalProjection getViewProjection(Class<?> view, boolean defaultViewInclusion) {
+        Map<Class<?>, HalProjection> projections = defaultViewInclusion ? this.inclusiveViews
+                : this.exclusiveViews;
+        return projections.computeIfAbsent(view,
+                key -> createViewProjection(this.targetClass, key, defaultViewInclusion));
+    }
+    
+    /**
+     * Checks the model for errors which would otherwise only be detected while
+     * decoding a document, e.g. an embedded collection without
+     * {@link Embedded#collectionContentType()}.
+     * 
+     * @throws HalResourceDeserializerException If the model is invalid.
+     */
+    public void validate() {
+        for (EmbeddedResourcePropertyDescriptor descriptor : this.embeddedResourcePropertyDescriptors
+                .values()) {
+            if (isCollectionType(descriptor.getType()) && Embedded.DefaultCollectionContentType.class
+                    .equals(descriptor.getCollectionContentType())) {
+                throw new HalResourceDeserializerException(
+                        "No collection content type for embedded resource '"
+                                + descriptor.getRelationName() + "' of " + this.targetClass);
+            }
+        }
+        if (this.creator == null && this.generatedMetadata == null
+                && (this.defaultConstructor == null
+                        || Modifier.isAbstract(this.targetClass.getModifiers()))) {
+            throw new HalResourceDeserializerException(
+                    "No default constructor or creator for " + this.targetClass);
+        }
+    }
+    
+    /**
+     * @return Whether the embedded resources are read element by element, so
+     *         the element type has to be declared.
+     */
+    private static boolean isCollectionType(Class<?> type) {
+        return type.isArray() || Collection.class.isAssignableFrom(type)
+                || Iterator.class.equals(type) || Stream.class.equals(type)
+                || Consumer.class.equals(type);
+    }
+    
+    /**
+     * Resolves the shared instance from the registry after Java
+     * deserialization instead of restoring the introspected maps.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        return HalResourceMetadataRegistry.getMetadata(this.targetClass);
+    }
+    
+    private static Constructor<?> findDefaultConstructor(Class<?> clazz) {
+        try {
+            return clazz.getDeclaredConstructor();
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+    
+    private static Map<String, Class<?>> createPropertyTypesMap(
+            Map<String, PropertyWriter> propertyWriters) {
+        Map<String, Class<?>> types = new HashMap<>();
+        for (Entry<String, PropertyWriter> writer : propertyWriters.entrySet()) {
+            types.put(writer.getKey(), writer.getValue().getType());
+        }
+        return types;
+    }
+    
+    /**
+     * Introspects the views by reflection, even for generated metadata,
+     * because views are only used by few readers.
+     */
+    private static HalProjection createViewProjection(Class<?> clazz, Class<?> view,
+            boolean defaultViewInclusion) {
+        Set<String> properties = new HashSet<>();
+        Set<String> embeddedRels = new HashSet<>();
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(clazz)) {
+            // The class of getClass() is no property of the document
+            if (PropertyUtils.isHalResourceProperty(descriptor)
+                    || "class".equals(descriptor.getName())
+                    || !isIncludedInView(clazz, descriptor, view, defaultViewInclusion)) {
+                continue;
+            }
+            Embedded embedded = findAnnotation(descriptor, Embedded.class);
+            if (embedded != null) {
+                embeddedRels.add(embedded.value());
+            } else {
+                properties.add(PropertyUtils.getPropertyName(descriptor));
+            }
+        }
+        return new HalProjection(properties, embeddedRels);
+    }
+    
+    private static boolean isIncludedInView(Class<?> clazz, PropertyDescriptor descriptor,
+            Class<?> view, boolean defaultViewInclusion) {
+        JsonView jsonView = findAnnotation(descriptor, JsonView.class);
+        if (jsonView == null) {
+            Field field = ReflectionUtils.findField(clazz, descriptor.getName());
+            jsonView = field == null ? null : AnnotationUtils.getAnnotation(field, JsonView.class);
+        }
+        if (jsonView == null) {
+            return defaultViewInclusion;
+        }
+        for (Class<?> propertyView : jsonView.value()) {
+            if (propertyView.isAssignableFrom(view)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static <A extends Annotation> A findAnnotation(
+            PropertyDescriptor descriptor, Class<A> annotationType) {
+        A annotation = getAnnotation(descriptor.getReadMethod(), annotationType);
+        if (annotation == null) {
+            annotation = getAnnotation(descriptor.getWriteMethod(), annotationType);
+        }
+        return annotation;
+    }
+    
+    private static <A extends Annotation> A getAnnotation(Method method,
+            Class<A> annotationType) {
+        return method == null ? null : AnnotationUtils.getAnnotation(method, annotationType);
+    }
+    
+    private static boolean shouldIgnoreUnknownProperties(Class<?> clazz) {
+        JsonIgnoreProperties annotation = AnnotationUtils.findAnnotation(clazz,
+                JsonIgnoreProperties.class);
+        if (annotation == null) {
+            return false;
+        }
+        return annotation.ignoreUnknown();
+    }
+}
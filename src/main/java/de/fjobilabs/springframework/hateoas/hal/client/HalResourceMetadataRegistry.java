@@ -0,0 +1,119 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Process-wide cache of {@link HalResourceMetadata}.<br>
+ * The metadata of a class is computed on first access and then shared by all
+ * {@link HalResourceDeserializer} instances, regardless of the deserialization
+ * context or the nesting level they are used in. The registry is backed by a
+ * {@link ClassValue}, so it is thread-safe and does not prevent classes from
+ * being unloaded.<br>
+ * If a {@link GeneratedHalResourceMetadata} class exists for a resource class,
+ * the metadata is created from it instead of by reflection.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 09:20:15
+ * @version 1.0
+ */
+public class HalResourceMetadataRegistry {
+    
+    private static volatile PropertyAccessorStrategy propertyAccessorStrategy;
+    private static volatile boolean generatedMetadataEnabled = true;
+    private static volatile ClassValue<HalResourceMetadata> metadata;
+    
+    static {
+        setPropertyAccessorStrategy(new LambdaPropertyAccessorStrategy());
+    }
+    
+    private HalResourceMetadataRegistry() {
+    }
+    
+    /**
+     * Returns the metadata of the given class, introspecting the class if this
+     * is the first request for it.
+     * 
+     * @param type The resource class.
+     * @return The shared metadata instance.
+     */
+    public static HalResourceMetadata getMetadata(Class<?> type) {
+        return metadata.get(type);
+    }
+    
+    public static PropertyAccessorStrategy getPropertyAccessorStrategy() {
+        return propertyAccessorStrategy;
+    }
+    
+    /**
+     * Sets the strategy used to write properties and embedded resources.
+     * Because the accessors are part of the metadata, all metadata computed so
+     * far is discarded. The strategy should therefore be set once during
+     * startup, before any resource is deserialized.
+     * 
+     * @param strategy The strategy to use, defaults to the
+     *            {@link LambdaPropertyAccessorStrategy}.
+     */
+    public static synchronized void setPropertyAccessorStrategy(
+            PropertyAccessorStrategy strategy) {
+        Assert.notNull(strategy, "PropertyAccessorStrategy must not be null");
+        propertyAccessorStrategy = strategy;
+        metadata = createMetadataCache(strategy);
+    }
+    
+    public static boolean isGeneratedMetadataEnabled() {
+        return generatedMetadataEnabled;
+    }
+    
+    /**
+     * Sets whether generated metadata classes are used. If disabled, all
+     * classes are introspected by reflection with the
+     * {@link PropertyAccessorStrategy}. All metadata computed so far is
+     * discarded.
+     * 
+     * @param enabled Whether to use generated metadata, defaults to
+     *            {@code true}.
+     */
+    public static synchronized void setGeneratedMetadataEnabled(boolean enabled) {
+        generatedMetadataEnabled = enabled;
+        metadata = createMetadataCache(propertyAccessorStrategy);
+    }
+    
+    private static ClassValue<HalResourceMetadata> createMetadataCache(
+            PropertyAccessorStrategy strategy) {
+        boolean useGeneratedMetadata = generatedMetadataEnabled;
+        return new ClassValue<HalResourceMetadata>() {
+            
+            @Override
+            protected HalResourceMetadata computeValue(Class<?> type) {
+                GeneratedHalResourceMetadata generatedMetadata = null;
+                if (useGeneratedMetadata) {
+                    generatedMetadata = findGeneratedMetadata(type);
+                }
+                if (generatedMetadata != null) {
+                    return new HalResourceMetadata(generatedMetadata);
+                }
+                return new HalResourceMetadata(type, strategy);
+            }
+        };
+    }
+    
+    private static GeneratedHalResourceMetadata findGeneratedMetadata(Class<?> type) {
+        String className = type.getName() + GeneratedHalResourceMetadata.CLASS_NAME_SUFFIX;
+        if (!ClassUtils.isPresent(className, type.getClassLoader())) {
+            return null;
+        }
+        Class<?> generatedClass = ClassUtils.resolveClassName(className, type.getClassLoader());
+        if (!GeneratedHalResourceMetadata.class.isAssignableFrom(generatedClass)) {
+            return null;
+        }
+        GeneratedHalResourceMetadata generatedMetadata = (GeneratedHalResourceMetadata) BeanUtils
+                .instantiateClass(generatedClass);
+        // Generated for a class of the same name, but from another class loader
+        if (generatedMetadata.getTargetClass() != type) {
+            return null;
+        }
+        return generatedMetadata;
+    }
+}
@@ -0,0 +1,111 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link PropertyAccessorStrategy} which generates a direct call to the write
+ * method with the {@link LambdaMetafactory}, so the JIT is able to inline the
+ * write like any other method call.<br>
+ * If the write method can't be linked by a generated class, because it is not
+ * public or not visible from the class loader of this library, a bound
+ * {@link MethodHandle} is used. If that fails too, the fallback strategy is
+ * used, which defaults to the {@link ReflectionPropertyAccessorStrategy}.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 10:52:18
+ * @version 1.0
+ */
+public class LambdaPropertyAccessorStrategy implements PropertyAccessorStrategy {
+    
+    private static final MethodType ACCESSOR_METHOD_TYPE = MethodType.methodType(void.class,
+            Object.class, Object.class);
+    private static final MethodType FACTORY_METHOD_TYPE = MethodType
+            .methodType(PropertyWriteAccessor.class);
+    
+    private final PropertyAccessorStrategy fallbackStrategy;
+    
+    /**
+     * Creates a new {@link LambdaPropertyAccessorStrategy} which falls back to
+     * reflective writes.
+     */
+    public LambdaPropertyAccessorStrategy() {
+        this(new ReflectionPropertyAccessorStrategy());
+    }
+    
+    /**
+     * Creates a new {@link LambdaPropertyAccessorStrategy}.
+     * 
+     * @param fallbackStrategy The strategy to use if neither a generated nor a
+     *            method handle accessor can be created.
+     */
+    public LambdaPropertyAccessorStrategy(PropertyAccessorStrategy fallbackStrategy) {
+        this.fallbackStrategy = fallbackStrategy;
+    }
+    
+    @Override
+    public PropertyWriteAccessor createWriteAccessor(Method writeMethod) {
+        Lookup lookup = MethodHandles.lookup();
+        try {
+            MethodHandle handle = lookup.unreflect(writeMethod);
+            if (isLinkable(writeMethod)) {
+                return createGeneratedAccessor(lookup, handle, writeMethod);
+            }
+            return createMethodHandleAccessor(handle);
+        } catch (Throwable e) {
+            // Any access or linkage problem is handled by the fallback
+            return this.fallbackStrategy.createWriteAccessor(writeMethod);
+        }
+    }
+    
+    private PropertyWriteAccessor createGeneratedAccessor(Lookup lookup, MethodHandle handle,
+            Method writeMethod) throws Throwable {
+        Class<?> valueType = ClassUtils.resolvePrimitiveIfNecessary(
+                writeMethod.getParameterTypes()[0]);
+        MethodType instantiatedMethodType = MethodType.methodType(void.class,
+                writeMethod.getDeclaringClass(), valueType);
+        CallSite callSite = LambdaMetafactory.metafactory(lookup, "write", FACTORY_METHOD_TYPE,
+                ACCESSOR_METHOD_TYPE, handle, instantiatedMethodType);
+        return (PropertyWriteAccessor) callSite.getTarget().invoke();
+    }
+    
+    private PropertyWriteAccessor createMethodHandleAccessor(MethodHandle handle) {
+        MethodHandle accessorHandle = handle.asType(ACCESSOR_METHOD_TYPE);
+        // invokeExact must be a statement to be linked with a void return type
+        return (instance, value) -> {
+            accessorHandle.invokeExact(instance, value);
+        };
+    }
+    
+    /**
+     * The generated class is defined in the class loader of this library and
+     * calls the write method directly, so the method must be public and all
+     * types of its signature must be visible from that class loader.
+     */
+    private boolean isLinkable(Method writeMethod) {
+        if (!Modifier.isPublic(writeMethod.getModifiers())
+                || !Modifier.isPublic(writeMethod.getDeclaringClass().getModifiers())) {
+            return false;
+        }
+        return isVisible(writeMethod.getDeclaringClass())
+                && isVisible(writeMethod.getParameterTypes()[0])
+                && isVisible(writeMethod.getReturnType());
+    }
+    
+    private boolean isVisible(Class<?> type) {
+        Class<?> elementType = type;
+        while (elementType.isArray()) {
+            elementType = elementType.getComponentType();
+        }
+        return elementType.isPrimitive() || ClassUtils.isVisible(elementType,
+                LambdaPropertyAccessorStrategy.class.getClassLoader());
+    }
+}
@@ -0,0 +1,134 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import de.fjobilabs.springframework.hateoas.hal.client.exception.EmbeddedResourcePropertyException;
+
+/**
+ * Holder for an embedded resource which is decoded on first access.<br>
+ * If an {@link Embedded} property is declared as {@code LazyEmbedded<T>}, the
+ * {@link HalResourceDeserializer} only captures the tokens of the relation
+ * and binds them to {@code T} when {@link #get()} is called for the first
+ * time. Relations which are never read are never decoded:
+ * 
+ * <pre>
+ * private LazyEmbedded&lt;Collection&lt;Item&gt;&gt; items;
+ * 
+ * public Collection&lt;Item&gt; getItems() {
+ *     return items == null ? null : items.get();
+ * }
+ * 
+ * &#64;Embedded(value = "items", collectionContentType = Item.class)
+ * public void setItems(LazyEmbedded&lt;Collection&lt;Item&gt;&gt; items) {
+ *     this.items = items;
+ * }
+ * </pre>
+ * 
+ * The elements of a captured relation count against the
+ * {@link HalDecodingLimits} of the document while it is read. The relation is
+ * bound with the limits of the document as well, starting at the depth of the
+ * relation.<br>
+ * Instances are thread-safe. The captured tokens are released once the value
+ * has been bound.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 13:05:37
+ * @version 1.0
+ * @param <T> The declared type of the embedded resource.
+ */
+public class LazyEmbedded<T> {
+    
+    private final String relationName;
+    private TokenBuffer tokens;
+    private ObjectCodec codec;
+    private DecodingScope scope;
+    private EmbeddedResourceReader reader;
+    private volatile boolean bound;
+    private T value;
+    
+    LazyEmbedded(String relationName, TokenBuffer tokens, ObjectCodec codec, DecodingScope scope,
+            EmbeddedResourceReader reader) {
+        this.relationName = relationName;
+        this.tokens = tokens;
+        this.codec = codec;
+        this.scope = scope;
+        this.reader = reader;
+    }
+    
+    private LazyEmbedded(T value) {
+        this.relationName = null;
+        this.value = value;
+        this.bound = true;
+    }
+    
+    /**
+     * Creates an already bound instance, e.g. to create resources in code.
+     * 
+     * @param value The embedded resource.
+     * @return The bound instance.
+     */
+    public static <T> LazyEmbedded<T> of(T value) {
+        return new LazyEmbedded<>(value);
+    }
+    
+    /**
+     * Returns the embedded resource, decoding it if this is the first call.
+     * 
+     * @return The embedded resource.
+     * @throws EmbeddedResourcePropertyException If the captured tokens can't
+     *             be bound to the declared type.
+     */
+    public T get() {
+        if (!this.bound) {
+            bind();
+        }
+        return this.value;
+    }
+    
+    public boolean isBound() {
+        return bound;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private synchronized void bind() {
+        if (this.bound) {
+            return;
+        }
+        DecodingScope previous = DecodingScope.enter(this.scope);
+        try (JsonParser parser = this.tokens.asParser(this.codec)) {
+            parser.nextToken();
+            this.value = (T) this.reader.read(parser);
+        } catch (IOException e) {
+            throw new EmbeddedResourcePropertyException(
+                    "Failed to read embedded resource '" + this.relationName + "'", e);
+        } finally {
+            DecodingScope.restore(previous);
+        }
+        this.tokens = null;
+        this.codec = null;
+        this.scope = null;
+        this.reader = null;
+        this.bound = true;
+    }
+    
+    @Override
+    public String toString() {
+        if (this.bound) {
+            return String.format("LazyEmbedded { value: %s }", this.value);
+        }
+        return String.format("LazyEmbedded { relation: %s, unbound }", this.relationName);
+    }
+    
+    /**
+     * Reads the embedded resource from a parser positioned at its first token.
+     */
+    @FunctionalInterface
+    interface EmbeddedResourceReader {
+        
+        Object read(JsonParser parser) throws IOException;
+    }
+}
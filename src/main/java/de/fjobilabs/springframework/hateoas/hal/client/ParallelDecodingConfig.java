@@ -0,0 +1,91 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration of the parallel decoding of embedded collections, which is
+ * enabled per property by {@link Embedded#parallel()}.<br>
+ * The elements of such a collection are split into chunks of
+ * {@link #getChunkSize()} elements. Every full chunk is bound on the
+ * {@link #getExecutor()}, while the parser continues with the next chunk. The
+ * last chunk is bound on the calling thread, so collections smaller than one
+ * chunk are not bound in parallel at all. Chunks which have not been started
+ * by the executor when the parser needs them are bound on the parser thread,
+ * so a busy or bounded executor never blocks the decoding.<br>
+ * The configuration is set per {@link com.fasterxml.jackson.databind.ObjectMapper
+ * ObjectMapper} as deserialization attribute, otherwise the
+ * {@link #getDefault() default configuration} is used:
+ * 
+ * <pre>
+ * mapper.setConfig(mapper.getDeserializationConfig()
+ *         .withAttribute(ParallelDecodingConfig.ATTRIBUTE, config));
+ * </pre>
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 15:40:12
+ * @version 1.0
+ */
+public final class ParallelDecodingConfig {
+    
+    /**
+     * Name of the deserialization attribute holding the configuration.
+     */
+    public static final String ATTRIBUTE = ParallelDecodingConfig.class.getName();
+    
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+    
+    private static volatile ParallelDecodingConfig defaultConfig = new ParallelDecodingConfig(
+            ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    
+    private final Executor executor;
+    private final int chunkSize;
+    
+    /**
+     * @param executor The executor to bind the chunks on.
+     * @param chunkSize The number of elements per chunk.
+     */
+    public ParallelDecodingConfig(Executor executor, int chunkSize) {
+        Assert.notNull(executor, "Executor must not be null");
+        Assert.isTrue(chunkSize > 0, "Chunk size must be greater than 0");
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+    
+    /**
+     * Returns the configuration used if the mapper has none. Defaults to the
+     * common {@link ForkJoinPool} and chunks of {@value #DEFAULT_CHUNK_SIZE}
+     * elements.
+     * 
+     * @return The configuration.
+     */
+    public static ParallelDecodingConfig getDefault() {
+        return defaultConfig;
+    }
+    
+    /**
+     * Sets the configuration used if the mapper has none.
+     * 
+     * @param config The configuration.
+     */
+    public static void setDefault(ParallelDecodingConfig config) {
+        Assert.notNull(config, "ParallelDecodingConfig must not be null");
+        defaultConfig = config;
+    }
+    
+    public Executor getExecutor() {
+        return executor;
+    }
+    
+    public int getChunkSize() {
+        return chunkSize;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ParallelDecodingConfig { executor: %s, chunkSize: %d }", executor,
+                chunkSize);
+    }
+}
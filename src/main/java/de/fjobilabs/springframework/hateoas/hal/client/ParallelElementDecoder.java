@@ -0,0 +1,186 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import de.fjobilabs.springframework.hateoas.hal.client.exception.EmbeddedResourcePropertyException;
+
+/**
+ * Binds the elements of an embedded collection in chunks on the executor of a
+ * {@link ParallelDecodingConfig}.<br>
+ * The parser thread only copies the tokens of each element into the current
+ * chunk. The bound chunks are passed to the consumer in document order.<br>
+ * Every chunk is bound by the first thread claiming it: a worker of the
+ * executor or the parser thread, once it needs the elements of the chunk. The
+ * parser thread therefore only waits for chunks which are being bound, never
+ * for a chunk queued behind other tasks of a saturated executor, e.g. if the
+ * executor also runs the tasks decoding the documents.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 15:52:37
+ * @version 1.0
+ */
+class ParallelElementDecoder {
+    
+    private final String relationName;
+    private final Class<?> elementType;
+    private final ParallelDecodingConfig config;
+    
+    ParallelElementDecoder(String relationName, Class<?> elementType,
+            ParallelDecodingConfig config) {
+        this.relationName = relationName;
+        this.elementType = elementType;
+        this.config = config;
+    }
+    
+    /**
+     * Reads all elements of the embedded collection the parser is positioned
+     * at.
+     * 
+     * @param parser The parser, positioned at the first token of the
+     *            collection.
+     * @param consumer The consumer of the bound elements.
+     * @throws IOException If the collection can't be read.
+     */
+    public void read(JsonParser parser, Consumer<Object> consumer) throws IOException {
+        ObjectCodec codec = parser.getCodec();
+        DecodingScope scope = DecodingScope.current();
+        DecodingScope.ElementCounter counter = DecodingScope.countElements(scope,
+                this.relationName);
+        List<ChunkTask> chunkTasks = new ArrayList<>();
+        try {
+            EmbeddedElementCursor cursor = new EmbeddedElementCursor(parser);
+            TokenBuffer chunk = null;
+            int chunkElements = 0;
+            while (cursor.next()) {
+                counter.elementRead();
+                if (chunk == null) {
+                    chunk = new TokenBuffer(parser);
+                }
+                chunk.copyCurrentStructure(parser);
+                if (++chunkElements == this.config.getChunkSize()) {
+                    chunkTasks.add(submit(chunk, codec, scope == null ? null : scope.fork()));
+                    chunk = null;
+                    chunkElements = 0;
+                }
+            }
+            List<Object> lastChunk = chunk == null ? null : bindChunk(chunk, codec);
+            for (ChunkTask chunkTask : chunkTasks) {
+                join(chunkTask).forEach(consumer);
+            }
+            if (lastChunk != null) {
+                lastChunk.forEach(consumer);
+            }
+        } finally {
+            // Chunks of a failed collection are not bound anymore
+            chunkTasks.forEach(ChunkTask::claim);
+        }
+    }
+    
+    private ChunkTask submit(TokenBuffer chunk, ObjectCodec codec, DecodingScope scope) {
+        ChunkTask chunkTask = new ChunkTask(chunk, codec, scope);
+        try {
+            this.config.getExecutor().execute(chunkTask);
+        } catch (RejectedExecutionException e) {
+            // The chunk is bound by the parser thread
+        }
+        return chunkTask;
+    }
+    
+    private List<Object> bindChunk(TokenBuffer chunk, ObjectCodec codec) throws IOException {
+        List<Object> elements = new ArrayList<>(this.config.getChunkSize());
+        try (JsonParser chunkParser = chunk.asParser(codec)) {
+            while (chunkParser.nextToken() != null) {
+                elements.add(chunkParser.readValueAs(this.elementType));
+            }
+        }
+        return elements;
+    }
+    
+    /**
+     * Returns the elements of a chunk. If no worker has started to bind the
+     * chunk, it is bound on the current thread.
+     */
+    private List<Object> join(ChunkTask chunkTask) throws IOException {
+        if (chunkTask.claim()) {
+            return chunkTask.bind();
+        }
+        try {
+            return chunkTask.result.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new EmbeddedResourcePropertyException(
+                    "Failed to read embedded resource '" + this.relationName + "'", cause);
+        }
+    }
+    
+    /**
+     * A chunk, which is bound by the thread claiming it first.
+     */
+    private class ChunkTask implements Runnable {
+        
+        private final TokenBuffer chunk;
+        private final ObjectCodec codec;
+        private final DecodingScope scope;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<List<Object>> result = new CompletableFuture<>();
+        
+        ChunkTask(TokenBuffer chunk, ObjectCodec codec, DecodingScope scope) {
+            this.chunk = chunk;
+            this.codec = codec;
+            this.scope = scope;
+        }
+        
+        boolean claim() {
+            return this.claimed.compareAndSet(false, true);
+        }
+        
+        /**
+         * Binds the chunk on a worker thread, unless it has been claimed by
+         * the parser thread.
+         */
+        @Override
+        public void run() {
+            if (!claim()) {
+                return;
+            }
+            try {
+                this.result.complete(bind());
+            } catch (IOException | RuntimeException | Error e) {
+                this.result.completeExceptionally(e);
+            }
+        }
+        
+        /**
+         * Binds the chunk with the scope of the parser thread, which shares
+         * the identity map and the limits.
+         */
+        List<Object> bind() throws IOException {
+            DecodingScope previousScope = DecodingScope.enter(this.scope);
+            try {
+                return bindChunk(this.chunk, this.codec);
+            } finally {
+                DecodingScope.restore(previousScope);
+            }
+        }
+    }
+}
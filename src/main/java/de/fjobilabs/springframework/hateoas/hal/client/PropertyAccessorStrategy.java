@@ -0,0 +1,26 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.lang.reflect.Method;
+
+/**
+ * Strategy to create the {@link PropertyWriteAccessor}s used by the
+ * {@link HalResourceDeserializer} to write properties and embedded resources.
+ * The strategy is called once per property when the
+ * {@link HalResourceMetadata} of a class is created.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 10:44:03
+ * @version 1.0
+ * @see HalResourceMetadataRegistry#setPropertyAccessorStrategy(PropertyAccessorStrategy)
+ */
+public interface PropertyAccessorStrategy {
+    
+    /**
+     * Creates an accessor which invokes the given write method.
+     * 
+     * @param writeMethod The write method of the property, never
+     *            {@code null}.
+     * @return The accessor.
+     */
+    PropertyWriteAccessor createWriteAccessor(Method writeMethod);
+}
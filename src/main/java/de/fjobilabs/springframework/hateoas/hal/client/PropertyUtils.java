@@ -1,7 +1,6 @@
 package de.fjobilabs.springframework.hateoas.hal.client;
 
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
@@ -28,6 +27,9 @@ public class PropertyUtils {
         Map<String, Class<?>> types = new HashMap<>();
         PropertyDescriptor[] descriptors = BeanUtils.getPropertyDescriptors(type);
         for (PropertyDescriptor descriptor : descriptors) {
+            if (isHalResourceProperty(descriptor)) {
+                continue;
+            }
             String name = getPropertyName(descriptor);
             if (name != null) {
                 types.put(name, descriptor.getPropertyType());
@@ -36,42 +38,82 @@ public class PropertyUtils {
         return types;
     }
     
+    /**
+     * Creates an index of the writable properties of the given type, keyed by
+     * the JSON property name. The index is meant to be built once per type,
+     * so that setting a property does not require a scan over the property
+     * descriptors.
+     * 
+     * @param type The type to introspect.
+     * @return The property writers, keyed by JSON property name.
+     */
+    public static Map<String, PropertyWriter> createPropertyWriterMap(Class<?> type) {
+        return createPropertyWriterMap(type,
+                HalResourceMetadataRegistry.getPropertyAccessorStrategy());
+    }
+    
+    /**
+     * Creates an index of the writable properties of the given type, keyed by
+     * the JSON property name.
+     * 
+     * @param type The type to introspect.
+     * @param accessorStrategy The strategy to create the write accessors.
+     * @return The property writers, keyed by JSON property name.
+     */
+    public static Map<String, PropertyWriter> createPropertyWriterMap(Class<?> type,
+            PropertyAccessorStrategy accessorStrategy) {
+        Map<String, PropertyWriter> writers = new HashMap<>();
+        PropertyDescriptor[] descriptors = BeanUtils.getPropertyDescriptors(type);
+        for (PropertyDescriptor descriptor : descriptors) {
+            if (isHalResourceProperty(descriptor)) {
+                continue;
+            }
+            String name = getPropertyName(descriptor);
+            if (name != null) {
+                writers.put(name, createPropertyWriter(descriptor, accessorStrategy));
+            }
+        }
+        return writers;
+    }
+    
     public static void setProperties(Object instance, Map<String, Object> properties) {
+        setProperties(HalResourceMetadataRegistry.getMetadata(instance.getClass())
+                .getPropertyWriters(), instance, properties);
+    }
+    
+    public static void setProperties(Map<String, PropertyWriter> propertyWriters, Object instance,
+            Map<String, Object> properties) {
         for (Entry<String, Object> property : properties.entrySet()) {
-            PropertyDescriptor descriptor = findPropertyDescriptor(instance, property.getKey());
-            setPropertyValue(instance, descriptor, property.getValue());
+            PropertyWriter writer = propertyWriters.get(property.getKey());
+            if (writer == null) {
+                throw new PropertyException("Failed to find property '" + property.getKey()
+                        + "' for instance " + instance);
+            }
+            writer.write(instance, property.getValue());
         }
     }
     
-    private static void setPropertyValue(Object instance, PropertyDescriptor descriptor,
-            Object value) {
-        Method writerMethod = descriptor.getWriteMethod();
-        if (writerMethod == null) {
-            throw new PropertyException("Property '" + descriptor.getName() + "' can't be written");
-        }
-        try {
-            writerMethod.invoke(instance, value);
-        } catch (IllegalAccessException e) {
-            throw new PropertyException(
-                    "Cannot acess writer method for property '" + descriptor.getName() + "'", e);
-        } catch (IllegalArgumentException | InvocationTargetException e) {
-            throw new PropertyException("Failed to write property '" + descriptor.getName() + "'",
-                    e);
+    private static PropertyWriter createPropertyWriter(PropertyDescriptor descriptor,
+            PropertyAccessorStrategy accessorStrategy) {
+        Method writeMethod = descriptor.getWriteMethod();
+        PropertyWriteAccessor accessor = null;
+        if (writeMethod != null) {
+            accessor = accessorStrategy.createWriteAccessor(writeMethod);
         }
+        return new PropertyWriter(descriptor.getName(), descriptor.getPropertyType(),
+                writeMethod, accessor);
     }
     
-    private static PropertyDescriptor findPropertyDescriptor(Object instance, String name) {
-        PropertyDescriptor[] descriptors = BeanUtils.getPropertyDescriptors(instance.getClass());
-        for (PropertyDescriptor descriptor : descriptors) {
-            if (name.equals(getPropertyName(descriptor))) {
-                return descriptor;
-            }
-        }
-        throw new PropertyException(
-                "Failed to find property '" + name + "' for instance " + instance);
+    /**
+     * The link accessors of {@link HalResource} are not part of the resource
+     * properties.
+     */
+    static boolean isHalResourceProperty(PropertyDescriptor descriptor) {
+        Method readMethod = descriptor.getReadMethod();
+        return readMethod != null && HalResource.class.equals(readMethod.getDeclaringClass());
     }
     
-    private static String getPropertyName(PropertyDescriptor descriptor) {
+    static String getPropertyName(PropertyDescriptor descriptor) {
         String name = getPropertyNameFromMethod(descriptor.getReadMethod());
         if (name == null) {
             name = getPropertyNameFromMethod(descriptor.getWriteMethod());
@@ -87,9 +129,67 @@ public class PropertyUtils {
             return null;
         }
         JsonProperty annotation = AnnotationUtils.getAnnotation(method, JsonProperty.class);
-        if (annotation != null) {
+        // @JsonProperty without a value keeps the property name
+        if (annotation != null && !annotation.value().isEmpty()) {
             return annotation.value();
         }
         return null;
     }
+    
+    /**
+     * Prepared writer for a single property, resolved once per type by
+     * {@link PropertyUtils#createPropertyWriterMap(Class)}.
+     * 
+     * @author Felix Jordan
+     * @since 18.10.2026 - 10:04:51
+     * @version 1.0
+     */
+    public static class PropertyWriter {
+        
+        private final String name;
+        private final Class<?> type;
+        private final Method writeMethod;
+        private final PropertyWriteAccessor accessor;
+        
+        public PropertyWriter(String name, Class<?> type, Method writeMethod) {
+            this(name, type, writeMethod, writeMethod == null ? null
+                    : new ReflectionPropertyAccessorStrategy().createWriteAccessor(writeMethod));
+        }
+        
+        public PropertyWriter(String name, Class<?> type, Method writeMethod,
+                PropertyWriteAccessor accessor) {
+            this.name = name;
+            this.type = type;
+            this.writeMethod = writeMethod;
+            this.accessor = accessor;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public Class<?> getType() {
+            return type;
+        }
+        
+        public Method getWriteMethod() {
+            return writeMethod;
+        }
+        
+        public void write(Object instance, Object value) {
+            if (this.accessor == null) {
+                throw new PropertyException("Property '" + this.name + "' can't be written");
+            }
+            try {
+                this.accessor.write(instance, value);
+            } catch (IllegalAccessException e) {
+                throw new PropertyException(
+                        "Cannot acess writer method for property '" + this.name + "'", e);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new PropertyException("Failed to write property '" + this.name + "'", e);
+            }
+        }
+    }
 }
@@ -0,0 +1,18 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+/**
+ * Writes the value of a single property into an instance.<br>
+ * Accessors are created once per property by a
+ * {@link PropertyAccessorStrategy} and may throw anything the underlying
+ * write throws. Callers are responsible to translate failures into the
+ * matching property exception.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 10:41:27
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface PropertyWriteAccessor {
+    
+    void write(Object instance, Object value) throws Throwable;
+}
@@ -0,0 +1,19 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link PropertyAccessorStrategy} which writes properties by a reflective
+ * {@link Method#invoke(Object, Object...)} call.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 10:47:36
+ * @version 1.0
+ */
+public class ReflectionPropertyAccessorStrategy implements PropertyAccessorStrategy {
+    
+    @Override
+    public PropertyWriteAccessor createWriteAccessor(Method writeMethod) {
+        return (instance, value) -> writeMethod.invoke(instance, value);
+    }
+}
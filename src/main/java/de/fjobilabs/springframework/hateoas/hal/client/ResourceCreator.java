@@ -0,0 +1,238 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import java.beans.ConstructorProperties;
+import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.beans.BeanInstantiationException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotationUtils;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import de.fjobilabs.springframework.hateoas.hal.client.EmbeddedProperyUtils.EmbeddedResourcePropertyDescriptor;
+import de.fjobilabs.springframework.hateoas.hal.client.exception.HalResourceDeserializerException;
+
+/**
+ * Constructor of a resource class, which receives properties and embedded
+ * resources as arguments.<br>
+ * A constructor annotated with {@link JsonCreator} is used, otherwise one
+ * annotated with {@link ConstructorProperties}. A parameter is bound to the
+ * embedded resource of its {@link Embedded} annotation. Otherwise it is bound
+ * to the property named by its {@link JsonProperty} annotation, by
+ * {@link ConstructorProperties} or by the parameter name. If a parameter names
+ * a bean property, whose getter or setter is annotated with {@link Embedded},
+ * it is bound to that embedded resource.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 21:48:30
+ * @version 1.0
+ */
+public class ResourceCreator {
+    
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER =
+            new DefaultParameterNameDiscoverer();
+    
+    private final Constructor<?> constructor;
+    private final JavaType[] parameterTypes;
+    private final EmbeddedResourcePropertyDescriptor[] embeddedDescriptors;
+    private final Map<String, Integer> propertyIndexes = new HashMap<>();
+    private final Map<String, Integer> embeddedIndexes = new HashMap<>();
+    
+    private ResourceCreator(Class<?> type, Constructor<?> constructor) {
+        this.constructor = constructor;
+        int parameterCount = constructor.getParameterCount();
+        this.parameterTypes = new JavaType[parameterCount];
+        this.embeddedDescriptors = new EmbeddedResourcePropertyDescriptor[parameterCount];
+        String[] propertyNames = getPropertyNames(constructor);
+        for (int i = 0; i < parameterCount; i++) {
+            MethodParameter parameter = new MethodParameter(constructor, i);
+            this.parameterTypes[i] = TypeFactory.defaultInstance()
+                    .constructType(parameter.getGenericParameterType());
+            String name = propertyNames == null ? null : propertyNames[i];
+            JsonProperty jsonProperty = parameter.getParameterAnnotation(JsonProperty.class);
+            if (jsonProperty != null && !jsonProperty.value().isEmpty()) {
+                name = jsonProperty.value();
+            }
+            Embedded embedded = parameter.getParameterAnnotation(Embedded.class);
+            PropertyDescriptor beanProperty = null;
+            if (name != null) {
+                beanProperty = BeanUtils.getPropertyDescriptor(type, name);
+            }
+            if (embedded == null && beanProperty != null) {
+                embedded = findEmbeddedAnnotation(beanProperty);
+            }
+            if (embedded != null) {
+                addEmbeddedParameter(constructor, i, embedded);
+            } else if (name != null) {
+                if (jsonProperty == null && beanProperty != null) {
+                    name = PropertyUtils.getPropertyName(beanProperty);
+                }
+                this.propertyIndexes.put(name, i);
+            } else {
+                throw new HalResourceDeserializerException(
+                        "Can't resolve the property of parameter " + i + " of " + constructor);
+            }
+        }
+    }
+    
+    /**
+     * Finds the creator of a resource class.
+     * 
+     * @param type The resource class.
+     * @return The creator or {@code null} if instances are created by the
+     *         default constructor.
+     * @throws HalResourceDeserializerException If the creator is ambiguous or
+     *             not supported.
+     */
+    public static ResourceCreator find(Class<?> type) {
+        if (Modifier.isAbstract(type.getModifiers())
+                || (type.isMemberClass() && !Modifier.isStatic(type.getModifiers()))) {
+            return null;
+        }
+        Constructor<?> constructor = findAnnotatedConstructor(type, JsonCreator.class);
+        if (constructor != null) {
+            JsonCreator.Mode mode = constructor.getAnnotation(JsonCreator.class).mode();
+            if (mode == JsonCreator.Mode.DISABLED) {
+                constructor = null;
+            } else if (mode == JsonCreator.Mode.DELEGATING) {
+                throw new HalResourceDeserializerException(
+                        "Delegating creators are not supported for HAL resources: " + constructor);
+            }
+        }
+        if (constructor == null) {
+            constructor = findAnnotatedConstructor(type, ConstructorProperties.class);
+        }
+        if (constructor == null || constructor.getParameterCount() == 0) {
+            return null;
+        }
+        return new ResourceCreator(type, constructor);
+    }
+    
+    public Constructor<?> getConstructor() {
+        return constructor;
+    }
+    
+    public int getParameterCount() {
+        return parameterTypes.length;
+    }
+    
+    public JavaType getParameterType(int index) {
+        return parameterTypes[index];
+    }
+    
+    /**
+     * @param name The JSON name of a property.
+     * @return The index of the parameter receiving the property or {@code -1}
+     *         if the property is no creator parameter.
+     */
+    public int getPropertyIndex(String name) {
+        Integer index = propertyIndexes.get(name);
+        return index == null ? -1 : index;
+    }
+    
+    /**
+     * @param rel The relation of an embedded resource.
+     * @return The index of the parameter receiving the embedded resource or
+     *         {@code -1} if the embedded resource is no creator parameter.
+     */
+    public int getEmbeddedIndex(String rel) {
+        Integer index = embeddedIndexes.get(rel);
+        return index == null ? -1 : index;
+    }
+    
+    /**
+     * @param index The index of a parameter receiving an embedded resource.
+     * @return The descriptor of the embedded resource, which has no accessors.
+     */
+    public EmbeddedResourcePropertyDescriptor getEmbeddedDescriptor(int index) {
+        return embeddedDescriptors[index];
+    }
+    
+    public Map<String, Integer> getPropertyIndexes() {
+        return Collections.unmodifiableMap(propertyIndexes);
+    }
+    
+    public Map<String, Integer> getEmbeddedIndexes() {
+        return Collections.unmodifiableMap(embeddedIndexes);
+    }
+    
+    /**
+     * Creates an instance. Missing primitive arguments are replaced by their
+     * default value.
+     * 
+     * @param arguments The arguments, indexed like the parameters.
+     * @return The new instance.
+     * @throws BeanInstantiationException If the constructor fails.
+     */
+    public Object create(Object[] arguments) {
+        for (int i = 0; i < arguments.length; i++) {
+            Class<?> parameterType = parameterTypes[i].getRawClass();
+            if (arguments[i] == null && parameterType.isPrimitive()) {
+                arguments[i] = Array.get(Array.newInstance(parameterType, 1), 0);
+            }
+        }
+        return BeanUtils.instantiateClass(constructor, arguments);
+    }
+    
+    private void addEmbeddedParameter(Constructor<?> constructor, int index, Embedded embedded) {
+        EmbeddedResourcePropertyDescriptor descriptor = EmbeddedProperyUtils
+                .createParameterDescriptor(constructor, index, embedded);
+        if (Consumer.class.equals(descriptor.getType())) {
+            throw new HalResourceDeserializerException("Consumer of embedded resource '"
+                    + embedded.value() + "' can't be a creator parameter: " + constructor);
+        }
+        this.embeddedDescriptors[index] = descriptor;
+        this.embeddedIndexes.put(embedded.value(), index);
+    }
+    
+    private static Constructor<?> findAnnotatedConstructor(Class<?> type,
+            Class<? extends Annotation> annotationType) {
+        Constructor<?> annotatedConstructor = null;
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (!constructor.isAnnotationPresent(annotationType)) {
+                continue;
+            }
+            if (annotatedConstructor != null) {
+                throw new HalResourceDeserializerException("Multiple constructors of " + type
+                        + " are annotated with @" + annotationType.getSimpleName());
+            }
+            annotatedConstructor = constructor;
+        }
+        return annotatedConstructor;
+    }
+    
+    private static String[] getPropertyNames(Constructor<?> constructor) {
+        ConstructorProperties constructorProperties = constructor
+                .getAnnotation(ConstructorProperties.class);
+        if (constructorProperties != null
+                && constructorProperties.value().length == constructor.getParameterCount()) {
+            return constructorProperties.value();
+        }
+        return PARAMETER_NAME_DISCOVERER.getParameterNames(constructor);
+    }
+    
+    private static Embedded findEmbeddedAnnotation(PropertyDescriptor descriptor) {
+        Embedded embedded = null;
+        if (descriptor.getReadMethod() != null) {
+            embedded = AnnotationUtils.getAnnotation(descriptor.getReadMethod(), Embedded.class);
+        }
+        if (embedded == null && descriptor.getWriteMethod() != null) {
+            embedded = AnnotationUtils.getAnnotation(descriptor.getWriteMethod(), Embedded.class);
+        }
+        return embedded;
+    }
+}
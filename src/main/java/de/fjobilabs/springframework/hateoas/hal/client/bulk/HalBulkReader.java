@@ -0,0 +1,330 @@
+package de.fjobilabs.springframework.hateoas.hal.client.bulk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import de.fjobilabs.springframework.hateoas.hal.client.exception.HalBulkRecordException;
+
+/**
+ * Reads files of newline-delimited HAL documents (NDJSON), e.g. archived
+ * resources which are re-imported.<br>
+ * The calling thread splits the input into records, which are decoded by the
+ * {@link de.fjobilabs.springframework.hateoas.hal.client.HalResourceDeserializer
+ * HalResourceDeserializer} on the executor of the reader. The decoded
+ * resources are passed to the consumer on the calling thread in the order of
+ * the file. At most {@link #setMaxPendingRecords(int) maxPendingRecords}
+ * records are decoded ahead of the consumer, so a slow consumer slows down
+ * reading instead of filling the memory.<br>
+ * Files are memory-mapped, so the records are decoded directly from the page
+ * cache without being copied into intermediate arrays:
+ * 
+ * <pre>
+ * try (HalBulkReader reader = new HalBulkReader(objectMapper, 4)) {
+ *     reader.read(Paths.get("orders.ndjson"), Order.class, repository::save);
+ * }
+ * </pre>
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:24:10
+ * @version 1.0
+ */
+public class HalBulkReader implements AutoCloseable {
+    
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    
+    private static final int DEFAULT_MAPPING_SIZE = 64 * 1024 * 1024;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private int maxPendingRecords;
+    private int mappingSize = DEFAULT_MAPPING_SIZE;
+    
+    /**
+     * Creates a reader with its own thread pool, which has to be shut down by
+     * {@link #close()}.
+     * 
+     * @param objectMapper The mapper to decode the records with.
+     * @param threads The number of threads decoding records.
+     */
+    public HalBulkReader(ObjectMapper objectMapper, int threads) {
+        Assert.notNull(objectMapper, "ObjectMapper must not be null");
+        Assert.isTrue(threads > 0, "Number of threads must be greater than 0");
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("hal-bulk-");
+        threadFactory.setDaemon(true);
+        this.objectMapper = objectMapper;
+        this.ownedExecutor = Executors.newFixedThreadPool(threads, threadFactory);
+        this.executor = this.ownedExecutor;
+        this.maxPendingRecords = threads * 4;
+    }
+    
+    /**
+     * Creates a reader which decodes the records on the given executor.
+     * 
+     * @param objectMapper The mapper to decode the records with.
+     * @param executor The executor to decode the records on.
+     * @param maxPendingRecords The maximum number of records decoded ahead of
+     *            the consumer.
+     */
+    public HalBulkReader(ObjectMapper objectMapper, Executor executor, int maxPendingRecords) {
+        Assert.notNull(objectMapper, "ObjectMapper must not be null");
+        Assert.notNull(executor, "Executor must not be null");
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.ownedExecutor = null;
+        setMaxPendingRecords(maxPendingRecords);
+    }
+    
+    public int getMaxPendingRecords() {
+        return maxPendingRecords;
+    }
+    
+    /**
+     * Sets the maximum number of records which are decoded or waiting for the
+     * consumer at the same time.
+     * 
+     * @param maxPendingRecords The maximum number of records, defaults to four
+     *            times the number of threads.
+     */
+    public void setMaxPendingRecords(int maxPendingRecords) {
+        Assert.isTrue(maxPendingRecords > 0,
+                "Maximum number of pending records must be greater than 0");
+        this.maxPendingRecords = maxPendingRecords;
+    }
+    
+    public int getMappingSize() {
+        return mappingSize;
+    }
+    
+    /**
+     * Sets the size of the regions a file is mapped in. Records larger than a
+     * region are mapped on their own.
+     * 
+     * @param mappingSize The size in bytes, defaults to 64 MB.
+     */
+    public void setMappingSize(int mappingSize) {
+        Assert.isTrue(mappingSize > 0, "Mapping size must be greater than 0");
+        this.mappingSize = mappingSize;
+    }
+    
+    /**
+     * Reads all records of a file.
+     * 
+     * @param file The file to read.
+     * @param type The class of the resources.
+     * @param consumer Called on the calling thread for each resource in the
+     *            order of the file.
+     * @return The number of records.
+     * @throws IOException If the file cannot be read.
+     * @throws HalBulkRecordException If a record cannot be decoded.
+     */
+    public <T> long read(Path file, Class<T> type, Consumer<? super T> consumer)
+            throws IOException {
+        Assert.notNull(file, "File must not be null");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            RecordPipeline<T> pipeline = new RecordPipeline<>(type, consumer);
+            long size = channel.size();
+            long position = 0;
+            long regionSize = mappingSize;
+            while (position < size) {
+                long length = Math.min(size - position, regionSize);
+                MappedByteBuffer region = channel.map(MapMode.READ_ONLY, position, length);
+                boolean last = position + length == size;
+                int consumed = splitRecords(region, last, pipeline);
+                if (consumed == 0) {
+                    // The record is larger than the region
+                    Assert.state(regionSize < Integer.MAX_VALUE,
+                            "Record at position " + position + " exceeds 2 GB");
+                    regionSize = Math.min(regionSize * 2, Integer.MAX_VALUE);
+                    continue;
+                }
+                position += consumed;
+                regionSize = mappingSize;
+            }
+            return pipeline.finish();
+        }
+    }
+    
+    /**
+     * Reads all records of a stream, e.g. of a compressed file. Unlike
+     * {@link #read(Path, Class, Consumer)}, every record is copied into an
+     * array. The stream is not closed.
+     * 
+     * @param input The stream to read.
+     * @param type The class of the resources.
+     * @param consumer Called on the calling thread for each resource in the
+     *            order of the stream.
+     * @return The number of records.
+     * @throws IOException If the stream cannot be read.
+     * @throws HalBulkRecordException If a record cannot be decoded.
+     */
+    public <T> long read(InputStream input, Class<T> type, Consumer<? super T> consumer)
+            throws IOException {
+        Assert.notNull(input, "InputStream must not be null");
+        RecordPipeline<T> pipeline = new RecordPipeline<>(type, consumer);
+        byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        int length = 0;
+        int read;
+        while ((read = input.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+            int consumed = splitRecords(ByteBuffer.wrap(buffer, 0, length), false, pipeline);
+            if (consumed > 0 || length == buffer.length) {
+                // Submitted records must not be overwritten by the next read
+                int capacity = consumed > 0 ? buffer.length : buffer.length * 2;
+                buffer = Arrays.copyOfRange(buffer, consumed, consumed + capacity);
+                length -= consumed;
+            }
+        }
+        splitRecords(ByteBuffer.wrap(buffer, 0, length), true, pipeline);
+        return pipeline.finish();
+    }
+    
+    /**
+     * Submits all complete records of the buffer.
+     * 
+     * @param last Whether the buffer ends with the last record, which may lack
+     *            a newline.
+     * @return The number of bytes consumed.
+     */
+    private <T> int splitRecords(ByteBuffer buffer, boolean last, RecordPipeline<T> pipeline) {
+        int start = buffer.position();
+        int limit = buffer.limit();
+        for (int i = start; i < limit; i++) {
+            if (buffer.get(i) == NEWLINE) {
+                pipeline.submit(buffer, start, i);
+                start = i + 1;
+            }
+        }
+        if (last && start < limit) {
+            pipeline.submit(buffer, start, limit);
+            start = limit;
+        }
+        return start - buffer.position();
+    }
+    
+    /**
+     * Shuts down the thread pool, if the reader has created its own.
+     */
+    @Override
+    public void close() {
+        if (this.ownedExecutor != null) {
+            this.ownedExecutor.shutdown();
+        }
+    }
+    
+    /**
+     * Decodes the records of a single read and passes them to the consumer in
+     * order.
+     */
+    private class RecordPipeline<T> {
+        
+        private final ObjectReader reader;
+        private final Consumer<? super T> consumer;
+        private final Deque<CompletableFuture<T>> pending = new ArrayDeque<>();
+        private long recordCount;
+        private long consumedCount;
+        
+        RecordPipeline(Class<T> type, Consumer<? super T> consumer) {
+            Assert.notNull(type, "Type must not be null");
+            Assert.notNull(consumer, "Consumer must not be null");
+            this.reader = objectMapper.readerFor(type);
+            this.consumer = consumer;
+        }
+        
+        void submit(ByteBuffer buffer, int start, int end) {
+            if (end > start && buffer.get(end - 1) == CARRIAGE_RETURN) {
+                end--;
+            }
+            if (isBlank(buffer, start, end)) {
+                return;
+            }
+            while (pending.size() >= maxPendingRecords) {
+                consumeNext();
+            }
+            ByteBuffer record = buffer.duplicate();
+            record.limit(end).position(start);
+            long recordNumber = ++recordCount;
+            pending.add(CompletableFuture.supplyAsync(() -> decode(record, recordNumber),
+                    executor));
+        }
+        
+        private T decode(ByteBuffer record, long recordNumber) {
+            try {
+                return reader.readValue(new ByteBufferBackedInputStream(record));
+            } catch (IOException | RuntimeException e) {
+                throw new HalBulkRecordException("Failed to decode record " + recordNumber,
+                        recordNumber, e);
+            }
+        }
+        
+        private void consumeNext() {
+            CompletableFuture<T> next = pending.poll();
+            T resource;
+            try {
+                resource = next.join();
+            } catch (CompletionException | CancellationException e) {
+                cancelPending();
+                if (e.getCause() instanceof HalBulkRecordException) {
+                    throw (HalBulkRecordException) e.getCause();
+                }
+                throw e;
+            }
+            consumedCount++;
+            try {
+                consumer.accept(resource);
+            } catch (RuntimeException | Error e) {
+                cancelPending();
+                throw e;
+            }
+        }
+        
+        long finish() {
+            while (!pending.isEmpty()) {
+                consumeNext();
+            }
+            return consumedCount;
+        }
+        
+        private void cancelPending() {
+            for (CompletableFuture<T> future : pending) {
+                future.cancel(false);
+            }
+            pending.clear();
+        }
+        
+        private boolean isBlank(ByteBuffer buffer, int start, int end) {
+            for (int i = start; i < end; i++) {
+                byte b = buffer.get(i);
+                if (b != ' ' && b != '\t' && b != CARRIAGE_RETURN) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
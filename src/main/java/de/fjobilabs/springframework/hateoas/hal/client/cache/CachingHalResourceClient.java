@@ -0,0 +1,377 @@
+package de.fjobilabs.springframework.hateoas.hal.client.cache;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.RequestEntity.HeadersBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestOperations;
+
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * Client which fetches {@link HalResource HalResources} and caches the decoded
+ * instances.<br>
+ * A resource is cached by its {@code self} link and by the URI it was
+ * requested from. Within the time to live it is served from the cache without
+ * a request. Afterwards it is revalidated by a conditional request, if the
+ * server sent an {@code ETag} or {@code Last-Modified} header, so an unchanged
+ * resource is neither transferred nor decoded again. Responses with
+ * {@code Cache-Control: no-store} are not cached and replace a previously
+ * cached resource. If the cache is full, the least recently used resource is
+ * evicted together with all its keys.<br>
+ * Concurrent requests for the same resource, which is not in the cache or has
+ * to be revalidated, are coalesced: Only one of the callers fetches it, the
+ * others wait for its result.<br>
+ * Cached instances are shared by all callers and must not be modified.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 20:08:51
+ * @version 1.0
+ */
+public class CachingHalResourceClient {
+    
+    private static final MediaType[] ACCEPTED_MEDIA_TYPES = {MediaTypes.HAL_JSON,
+            MediaType.APPLICATION_JSON};
+    
+    private final RestOperations restOperations;
+    private final int maximumSize;
+    private final long timeToLiveMillis;
+    private final Clock clock;
+    /**
+     * The cached resources by their {@code self} link, or by their request URI
+     * if they have none.
+     */
+    private final Map<String, CacheEntry> entries;
+    /**
+     * The primary keys of the resources requested by another URI than their
+     * {@code self} link, by request URI.
+     */
+    private final Map<String, String> aliases = new HashMap<>();
+    private final ConcurrentHashMap<String, Fetch> fetches = new ConcurrentHashMap<>();
+    
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder revalidatedCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    
+    /**
+     * @param restOperations The template to fetch the resources with. It has to
+     *            be able to decode {@link HalResource HalResources}.
+     * @param maximumSize The maximum number of cached resources.
+     * @param timeToLive The time a resource is served without revalidation.
+     */
+    public CachingHalResourceClient(RestOperations restOperations, int maximumSize,
+            Duration timeToLive) {
+        this(restOperations, maximumSize, timeToLive, Clock.systemUTC());
+    }
+    
+    /**
+     * @param restOperations The template to fetch the resources with. It has to
+     *            be able to decode {@link HalResource HalResources}.
+     * @param maximumSize The maximum number of cached resources.
+     * @param timeToLive The time a resource is served without revalidation.
+     * @param clock The clock to determine the age of a resource.
+     */
+    public CachingHalResourceClient(RestOperations restOperations, int maximumSize,
+            Duration timeToLive, Clock clock) {
+        Assert.notNull(restOperations, "RestOperations must not be null");
+        Assert.isTrue(maximumSize > 0, "Maximum size must be greater than 0");
+        Assert.notNull(timeToLive, "Time to live must not be null");
+        Assert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative");
+        Assert.notNull(clock, "Clock must not be null");
+        this.restOperations = restOperations;
+        this.maximumSize = maximumSize;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            
+            private static final long serialVersionUID = 4167208313372049510L;
+            
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() <= CachingHalResourceClient.this.maximumSize) {
+                    return false;
+                }
+                // The aliases are guarded by the lock of the entries
+                removeAliases(eldest.getKey());
+                evictionCount.increment();
+                return true;
+            }
+        };
+    }
+    
+    /**
+     * Returns the resource from the cache or fetches it.
+     * 
+     * @param uri The URI of the resource.
+     * @param type The resource class.
+     * @return The resource or {@code null} if the response has no body.
+     * @throws org.springframework.web.client.RestClientException If the
+     *             request fails.
+     */
+    public <T extends HalResource> T get(URI uri, Class<T> type) {
+        Assert.notNull(uri, "URI must not be null");
+        Assert.notNull(type, "Type must not be null");
+        String key = uri.toString();
+        CacheEntry entry = getEntry(key);
+        if (entry != null && entry.type == type
+                && !entry.isExpired(clock.millis(), timeToLiveMillis)) {
+            hitCount.increment();
+            return type.cast(entry.resource);
+        }
+        return fetchOnce(uri, type);
+    }
+    
+    /**
+     * @param uri The URI of the resource.
+     * @param type The resource class.
+     * @return The resource or {@code null} if the response has no body.
+     * @see #get(URI, Class)
+     */
+    public <T extends HalResource> T get(String uri, Class<T> type) {
+        return get(URI.create(uri), type);
+    }
+    
+    /**
+     * Removes a resource from the cache, e.g. after it has been changed.
+     * 
+     * @param uri The URI or the {@code self} link of the resource.
+     */
+    public void evict(URI uri) {
+        String key = uri.toString();
+        synchronized (entries) {
+            String primaryKey = aliases.remove(key);
+            if (primaryKey == null) {
+                primaryKey = key;
+            }
+            // Also remove the other keys of the resource
+            entries.remove(primaryKey);
+            removeAliases(primaryKey);
+        }
+    }
+    
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            aliases.clear();
+        }
+    }
+    
+    /**
+     * @return The number of cached resources. A resource requested by another
+     *         URI than its {@code self} link counts once.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+    
+    public HalResourceCacheStatistics getStatistics() {
+        return new HalResourceCacheStatistics(hitCount.sum(), revalidatedCount.sum(),
+                missCount.sum(), evictionCount.sum());
+    }
+    
+    private CacheEntry getEntry(String key) {
+        synchronized (entries) {
+            String primaryKey = aliases.get(key);
+            return entries.get(primaryKey == null ? key : primaryKey);
+        }
+    }
+    
+    /**
+     * Fetches the resource unless another thread is already fetching it, in
+     * which case its result is returned.
+     */
+    private <T extends HalResource> T fetchOnce(URI uri, Class<T> type) {
+        String key = uri.toString();
+        Fetch fetch = new Fetch(type);
+        Fetch runningFetch = fetches.putIfAbsent(key, fetch);
+        if (runningFetch != null && runningFetch.type == type) {
+            return type.cast(runningFetch.join());
+        }
+        if (runningFetch != null) {
+            // Fetches of other types are not coalesced
+            return fetch(uri, type);
+        }
+        try {
+            T resource = fetch(uri, type);
+            fetch.result.complete(resource);
+            return resource;
+        } catch (RuntimeException | Error e) {
+            fetch.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            fetches.remove(key, fetch);
+        }
+    }
+    
+    /**
+     * Fetches the resource, conditionally if it is cached with validators.
+     * The entry is looked up again, because it may have been updated while
+     * waiting for another fetch.
+     */
+    private <T extends HalResource> T fetch(URI uri, Class<T> type) {
+        CacheEntry entry = getEntry(uri.toString());
+        if (entry == null || entry.type != type) {
+            return fetch(uri, type, null);
+        }
+        if (!entry.isExpired(clock.millis(), timeToLiveMillis)) {
+            hitCount.increment();
+            return type.cast(entry.resource);
+        }
+        return fetch(uri, type, entry.hasValidators() ? entry : null);
+    }
+    
+    /**
+     * Fetches the resource, conditionally if a stale entry is given.
+     */
+    private <T extends HalResource> T fetch(URI uri, Class<T> type, CacheEntry staleEntry) {
+        HeadersBuilder<?> request = RequestEntity.get(uri).accept(ACCEPTED_MEDIA_TYPES);
+        if (staleEntry != null) {
+            if (staleEntry.eTag != null) {
+                request.ifNoneMatch(staleEntry.eTag);
+            }
+            if (staleEntry.lastModified != -1) {
+                request.ifModifiedSince(staleEntry.lastModified);
+            }
+        }
+        ResponseEntity<T> response = restOperations.exchange(request.build(), type);
+        if (staleEntry != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            revalidatedCount.increment();
+            CacheEntry entry = staleEntry.revalidated(clock.millis(), response.getHeaders());
+            put(uri, entry);
+            return type.cast(entry.resource);
+        }
+        missCount.increment();
+        T resource = response.getBody();
+        if (resource == null || !isCacheable(response.getHeaders())) {
+            // A previously cached version must not be served anymore
+            evict(uri);
+            return resource;
+        }
+        put(uri, new CacheEntry(resource, type, clock.millis(), response.getHeaders()));
+        return resource;
+    }
+    
+    private void put(URI uri, CacheEntry entry) {
+        String key = uri.toString();
+        String selfHref = getSelfHref(uri, entry.resource);
+        String primaryKey = selfHref == null ? key : selfHref;
+        synchronized (entries) {
+            if (!primaryKey.equals(key)) {
+                // The request URI may have been the primary key of an older version
+                if (entries.remove(key) != null) {
+                    removeAliases(key);
+                }
+                aliases.put(key, primaryKey);
+            }
+            aliases.remove(primaryKey);
+            entries.put(primaryKey, entry);
+        }
+    }
+    
+    private void removeAliases(String primaryKey) {
+        aliases.values().removeIf(primaryKey::equals);
+    }
+    
+    private static String getSelfHref(URI uri, HalResource resource) {
+        String href = resource.getHalLinks().getHref(Link.REL_SELF);
+        if (!StringUtils.hasText(href)) {
+            return null;
+        }
+        try {
+            return uri.resolve(href).toString();
+        } catch (IllegalArgumentException e) {
+            // Templated or otherwise invalid self links are not used as key
+            return null;
+        }
+    }
+    
+    private static boolean isCacheable(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null || !cacheControl.toLowerCase().contains("no-store");
+    }
+    
+    private static class Fetch {
+        
+        private final Class<?> type;
+        private final CompletableFuture<HalResource> result = new CompletableFuture<>();
+        
+        Fetch(Class<?> type) {
+            this.type = type;
+        }
+        
+        HalResource join() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                // Rethrow the exception of the fetching thread unchanged
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+    
+    private static class CacheEntry {
+        
+        private final HalResource resource;
+        private final Class<?> type;
+        private final long storedAt;
+        private final String eTag;
+        private final long lastModified;
+        
+        CacheEntry(HalResource resource, Class<?> type, long storedAt, HttpHeaders headers) {
+            this(resource, type, storedAt, headers.getETag(), headers.getLastModified());
+        }
+        
+        private CacheEntry(HalResource resource, Class<?> type, long storedAt, String eTag,
+                long lastModified) {
+            this.resource = resource;
+            this.type = type;
+            this.storedAt = storedAt;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+        }
+        
+        boolean isExpired(long now, long timeToLiveMillis) {
+            return now - storedAt >= timeToLiveMillis;
+        }
+        
+        boolean hasValidators() {
+            return eTag != null || lastModified != -1;
+        }
+        
+        /**
+         * A {@code 304} response may carry updated validators.
+         */
+        CacheEntry revalidated(long now, HttpHeaders headers) {
+            String eTag = headers.getETag() != null ? headers.getETag() : this.eTag;
+            long lastModified = headers.getLastModified() != -1 ? headers.getLastModified()
+                    : this.lastModified;
+            return new CacheEntry(resource, type, now, eTag, lastModified);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package de.fjobilabs.springframework.hateoas.hal.client.cache;
+
+/**
+ * Immutable snapshot of the statistics of a {@link CachingHalResourceClient}.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 20:02:37
+ * @version 1.0
+ */
+public final class HalResourceCacheStatistics {
+    
+    private final long hitCount;
+    private final long revalidatedCount;
+    private final long missCount;
+    private final long evictionCount;
+    
+    HalResourceCacheStatistics(long hitCount, long revalidatedCount, long missCount,
+            long evictionCount) {
+        this.hitCount = hitCount;
+        this.revalidatedCount = revalidatedCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+    
+    /**
+     * @return The number of requests served from the cache without a network
+     *         round trip.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+    
+    /**
+     * @return The number of requests served from the cache after the server
+     *         confirmed by {@code 304 Not Modified}, that the resource is
+     *         unchanged.
+     */
+    public long getRevalidatedCount() {
+        return revalidatedCount;
+    }
+    
+    /**
+     * @return The number of requests which had to fetch and decode the
+     *         resource.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+    
+    /**
+     * @return The number of resources removed because the cache was full.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+    
+    public long getRequestCount() {
+        return hitCount + revalidatedCount + missCount;
+    }
+    
+    /**
+     * @return The ratio of requests which did not decode a resource, or
+     *         {@code 1.0} if there were no requests.
+     */
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        if (requestCount == 0) {
+            return 1.0;
+        }
+        return (double) (hitCount + revalidatedCount) / requestCount;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format(
+                "HalResourceCacheStatistics { hitCount: %d, revalidatedCount: %d, missCount: %d, "
+                        + "evictionCount: %d }",
+                hitCount, revalidatedCount, missCount, evictionCount);
+    }
+}
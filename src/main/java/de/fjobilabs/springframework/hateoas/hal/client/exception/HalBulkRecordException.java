@@ -0,0 +1,28 @@
+package de.fjobilabs.springframework.hateoas.hal.client.exception;
+
+/**
+ * Thrown if a record of a bulk file cannot be decoded.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:31:52
+ * @version 1.0
+ */
+public class HalBulkRecordException extends HalResourceDeserializerException {
+    
+    private static final long serialVersionUID = 2816029486125537120L;
+    
+    private final long recordNumber;
+    
+    public HalBulkRecordException(String message, long recordNumber, Throwable cause) {
+        super(message, cause);
+        this.recordNumber = recordNumber;
+    }
+    
+    /**
+     * @return The number of the record, starting at 1. Blank lines are not
+     *         counted.
+     */
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+}
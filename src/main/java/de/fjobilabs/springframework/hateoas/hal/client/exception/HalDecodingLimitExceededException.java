@@ -0,0 +1,29 @@
+package de.fjobilabs.springframework.hateoas.hal.client.exception;
+
+/**
+ * Thrown as soon as a document exceeds one of the
+ * {@link de.fjobilabs.springframework.hateoas.hal.client.HalDecodingLimits
+ * HalDecodingLimits}.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 22:31:06
+ * @version 1.0
+ */
+public class HalDecodingLimitExceededException extends HalResourceDeserializerException {
+    
+    private static final long serialVersionUID = -6211958367417085318L;
+    
+    private final int limit;
+    
+    public HalDecodingLimitExceededException(String message, int limit) {
+        super(message);
+        this.limit = limit;
+    }
+    
+    /**
+     * @return The value of the exceeded limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,95 @@
+package de.fjobilabs.springframework.hateoas.hal.client.metrics;
+
+/**
+ * Measurements of a single decoded resource.<br>
+ * Times are inclusive, so the decode time of a resource contains the decode
+ * times of its embedded resources, which are reported by their own events.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 16:34:50
+ * @version 1.0
+ */
+public class HalDeserializationEvent {
+    
+    private final Class<?> targetClass;
+    private final long decodeNanos;
+    private final int propertyCount;
+    private final int embeddedRelationCount;
+    private final int embeddedElementCount;
+    private final int skippedPropertyCount;
+    private final int excludedPropertyCount;
+    private final long writeNanos;
+    
+    /**
+     * @param targetClass The class of the decoded resource.
+     * @param decodeNanos The time to decode the resource.
+     * @param propertyCount The number of written properties.
+     * @param embeddedRelationCount The number of relations in
+     *            {@code _embedded}, including unknown ones.
+     * @param embeddedElementCount The number of embedded resources bound
+     *            while decoding. Lazy, {@link java.util.Iterator} and
+     *            {@link java.util.stream.Stream} relations are bound later and
+     *            are not counted.
+     * @param skippedPropertyCount The number of skipped unknown properties and
+     *            relations.
+     * @param excludedPropertyCount The number of properties and relations
+     *            skipped, because they are not selected by the
+     *            {@link de.fjobilabs.springframework.hateoas.hal.client.HalProjection
+     *            HalProjection}.
+     * @param writeNanos The time spent in the write methods of the resource.
+     */
+    public HalDeserializationEvent(Class<?> targetClass, long decodeNanos, int propertyCount,
+            int embeddedRelationCount, int embeddedElementCount, int skippedPropertyCount,
+            int excludedPropertyCount, long writeNanos) {
+        this.targetClass = targetClass;
+        this.decodeNanos = decodeNanos;
+        this.propertyCount = propertyCount;
+        this.embeddedRelationCount = embeddedRelationCount;
+        this.embeddedElementCount = embeddedElementCount;
+        this.skippedPropertyCount = skippedPropertyCount;
+        this.excludedPropertyCount = excludedPropertyCount;
+        this.writeNanos = writeNanos;
+    }
+    
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+    
+    public long getDecodeNanos() {
+        return decodeNanos;
+    }
+    
+    public int getPropertyCount() {
+        return propertyCount;
+    }
+    
+    public int getEmbeddedRelationCount() {
+        return embeddedRelationCount;
+    }
+    
+    public int getEmbeddedElementCount() {
+        return embeddedElementCount;
+    }
+    
+    public int getSkippedPropertyCount() {
+        return skippedPropertyCount;
+    }
+    
+    public int getExcludedPropertyCount() {
+        return excludedPropertyCount;
+    }
+    
+    public long getWriteNanos() {
+        return writeNanos;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format(
+                "HalDeserializationEvent { targetClass: %s, decodeNanos: %d, propertyCount: %d, "
+                        + "embeddedRelationCount: %d, embeddedElementCount: %d, "
+                        + "skippedPropertyCount: %d, excludedPropertyCount: %d, writeNanos: %d }",
+                targetClass.getName(), decodeNanos, propertyCount, embeddedRelationCount,
+                embeddedElementCount, skippedPropertyCount, excludedPropertyCount, writeNanos);
+    }
+}
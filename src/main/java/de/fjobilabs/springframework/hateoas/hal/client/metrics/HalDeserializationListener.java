@@ -0,0 +1,45 @@
+package de.fjobilabs.springframework.hateoas.hal.client.metrics;
+
+/**
+ * Receives an event for every resource decoded by the
+ * {@link de.fjobilabs.springframework.hateoas.hal.client.HalResourceDeserializer}.<br>
+ * The listener is called on the decoding thread, so implementations must be
+ * thread-safe and fast. It is set per
+ * {@link com.fasterxml.jackson.databind.ObjectMapper ObjectMapper} as
+ * deserialization attribute, otherwise the listener set by
+ * {@code HalResourceDeserializer.setListener} is used:
+ * 
+ * <pre>
+ * mapper.setConfig(mapper.getDeserializationConfig()
+ *         .withAttribute(HalDeserializationListener.ATTRIBUTE, listener));
+ * </pre>
+ * 
+ * While the {@link #NOOP} listener is used, no measurements are taken at
+ * all.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 16:31:09
+ * @version 1.0
+ * @see de.fjobilabs.springframework.hateoas.hal.client.HalResourceDeserializer#setListener(HalDeserializationListener)
+ */
+@FunctionalInterface
+public interface HalDeserializationListener {
+    
+    /**
+     * Name of the deserialization attribute holding the listener.
+     */
+    String ATTRIBUTE = HalDeserializationListener.class.getName();
+    
+    /**
+     * Listener which ignores all events, used by default.
+     */
+    HalDeserializationListener NOOP = event -> {
+    };
+    
+    /**
+     * Called after a resource has been decoded completely.
+     * 
+     * @param event The measurements of the resource.
+     */
+    void resourceDecoded(HalDeserializationEvent event);
+}
@@ -0,0 +1,113 @@
+package de.fjobilabs.springframework.hateoas.hal.client.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of non-negative values with power of two buckets.<br>
+ * Recording a value is lock-free and does not allocate. Percentiles are
+ * approximated by the upper bound of the bucket they fall into, so they are
+ * at most twice the exact value.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 16:40:22
+ * @version 1.0
+ */
+public class Histogram {
+    
+    private static final int BUCKET_COUNT = 64;
+    
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    
+    /**
+     * Records a value. Negative values are recorded as {@code 0}.
+     * 
+     * @param value The value.
+     */
+    public void record(long value) {
+        long recorded = Math.max(value, 0);
+        this.buckets.incrementAndGet(getBucket(recorded));
+        this.count.increment();
+        this.sum.add(recorded);
+        this.max.accumulate(recorded);
+    }
+    
+    public long getCount() {
+        return count.sum();
+    }
+    
+    public long getSum() {
+        return sum.sum();
+    }
+    
+    public long getMax() {
+        return max.get();
+    }
+    
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) getSum() / count;
+    }
+    
+    /**
+     * Returns the approximated percentile of the recorded values.
+     * 
+     * @param percentile The percentile between {@code 0} and {@code 100}.
+     * @return The upper bound of the bucket of the percentile, but never more
+     *         than the maximum value, or {@code 0} if no values are recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(getUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+    
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            this.buckets.set(i, 0);
+        }
+        this.count.reset();
+        this.sum.reset();
+        this.max.reset();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Histogram { count: %d, mean: %.1f, p50: %d, p99: %d, max: %d }",
+                getCount(), getMean(), getPercentile(50), getPercentile(99), getMax());
+    }
+    
+    /**
+     * Bucket {@code i} holds the values of {@code [2^(i-1), 2^i - 1]}, bucket
+     * {@code 0} holds {@code 0}.
+     */
+    private static int getBucket(long value) {
+        return BUCKET_COUNT - Long.numberOfLeadingZeros(value);
+    }
+    
+    private static long getUpperBound(int bucket) {
+        return bucket >= BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,135 @@
+package de.fjobilabs.springframework.hateoas.hal.client.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link HalDeserializationListener} which keeps {@link Histogram histograms}
+ * of all measurements per resource class in memory.<br>
+ * It can be used in tests to check how resources are decoded, or in
+ * production to find slow resource types:
+ * 
+ * <pre>
+ * InMemoryHalDeserializationMetrics metrics = new InMemoryHalDeserializationMetrics();
+ * mapper.setConfig(mapper.getDeserializationConfig()
+ *         .withAttribute(HalDeserializationListener.ATTRIBUTE, metrics));
+ * ...
+ * metrics.getMetrics(MyResource.class).getDecodeNanos().getPercentile(99);
+ * </pre>
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 16:52:14
+ * @version 1.0
+ */
+public class InMemoryHalDeserializationMetrics implements HalDeserializationListener {
+    
+    private final Map<Class<?>, ResourceMetrics> metrics = new ConcurrentHashMap<>();
+    
+    @Override
+    public void resourceDecoded(HalDeserializationEvent event) {
+        ResourceMetrics resourceMetrics = this.metrics.get(event.getTargetClass());
+        if (resourceMetrics == null) {
+            resourceMetrics = this.metrics.computeIfAbsent(event.getTargetClass(),
+                    type -> new ResourceMetrics());
+        }
+        resourceMetrics.record(event);
+    }
+    
+    /**
+     * Returns the metrics of a resource class.
+     * 
+     * @param targetClass The resource class.
+     * @return The metrics or {@code null} if no resource of the class has been
+     *         decoded yet.
+     */
+    public ResourceMetrics getMetrics(Class<?> targetClass) {
+        return metrics.get(targetClass);
+    }
+    
+    /**
+     * @return A live, unmodifiable view of the metrics of all decoded resource
+     *         classes.
+     */
+    public Map<Class<?>, ResourceMetrics> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+    
+    public void reset() {
+        this.metrics.clear();
+    }
+    
+    /**
+     * Histograms of the measurements of one resource class.
+     * 
+     * @author Felix Jordan
+     * @since 18.10.2026 - 16:55:40
+     * @version 1.0
+     */
+    public static class ResourceMetrics {
+        
+        private final Histogram decodeNanos = new Histogram();
+        private final Histogram propertyCount = new Histogram();
+        private final Histogram embeddedRelationCount = new Histogram();
+        private final Histogram embeddedElementCount = new Histogram();
+        private final Histogram skippedPropertyCount = new Histogram();
+        private final Histogram excludedPropertyCount = new Histogram();
+        private final Histogram writeNanos = new Histogram();
+        
+        void record(HalDeserializationEvent event) {
+            this.decodeNanos.record(event.getDecodeNanos());
+            this.propertyCount.record(event.getPropertyCount());
+            this.embeddedRelationCount.record(event.getEmbeddedRelationCount());
+            this.embeddedElementCount.record(event.getEmbeddedElementCount());
+            this.skippedPropertyCount.record(event.getSkippedPropertyCount());
+            this.excludedPropertyCount.record(event.getExcludedPropertyCount());
+            this.writeNanos.record(event.getWriteNanos());
+        }
+        
+        /**
+         * @return The number of decoded resources.
+         */
+        public long getCount() {
+            return decodeNanos.getCount();
+        }
+        
+        public Histogram getDecodeNanos() {
+            return decodeNanos;
+        }
+        
+        public Histogram getPropertyCount() {
+            return propertyCount;
+        }
+        
+        public Histogram getEmbeddedRelationCount() {
+            return embeddedRelationCount;
+        }
+        
+        public Histogram getEmbeddedElementCount() {
+            return embeddedElementCount;
+        }
+        
+        public Histogram getSkippedPropertyCount() {
+            return skippedPropertyCount;
+        }
+        
+        public Histogram getExcludedPropertyCount() {
+            return excludedPropertyCount;
+        }
+        
+        public Histogram getWriteNanos() {
+            return writeNanos;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format(
+                    "ResourceMetrics { decodeNanos: %s, propertyCount: %s, "
+                            + "embeddedRelationCount: %s, embeddedElementCount: %s, "
+                            + "skippedPropertyCount: %s, excludedPropertyCount: %s, "
+                            + "writeNanos: %s }",
+                    decodeNanos, propertyCount, embeddedRelationCount, embeddedElementCount,
+                    skippedPropertyCount, excludedPropertyCount, writeNanos);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package de.fjobilabs.springframework.hateoas.hal.client.traversal;
+
+import java.net.URI;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.hateoas.Link;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * The relations to follow from a single resource, created by
+ * {@link HalTraversalClient#traverse(HalResource)}.<br>
+ * All links of all relations are fetched concurrently. A URI linked several
+ * times is only fetched once per traversal and resource class. Templated
+ * links are expanded without parameters.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 20:47:03
+ * @version 1.0
+ */
+public class HalTraversal {
+    
+    private final HalTraversalClient client;
+    private final HalResource resource;
+    private final Map<String, Class<? extends HalResource>> rels = new LinkedHashMap<>();
+    
+    HalTraversal(HalTraversalClient client, HalResource resource) {
+        Assert.notNull(resource, "Resource must not be null");
+        this.client = client;
+        this.resource = resource;
+    }
+    
+    /**
+     * Adds a relation to follow. All links with this relation are fetched.
+     * 
+     * @param rel The relation.
+     * @param type The class of the linked resources.
+     * @return This traversal.
+     */
+    public HalTraversal follow(String rel, Class<? extends HalResource> type) {
+        Assert.hasText(rel, "Rel must not be null or empty");
+        Assert.notNull(type, "Type must not be null");
+        this.rels.put(rel, type);
+        return this;
+    }
+    
+    /**
+     * Fetches all linked resources.
+     * 
+     * @return The result, which completes exceptionally if any request fails
+     *         or any link is no valid URI.
+     */
+    public CompletableFuture<HalTraversalResult> execute() {
+        Map<String, List<Entry<URI, Class<?>>>> requests;
+        try {
+            requests = resolveRequests();
+        } catch (RuntimeException e) {
+            CompletableFuture<HalTraversalResult> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+        Map<Entry<URI, Class<?>>, CompletableFuture<?>> fetches = new HashMap<>();
+        Map<String, List<CompletableFuture<?>>> results = new LinkedHashMap<>();
+        for (Entry<String, List<Entry<URI, Class<?>>>> rel : requests.entrySet()) {
+            List<CompletableFuture<?>> relResults = new ArrayList<>(rel.getValue().size());
+            for (Entry<URI, Class<?>> request : rel.getValue()) {
+                relResults.add(fetches.computeIfAbsent(request, this::fetch));
+            }
+            results.put(rel.getKey(), relResults);
+        }
+        int requestCount = fetches.size();
+        return CompletableFuture.allOf(fetches.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> createResult(results, requestCount));
+    }
+    
+    /**
+     * Resolves the URIs of all links before any request is started, so an
+     * invalid link doesn't leave requests running.
+     */
+    private Map<String, List<Entry<URI, Class<?>>>> resolveRequests() {
+        URI baseUri = getBaseUri();
+        Map<String, List<Entry<URI, Class<?>>>> requests = new LinkedHashMap<>();
+        for (Entry<String, Class<? extends HalResource>> rel : this.rels.entrySet()) {
+            List<Entry<URI, Class<?>>> relRequests = new ArrayList<>();
+            for (Link link : this.resource.getLinks(rel.getKey())) {
+                relRequests.add(new SimpleImmutableEntry<>(resolve(baseUri, link), rel.getValue()));
+            }
+            requests.put(rel.getKey(), relRequests);
+        }
+        return requests;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<?> fetch(Entry<URI, Class<?>> request) {
+        return this.client.fetch(request.getKey(),
+                (Class<? extends HalResource>) request.getValue());
+    }
+    
+    private URI getBaseUri() {
+        Link self = this.resource.getLink(Link.REL_SELF);
+        if (self == null || !StringUtils.hasText(self.getHref())) {
+            return null;
+        }
+        URI uri = URI.create(self.expand().getHref());
+        return uri.isAbsolute() ? uri : null;
+    }
+    
+    private static URI resolve(URI baseUri, Link link) {
+        URI uri = URI.create(link.expand().getHref());
+        if (baseUri == null || uri.isAbsolute()) {
+            return uri;
+        }
+        return baseUri.resolve(uri);
+    }
+    
+    private static HalTraversalResult createResult(Map<String, List<CompletableFuture<?>>> results,
+            int requestCount) {
+        Map<String, List<HalResource>> resources = new LinkedHashMap<>();
+        for (Entry<String, List<CompletableFuture<?>>> rel : results.entrySet()) {
+            List<HalResource> relResources = new ArrayList<>(rel.getValue().size());
+            for (CompletableFuture<?> result : rel.getValue()) {
+                relResources.add((HalResource) result.join());
+            }
+            resources.put(rel.getKey(), relResources);
+        }
+        return new HalTraversalResult(resources, requestCount);
+    }
+}
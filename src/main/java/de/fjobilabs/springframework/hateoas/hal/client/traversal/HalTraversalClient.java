@@ -0,0 +1,136 @@
+package de.fjobilabs.springframework.hateoas.hal.client.traversal;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.web.client.RestOperations;
+
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * Client which follows the links of decoded {@link HalResource
+ * HalResources}.<br>
+ * All links of a {@link HalTraversal} are fetched concurrently on the
+ * executor of the client, which bounds the number of concurrent requests. The
+ * responses are decoded by the {@link RestOperations}, which therefore has to
+ * use a Jackson converter, so the
+ * {@link de.fjobilabs.springframework.hateoas.hal.client.HalResourceDeserializer
+ * HalResourceDeserializer} is applied:
+ * 
+ * <pre>
+ * HalTraversalResult result = client.traverse(order)
+ *         .follow("customer", Customer.class)
+ *         .follow("items", Item.class)
+ *         .execute().join();
+ * Customer customer = result.getResource("customer", Customer.class);
+ * </pre>
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 20:41:26
+ * @version 1.0
+ */
+public class HalTraversalClient implements AutoCloseable {
+    
+    private static final MediaType[] ACCEPTED_MEDIA_TYPES = {MediaTypes.HAL_JSON,
+            MediaType.APPLICATION_JSON};
+    
+    private final RestOperations restOperations;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    
+    /**
+     * Creates a client with its own thread pool, which has to be shut down by
+     * {@link #close()}.
+     * 
+     * @param restOperations The template to fetch the resources with.
+     * @param maxConcurrentRequests The maximum number of concurrent requests.
+     */
+    public HalTraversalClient(RestOperations restOperations, int maxConcurrentRequests) {
+        Assert.notNull(restOperations, "RestOperations must not be null");
+        Assert.isTrue(maxConcurrentRequests > 0,
+                "Maximum number of concurrent requests must be greater than 0");
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("hal-traversal-");
+        threadFactory.setDaemon(true);
+        this.restOperations = restOperations;
+        this.ownedExecutor = Executors.newFixedThreadPool(maxConcurrentRequests, threadFactory);
+        this.executor = this.ownedExecutor;
+    }
+    
+    /**
+     * Creates a client which fetches the resources on the given executor. The
+     * executor should be bounded, because a traversal submits all its requests
+     * at once.
+     * 
+     * @param restOperations The template to fetch the resources with.
+     * @param executor The executor to fetch the resources on.
+     */
+    public HalTraversalClient(RestOperations restOperations, Executor executor) {
+        Assert.notNull(restOperations, "RestOperations must not be null");
+        Assert.notNull(executor, "Executor must not be null");
+        this.restOperations = restOperations;
+        this.executor = executor;
+        this.ownedExecutor = null;
+    }
+    
+    /**
+     * Starts a traversal from the given resource. Relative links are resolved
+     * against the {@code self} link of the resource.
+     * 
+     * @param resource The resource to follow the links of.
+     * @return The new traversal.
+     */
+    public HalTraversal traverse(HalResource resource) {
+        return new HalTraversal(this, resource);
+    }
+    
+    /**
+     * Follows the first link with the given relation.
+     * 
+     * @param resource The resource to follow the link of.
+     * @param rel The relation of the link.
+     * @param type The class of the linked resource.
+     * @return The linked resource, which is {@code null} if there is no such
+     *         link.
+     */
+    public <T extends HalResource> CompletableFuture<T> follow(HalResource resource, String rel,
+            Class<T> type) {
+        return traverse(resource).follow(rel, type).execute()
+                .thenApply(result -> result.getResource(rel, type));
+    }
+    
+    /**
+     * Fetches a single resource on the executor. If the executor rejects the
+     * request, e.g. after the client has been closed, the returned future
+     * completes exceptionally.
+     */
+    <T extends HalResource> CompletableFuture<T> fetch(URI uri, Class<T> type) {
+        try {
+            return CompletableFuture.supplyAsync(() -> restOperations
+                    .exchange(RequestEntity.get(uri).accept(ACCEPTED_MEDIA_TYPES).build(), type)
+                    .getBody(), executor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+    }
+    
+    /**
+     * Shuts down the thread pool, if the client has created its own.
+     */
+    @Override
+    public void close() {
+        if (this.ownedExecutor != null) {
+            this.ownedExecutor.shutdown();
+        }
+    }
+}
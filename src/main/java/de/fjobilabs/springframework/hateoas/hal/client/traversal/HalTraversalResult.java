@@ -0,0 +1,73 @@
+package de.fjobilabs.springframework.hateoas.hal.client.traversal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * The resources fetched by a {@link HalTraversal}, grouped by relation in the
+ * order of the links.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 20:52:19
+ * @version 1.0
+ */
+public class HalTraversalResult {
+    
+    private final Map<String, List<HalResource>> resources;
+    private final int requestCount;
+    
+    HalTraversalResult(Map<String, List<HalResource>> resources, int requestCount) {
+        this.resources = Collections.unmodifiableMap(resources);
+        this.requestCount = requestCount;
+    }
+    
+    /**
+     * Returns the first resource of a relation.
+     * 
+     * @param rel The relation.
+     * @param type The class of the resource.
+     * @return The resource or {@code null} if the relation has no link.
+     */
+    public <T extends HalResource> T getResource(String rel, Class<T> type) {
+        List<T> resources = getResources(rel, type);
+        return resources.isEmpty() ? null : resources.get(0);
+    }
+    
+    /**
+     * Returns all resources of a relation.
+     * 
+     * @param rel The relation.
+     * @param type The class of the resources.
+     * @return The resources, never {@code null}.
+     */
+    public <T extends HalResource> List<T> getResources(String rel, Class<T> type) {
+        List<HalResource> relResources = this.resources.get(rel);
+        if (relResources == null) {
+            return Collections.emptyList();
+        }
+        return relResources.stream().map(type::cast).collect(Collectors.toList());
+    }
+    
+    public Set<String> getRels() {
+        return resources.keySet();
+    }
+    
+    /**
+     * @return The number of requests, which is lower than the number of
+     *         resources if a URI was linked several times.
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("HalTraversalResult { rels: %s, requestCount: %d }",
+                resources.keySet(), requestCount);
+    }
+}
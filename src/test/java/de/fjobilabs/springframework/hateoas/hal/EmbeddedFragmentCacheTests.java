@@ -0,0 +1,272 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.core.DefaultRelProvider;
+import org.springframework.hateoas.core.Relation;
+import org.springframework.hateoas.mvc.BasicLinkBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:59:12
+ * @version 1.0
+ */
+public class EmbeddedFragmentCacheTests {
+    
+    private ObjectMapper objectMapper;
+    private EmbeddedFragmentCache cache;
+    
+    @Before
+    public void setUp() {
+        this.objectMapper = HalObjectMappers.configure(new ObjectMapper(),
+                new DefaultRelProvider(), null, null);
+        this.cache = new EmbeddedFragmentCache(10);
+        EmbeddedFragmentCache.setDefault(this.cache);
+    }
+    
+    @After
+    public void tearDown() {
+        EmbeddedFragmentCache.setDefault(null);
+        RequestContextHolder.resetRequestAttributes();
+        LocaleContextHolder.resetLocaleContext();
+    }
+    
+    @Test
+    public void reusesFragmentOfUnchangedVersion() throws Exception {
+        Item item = new Item(1, 1);
+        String first = render(item);
+        String second = render(item);
+        
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+    
+    @Test
+    public void rendersAgainAfterVersionChanged() throws Exception {
+        render(new Item(1, 1));
+        
+        String json = render(new Item(1, 2));
+        
+        assertThat(json).contains("\"version\":2");
+        assertThat(cache.getHitCount()).isEqualTo(0);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+    
+    @Test
+    public void rendersAgainAfterInvalidation() throws Exception {
+        Item item = new Item(1, 1);
+        render(item);
+        
+        cache.invalidate(Item.class, 1);
+        render(item);
+        
+        assertThat(cache.getHitCount()).isEqualTo(0);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+    
+    @Test
+    public void cachesFragmentsPerRequestBaseUri() throws Exception {
+        Item item = new Item(1, 1);
+        
+        bindRequest("a.example.com");
+        String first = render(item);
+        bindRequest("b.example.com");
+        String second = render(item);
+        bindRequest("a.example.com");
+        String third = render(item);
+        
+        assertThat(first).contains("http://a.example.com/app/items/1");
+        assertThat(second).contains("http://b.example.com/app/items/1");
+        assertThat(third).isEqualTo(first);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+    
+    @Test
+    public void bypassesCacheForPrettyPrinting() throws Exception {
+        this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        
+        render(new Item(1, 1));
+        
+        assertThat(cache.size()).isEqualTo(0);
+    }
+    
+    @Test
+    public void evictsLeastRecentlyUsedResource() throws Exception {
+        EmbeddedFragmentCache smallCache = new EmbeddedFragmentCache(1);
+        EmbeddedFragmentCache.setDefault(smallCache);
+        
+        render(new Item(1, 1));
+        render(new Item(2, 1));
+        
+        assertThat(smallCache.size()).isEqualTo(1);
+        assertThat(smallCache.getEvictionCount()).isEqualTo(1);
+    }
+    
+    @Test
+    public void doesNotShareFragmentsBetweenMappers() throws Exception {
+        ObjectMapper otherMapper = HalObjectMappers.configure(new ObjectMapper(),
+                new DefaultRelProvider(), null, null);
+        otherMapper.setSerializationInclusion(Include.NON_NULL);
+        Item item = new Item(1, 1);
+        
+        String first = render(item);
+        String second = render(otherMapper, item);
+        String third = render(item);
+        
+        assertThat(first).contains("\"href\":null");
+        assertThat(second).doesNotContain("href");
+        assertThat(third).isEqualTo(first);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+    
+    @Test
+    public void cachesFragmentsPerLocale() throws Exception {
+        Item item = new Item(1, 1);
+        
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        render(item);
+        LocaleContextHolder.setLocale(Locale.GERMAN);
+        render(item);
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        render(item);
+        
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+    
+    @Test
+    public void cachesResourcesWithLinks() throws Exception {
+        LinkedItem item = new LinkedItem(1);
+        
+        String first = render(item);
+        String second = render(item);
+        
+        assertThat(first).contains("\"_links\":{\"self\":{\"href\":\"/items/1\"}}");
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+    
+    @Test
+    public void doesNotCacheResourcesWithLinkTitles() throws Exception {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("_links.self.title", Locale.ENGLISH, "Item");
+        messageSource.addMessage("_links.self.title", Locale.GERMAN, "Artikel");
+        ObjectMapper titleMapper = HalObjectMappers.configure(new ObjectMapper(),
+                new DefaultRelProvider(), null, new MessageSourceAccessor(messageSource));
+        LinkedItem item = new LinkedItem(1);
+        
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        String first = render(titleMapper, item);
+        LocaleContextHolder.setLocale(Locale.GERMAN);
+        String second = render(titleMapper, item);
+        
+        assertThat(first).contains("\"title\":\"Item\"");
+        assertThat(second).contains("\"title\":\"Artikel\"");
+        assertThat(cache.size()).isEqualTo(0);
+    }
+    
+    private String render(Object item) throws Exception {
+        return render(this.objectMapper, item);
+    }
+    
+    private static String render(ObjectMapper objectMapper, Object item) throws Exception {
+        TestResource resource = new TestResource();
+        resource.embedd(item);
+        return objectMapper.writeValueAsString(resource);
+    }
+    
+    private static void bindRequest(String host) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServerName(host);
+        request.setServerPort(80);
+        request.setContextPath("/app");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+    
+    static class TestResource extends HalEmbeddedResourceSupport {
+    }
+    
+    @Relation("item")
+    static class Item implements CacheableEmbeddedResource {
+        
+        private final int id;
+        private final int version;
+        
+        Item(int id, int version) {
+            this.id = id;
+            this.version = version;
+        }
+        
+        public int getId() {
+            return id;
+        }
+        
+        public int getVersion() {
+            return version;
+        }
+        
+        public String getHref() {
+            if (RequestContextHolder.getRequestAttributes() == null) {
+                return null;
+            }
+            return BasicLinkBuilder.linkToCurrentMapping().slash("items").slash(id).toString();
+        }
+        
+        @Override
+        public Object fragmentId() {
+            return id;
+        }
+        
+        @Override
+        public Object fragmentVersion() {
+            return version;
+        }
+    }
+    
+    @Relation("item")
+    static class LinkedItem extends ResourceSupport implements CacheableEmbeddedResource {
+        
+        private final int number;
+        
+        LinkedItem(int number) {
+            this.number = number;
+            add(new Link("/items/" + number));
+        }
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        @Override
+        public Object fragmentId() {
+            return number;
+        }
+        
+        @Override
+        public Object fragmentVersion() {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.core.DefaultRelProvider;
+import org.springframework.hateoas.core.Relation;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fjobilabs.springframework.hateoas.hal.client.Embedded;
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:55:34
+ * @version 1.0
+ */
+public class HalBinaryFormatTests {
+    
+    @After
+    public void tearDown() {
+        EmbeddedFragmentCache.setDefault(null);
+    }
+    
+    @Test
+    public void roundTripsSmileDocument() throws Exception {
+        ObjectMapper objectMapper = HalObjectMappers.createSmileObjectMapper();
+        
+        byte[] document = objectMapper.writeValueAsBytes(createOrder());
+        
+        assertDecodedOrder(objectMapper.readValue(document, OrderDocument.class));
+    }
+    
+    @Test
+    public void roundTripsCborDocument() throws Exception {
+        ObjectMapper objectMapper = HalObjectMappers.createCborObjectMapper();
+        
+        byte[] document = objectMapper.writeValueAsBytes(createOrder());
+        
+        assertDecodedOrder(objectMapper.readValue(document, OrderDocument.class));
+    }
+    
+    @Test
+    public void smileConverterReadsAndWritesHalSmile() throws Exception {
+        assertConverterRoundTrip(new HalSmileHttpMessageConverter(), HalMediaTypes.HAL_SMILE);
+    }
+    
+    @Test
+    public void cborConverterReadsAndWritesHalCbor() throws Exception {
+        assertConverterRoundTrip(new HalCborHttpMessageConverter(), HalMediaTypes.HAL_CBOR);
+    }
+    
+    @Test
+    public void convertersRejectMappersOfOtherFormats() {
+        ObjectMapper jsonMapper = new ObjectMapper();
+        HalSmileHttpMessageConverter smileConverter = new HalSmileHttpMessageConverter();
+        HalCborHttpMessageConverter cborConverter = new HalCborHttpMessageConverter();
+        
+        assertThatThrownBy(() -> new HalSmileHttpMessageConverter(jsonMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("SmileFactory required");
+        assertThatThrownBy(() -> smileConverter
+                .setObjectMapper(HalObjectMappers.createCborObjectMapper()))
+                        .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HalCborHttpMessageConverter(jsonMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("CBORFactory required");
+        assertThatThrownBy(() -> cborConverter
+                .setObjectMapper(HalObjectMappers.createSmileObjectMapper()))
+                        .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    public void bypassesFragmentCacheForBinaryFormats() throws Exception {
+        EmbeddedFragmentCache cache = new EmbeddedFragmentCache(10);
+        EmbeddedFragmentCache.setDefault(cache);
+        ObjectMapper smileMapper = HalObjectMappers.createSmileObjectMapper();
+        ObjectMapper cborMapper = HalObjectMappers.createCborObjectMapper();
+        
+        byte[] smileDocument = smileMapper.writeValueAsBytes(createOrder());
+        byte[] cborDocument = cborMapper.writeValueAsBytes(createOrder());
+        
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.getMissCount()).isEqualTo(0);
+        assertDecodedOrder(smileMapper.readValue(smileDocument, OrderDocument.class));
+        assertDecodedOrder(cborMapper.readValue(cborDocument, OrderDocument.class));
+        
+        ObjectMapper jsonMapper = HalObjectMappers.configure(new ObjectMapper(),
+                new DefaultRelProvider(), null, null);
+        jsonMapper.writeValueAsBytes(createOrder());
+        assertThat(cache.size()).isEqualTo(2);
+    }
+    
+    private static void assertConverterRoundTrip(AbstractJackson2HttpMessageConverter converter,
+            MediaType mediaType) throws Exception {
+        assertThat(converter.getSupportedMediaTypes()).containsExactly(mediaType);
+        assertThat(converter.canWrite(OrderResource.class, mediaType)).isTrue();
+        assertThat(converter.canRead(OrderDocument.class, mediaType)).isTrue();
+        assertThat(converter.canWrite(OrderResource.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(OrderDocument.class, MediaType.APPLICATION_JSON)).isFalse();
+        
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(createOrder(), mediaType, outputMessage);
+        assertThat(outputMessage.getHeaders().getContentType()).isEqualTo(mediaType);
+        
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(
+                outputMessage.getBodyAsBytes());
+        inputMessage.getHeaders().setContentType(mediaType);
+        assertDecodedOrder((OrderDocument) converter.read(OrderDocument.class, inputMessage));
+    }
+    
+    private static OrderResource createOrder() {
+        OrderResource order = new OrderResource(7);
+        order.add(new Link("/orders/7"));
+        order.embedd(Arrays.asList(new ItemResource(1), new ItemResource(2)), "items");
+        return order;
+    }
+    
+    private static void assertDecodedOrder(OrderDocument order) {
+        assertThat(order.getNumber()).isEqualTo(7);
+        assertThat(order.getHalLinks().getHref(Link.REL_SELF)).isEqualTo("/orders/7");
+        assertThat(order.getItems()).extracting(ItemDocument::getNumber).containsExactly(1, 2);
+        assertThat(order.getItems().get(1).getHalLinks().getHref(Link.REL_SELF))
+                .isEqualTo("/items/2");
+    }
+    
+    static class OrderResource extends HalEmbeddedResourceSupport {
+        
+        private final int number;
+        
+        OrderResource(int number) {
+            this.number = number;
+        }
+        
+        public int getNumber() {
+            return number;
+        }
+    }
+    
+    @Relation("item")
+    static class ItemResource extends ResourceSupport implements CacheableEmbeddedResource {
+        
+        private final int number;
+        
+        ItemResource(int number) {
+            this.number = number;
+            add(new Link("/items/" + number));
+        }
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        @Override
+        public Object fragmentId() {
+            return number;
+        }
+        
+        @Override
+        public Object fragmentVersion() {
+            return 1;
+        }
+    }
+    
+    public static class OrderDocument extends HalResource {
+        
+        private int number;
+        private List<ItemDocument> items;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+        
+        public List<ItemDocument> getItems() {
+            return items;
+        }
+        
+        @Embedded(value = "items", collectionContentType = ItemDocument.class)
+        public void setItems(List<ItemDocument> items) {
+            this.items = items;
+        }
+    }
+    
+    public static class ItemDocument extends HalResource {
+        
+        private int number;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+    }
+}
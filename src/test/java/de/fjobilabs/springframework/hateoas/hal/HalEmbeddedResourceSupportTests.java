@@ -0,0 +1,156 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.hateoas.core.DefaultRelProvider;
+import org.springframework.hateoas.core.Relation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:58:41
+ * @version 1.0
+ */
+public class HalEmbeddedResourceSupportTests {
+    
+    private ObjectMapper objectMapper;
+    
+    @Before
+    public void setUp() {
+        this.objectMapper = HalObjectMappers.configure(new ObjectMapper(),
+                new DefaultRelProvider(), null, null);
+    }
+    
+    @Test
+    public void rendersItemRelOnlyTypesUnderTheirOwnRels() throws Exception {
+        TestResource resource = new TestResource();
+        resource.embedd(new Author("a"));
+        resource.embedd(new Book("b"));
+        
+        JsonNode embedded = render(resource);
+        
+        assertThat(embedded.size()).isEqualTo(2);
+        assertThat(embedded.get("author").get("name").asText()).isEqualTo("a");
+        assertThat(embedded.get("book").get("name").asText()).isEqualTo("b");
+        assertThat(resource.getEmbedded("author")).hasSize(1);
+        assertThat(resource.getEmbedded("book")).hasSize(1);
+    }
+    
+    @Test
+    public void mergesAnnotatedTypesUnderTheirCollectionRel() throws Exception {
+        TestResource resource = new TestResource();
+        resource.embedd(new Order(1));
+        assertThat(resource.hasEmbedded("order")).isTrue();
+        assertThat(resource.hasEmbedded("orders")).isFalse();
+        
+        resource.embedd(Arrays.asList(new Order(2), new Order(3)));
+        
+        JsonNode embedded = render(resource);
+        assertThat(embedded.get("orders").size()).isEqualTo(3);
+        assertThat(resource.hasEmbedded("order")).isFalse();
+        assertThat(resource.getEmbedded("orders")).hasSize(2);
+    }
+    
+    @Test
+    public void removesByRel() throws Exception {
+        TestResource resource = new TestResource();
+        resource.embedd("a", "first");
+        resource.embedd(new Order(1));
+        resource.embedd("c", "last");
+        
+        assertThat(resource.removeEmbedded("order")).isTrue();
+        assertThat(resource.removeEmbedded("order")).isFalse();
+        
+        assertThat(resource.getContent()).hasSize(2);
+        assertThat(fieldNames(render(resource))).containsExactly("first", "last");
+    }
+    
+    @Test
+    public void replacesByRelInPlace() throws Exception {
+        TestResource resource = new TestResource();
+        resource.embedd("a", "first");
+        resource.embedd("b", "middle");
+        resource.embedd("c", "last");
+        
+        resource.replaceEmbedded("x", "middle");
+        
+        JsonNode embedded = render(resource);
+        assertThat(fieldNames(embedded)).containsExactly("first", "middle", "last");
+        assertThat(embedded.get("middle").asText()).isEqualTo("x");
+        assertThat(resource.getContent()).hasSize(3);
+    }
+    
+    @Test
+    public void replacesSingleAnnotatedObjectInPlace() throws Exception {
+        TestResource resource = new TestResource();
+        resource.embedd(new Order(1));
+        resource.embedd("c", "last");
+        
+        resource.replaceEmbedded(new Order(2), "order");
+        
+        JsonNode embedded = render(resource);
+        assertThat(fieldNames(embedded)).containsExactly("order", "last");
+        assertThat(embedded.get("order").get("number").asInt()).isEqualTo(2);
+        assertThat(resource.getEmbedded("order")).hasSize(1);
+    }
+    
+    private JsonNode render(TestResource resource) throws Exception {
+        return this.objectMapper.readTree(this.objectMapper.writeValueAsString(resource))
+                .get("_embedded");
+    }
+    
+    private static Iterable<String> fieldNames(JsonNode node) {
+        return node::fieldNames;
+    }
+    
+    static class TestResource extends HalEmbeddedResourceSupport {
+    }
+    
+    @Relation("author")
+    static class Author {
+        
+        private final String name;
+        
+        Author(String name) {
+            this.name = name;
+        }
+        
+        public String getName() {
+            return name;
+        }
+    }
+    
+    @Relation("book")
+    static class Book {
+        
+        private final String name;
+        
+        Book(String name) {
+            this.name = name;
+        }
+        
+        public String getName() {
+            return name;
+        }
+    }
+    
+    @Relation(value = "order", collectionRelation = "orders")
+    static class Order {
+        
+        private final int number;
+        
+        Order(int number) {
+            this.number = number;
+        }
+        
+        public int getNumber() {
+            return number;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package de.fjobilabs.springframework.hateoas.hal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.springframework.hateoas.core.DefaultRelProvider;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:59:41
+ * @version 1.0
+ */
+public class HalEmbeddedResourcesSerializerTests {
+    
+    private final ObjectMapper objectMapper = HalObjectMappers.configure(new ObjectMapper(),
+            new DefaultRelProvider(), null, null);
+    
+    @Test
+    public void writesElementsOfStream() throws Exception {
+        TestResource resource = new TestResource();
+        resource.embeddStream(Stream.of(new Item(1), new Item(2)), "items");
+        
+        assertThat(render(resource))
+                .contains("\"_embedded\":{\"items\":[{\"id\":1},{\"id\":2}]}");
+    }
+    
+    @Test
+    public void writesRemainingElementsOfIterator() throws Exception {
+        TestResource resource = new TestResource();
+        resource.embeddIterator(Arrays.asList(new Item(1), new Item(2)).iterator(), "items");
+        
+        assertThat(render(resource))
+                .contains("\"_embedded\":{\"items\":[{\"id\":1},{\"id\":2}]}");
+    }
+    
+    @Test
+    public void writesStreamOfSupplierEachTimeTheResourceIsRendered() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        TestResource resource = new TestResource();
+        resource.embeddStreamSupplier(() -> {
+            calls.incrementAndGet();
+            return Stream.of(new Item(1), new Item(2));
+        }, "items");
+        
+        String first = render(resource);
+        String second = render(resource);
+        
+        assertThat(first).contains("\"_embedded\":{\"items\":[{\"id\":1},{\"id\":2}]}");
+        assertThat(second).isEqualTo(first);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+    
+    @Test
+    public void writesSingleElementStreamAsArray() throws Exception {
+        TestResource resource = new TestResource();
+        resource.embeddStream(Stream.of(new Item(1)), "items");
+        
+        assertThat(render(resource)).contains("\"_embedded\":{\"items\":[{\"id\":1}]}");
+    }
+    
+    @Test
+    public void closesStreamAfterRendering() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        TestResource resource = new TestResource();
+        resource.embeddStream(Stream.of(new Item(1)).onClose(() -> closed.set(true)), "items");
+        
+        render(resource);
+        
+        assertThat(closed.get()).isTrue();
+    }
+    
+    @Test
+    public void closesStreamIfElementFails() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        TestResource resource = new TestResource();
+        resource.embeddStream(Stream.of(new Item(1), new FailingItem())
+                .onClose(() -> closed.set(true)), "items");
+        
+        try {
+            render(resource);
+            fail("Expected JsonMappingException");
+        } catch (JsonMappingException e) {
+            assertThat(closed.get()).isTrue();
+        }
+    }
+    
+    @Test
+    public void rejectsRenderingStreamTwice() throws Exception {
+        TestResource resource = new TestResource();
+        resource.embeddStream(Stream.of(new Item(1)), "items");
+        render(resource);
+        
+        try {
+            render(resource);
+            fail("Expected JsonMappingException");
+        } catch (JsonMappingException e) {
+            assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+        }
+    }
+    
+    @Test
+    public void writesNullElements() throws Exception {
+        TestResource resource = new TestResource();
+        resource.embeddStream(Stream.of(new Item(1), null, new Item(2)), "items");
+        
+        assertThat(render(resource))
+                .contains("\"_embedded\":{\"items\":[{\"id\":1},null,{\"id\":2}]}");
+    }
+    
+    @Test
+    public void writesElementsOfMixedTypes() throws Exception {
+        TestResource resource = new TestResource();
+        resource.embeddStream(Stream.of(new Item(1), new Note("a"), "text", new Item(2), 3),
+                "mixed");
+        
+        assertThat(render(resource)).contains("\"_embedded\":{\"mixed\":[{\"id\":1},"
+                + "{\"text\":\"a\"},\"text\",{\"id\":2},3]}");
+    }
+    
+    @Test
+    public void ignoresNullObjectWithRelation() throws Exception {
+        TestResource resource = new TestResource();
+        resource.embedd(null, "empty");
+        
+        assertThat(resource.hasEmbedded("empty")).isFalse();
+    }
+    
+    private String render(TestResource resource) throws Exception {
+        return this.objectMapper.writeValueAsString(resource);
+    }
+    
+    static class TestResource extends HalEmbeddedResourceSupport {
+    }
+    
+    static class Item {
+        
+        private final int id;
+        
+        Item(int id) {
+            this.id = id;
+        }
+        
+        public int getId() {
+            return id;
+        }
+    }
+    
+    static class Note {
+        
+        private final String text;
+        
+        Note(String text) {
+            this.text = text;
+        }
+        
+        public String getText() {
+            return text;
+        }
+    }
+    
+    static class FailingItem {
+        
+        public int getId() {
+            throw new IllegalStateException("Failed");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package de.fjobilabs.springframework.hateoas.hal.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import de.fjobilabs.springframework.hateoas.hal.client.exception.HalResourceDeserializerException;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:58:30
+ * @version 1.0
+ */
+public class HalMetadataWarmupAutoConfigurationTests {
+    
+    @Test
+    public void isDisabledByDefault() {
+        ConditionalOnProperty condition = HalMetadataWarmupAutoConfiguration.class
+                .getAnnotation(ConditionalOnProperty.class);
+        
+        assertThat(condition.matchIfMissing()).isFalse();
+        assertThat(new HalMetadataWarmupProperties().isEnabled()).isFalse();
+    }
+    
+    @Test
+    public void scansNothingWithoutBasePackages() {
+        HalMetadataWarmupProperties properties = new HalMetadataWarmupProperties();
+        
+        createWarmup(properties).afterSingletonsInstantiated();
+    }
+    
+    @Test
+    public void failsForInvalidResourceInBasePackages() {
+        HalMetadataWarmupProperties properties = new HalMetadataWarmupProperties();
+        properties.setBasePackages(Collections.singletonList(
+                "de.fjobilabs.springframework.hateoas.hal.autoconfigure.invalid"));
+        
+        Throwable thrown = catchThrowable(createWarmup(properties)::afterSingletonsInstantiated);
+        
+        assertThat(thrown).isInstanceOf(HalResourceDeserializerException.class)
+                .hasMessageContaining("items");
+    }
+    
+    /**
+     * Creates the warm-up without an ObjectMapper, so the deserializers are
+     * not warmed.
+     */
+    private static SmartInitializingSingleton createWarmup(
+            HalMetadataWarmupProperties properties) {
+        properties.setWarmDeserializers(false);
+        return new HalMetadataWarmupAutoConfiguration().halMetadataWarmup(properties,
+                new DefaultListableBeanFactory(), null);
+    }
+}
@@ -0,0 +1,28 @@
+package de.fjobilabs.springframework.hateoas.hal.autoconfigure.invalid;
+
+import java.util.List;
+
+import de.fjobilabs.springframework.hateoas.hal.client.Embedded;
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * Resource with an embedded collection without content type, which fails the
+ * warm-up.
+ * 
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:58:22
+ * @version 1.0
+ */
+public class InvalidResource extends HalResource {
+    
+    private List<Object> items;
+    
+    public List<Object> getItems() {
+        return items;
+    }
+    
+    @Embedded("items")
+    public void setItems(List<Object> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,136 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:58:56
+ * @version 1.0
+ */
+public class EmbeddedElementStreamingTests {
+    
+    private static final String JSON = "{\"_embedded\":{\"items\":"
+            + "[{\"number\":1},{\"number\":2},{\"number\":3}]},\"name\":\"order\"}";
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    public void bindsIteratorElementsWhenIterating() throws Exception {
+        IteratorOrder order = objectMapper.readValue(JSON, IteratorOrder.class);
+        
+        List<Integer> numbers = new ArrayList<>();
+        order.getItems().forEachRemaining(item -> numbers.add(item.getNumber()));
+        assertThat(numbers).containsExactly(1, 2, 3);
+        assertThat(order.getName()).isEqualTo("order");
+    }
+    
+    @Test
+    public void bindsStreamElementsWhenConsumed() throws Exception {
+        StreamOrder order = objectMapper.readValue(JSON, StreamOrder.class);
+        
+        assertThat(order.getItems().map(Item::getNumber).collect(Collectors.toList()))
+                .containsExactly(1, 2, 3);
+    }
+    
+    @Test
+    public void passesElementsToConsumerWhileReading() throws Exception {
+        ConsumerOrder order = objectMapper.readValue(JSON, ConsumerOrder.class);
+        
+        assertThat(order.getConsumed()).extracting(Item::getNumber).containsExactly(1, 2, 3);
+        // The name follows the relation, so all elements were consumed before
+        assertThat(order.getNameSetAfter()).isEqualTo(3);
+    }
+    
+    public static class Item extends HalResource {
+        
+        private int number;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+    }
+    
+    public static class IteratorOrder extends HalResource {
+        
+        private Iterator<Item> items;
+        private String name;
+        
+        public Iterator<Item> getItems() {
+            return items;
+        }
+        
+        @Embedded("items")
+        public void setItems(Iterator<Item> items) {
+            this.items = items;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+    
+    public static class StreamOrder extends HalResource {
+        
+        private Stream<Item> items;
+        private String name;
+        
+        public Stream<Item> getItems() {
+            return items;
+        }
+        
+        @Embedded("items")
+        public void setItems(Stream<Item> items) {
+            this.items = items;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+    
+    public static class ConsumerOrder extends HalResource {
+        
+        private final List<Item> consumed = new ArrayList<>();
+        private int nameSetAfter = -1;
+        
+        @Embedded("items")
+        public Consumer<Item> getItems() {
+            return consumed::add;
+        }
+        
+        public List<Item> getConsumed() {
+            return consumed;
+        }
+        
+        public int getNameSetAfter() {
+            return nameSetAfter;
+        }
+        
+        public void setName(String name) {
+            this.nameSetAfter = consumed.size();
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fjobilabs.springframework.hateoas.hal.client.exception.HalDecodingLimitExceededException;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:59:08
+ * @version 1.0
+ */
+public class HalDecodingLimitsTests {
+    
+    private static final String ORDER = "{\"number\":1,\"_embedded\":{\"items\":[{\"number\":1},"
+            + "{\"number\":2}],\"related\":[{\"number\":3}]}}";
+    
+    private static final String LAZY_ORDER = "{\"_embedded\":{\"items\":[{\"number\":1},"
+            + "{\"number\":2}],\"customer\":{\"number\":3}}}";
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @After
+    public void resetLimits() {
+        HalDecodingLimits.setDefault(HalDecodingLimits.UNLIMITED);
+    }
+    
+    @Test
+    public void decodesDocumentWithinLimits() throws Exception {
+        HalDecodingLimits.setDefault(new HalDecodingLimits(2, 2, 3, 2));
+        
+        Order order = objectMapper.readValue(ORDER, Order.class);
+        
+        assertThat(order.getItems()).hasSize(2);
+        assertThat(order.getRelated()).hasSize(1);
+    }
+    
+    @Test
+    public void rejectsTooDeeplyNestedResource() throws Exception {
+        HalDecodingLimits.setDefault(HalDecodingLimits.UNLIMITED.withMaxDepth(1));
+        
+        assertLimitExceeded(ORDER, 1);
+    }
+    
+    @Test
+    public void rejectsTooManyElementsPerRelation() throws Exception {
+        HalDecodingLimits.setDefault(
+                HalDecodingLimits.UNLIMITED.withMaxEmbeddedElementsPerRelation(1));
+        
+        assertLimitExceeded(ORDER, 1);
+    }
+    
+    @Test
+    public void rejectsTooManyElementsPerDocument() throws Exception {
+        HalDecodingLimits.setDefault(
+                HalDecodingLimits.UNLIMITED.withMaxEmbeddedElementsPerDocument(2));
+        
+        assertLimitExceeded(ORDER, 2);
+    }
+    
+    @Test
+    public void rejectsTooManyProperties() throws Exception {
+        HalDecodingLimits.setDefault(HalDecodingLimits.UNLIMITED.withMaxProperties(2));
+        
+        assertLimitExceeded("{\"number\":1,\"_links\":{},\"state\":\"open\"}", 2);
+    }
+    
+    @Test
+    public void appliesLimitsOfMapper() throws Exception {
+        ObjectMapper limitedMapper = mapperWithLimits(
+                HalDecodingLimits.UNLIMITED.withMaxEmbeddedElementsPerRelation(1));
+        ObjectMapper otherMapper = mapperWithLimits(
+                HalDecodingLimits.UNLIMITED.withMaxEmbeddedElementsPerRelation(2));
+        
+        assertThat(otherMapper.readValue(ORDER, Order.class).getItems()).hasSize(2);
+        try {
+            limitedMapper.readValue(ORDER, Order.class);
+            fail("Expected HalDecodingLimitExceededException");
+        } catch (HalDecodingLimitExceededException e) {
+            assertThat(e.getLimit()).isEqualTo(1);
+        }
+        assertThat(objectMapper.readValue(ORDER, Order.class).getItems()).hasSize(2);
+    }
+    
+    @Test
+    public void prefersLimitsOfMapperOverDefault() throws Exception {
+        HalDecodingLimits.setDefault(HalDecodingLimits.UNLIMITED.withMaxDepth(1));
+        ObjectMapper mapper = mapperWithLimits(HalDecodingLimits.UNLIMITED);
+        
+        assertThat(mapper.readValue(ORDER, Order.class).getItems()).hasSize(2);
+    }
+    
+    @Test
+    public void countsElementsOfLazyRelationWhileReading() throws Exception {
+        ObjectMapper mapper = mapperWithLimits(
+                HalDecodingLimits.UNLIMITED.withMaxEmbeddedElementsPerRelation(1));
+        
+        try {
+            mapper.readValue(LAZY_ORDER, LazyOrder.class);
+            fail("Expected HalDecodingLimitExceededException");
+        } catch (HalDecodingLimitExceededException e) {
+            assertThat(e.getLimit()).isEqualTo(1);
+        }
+    }
+    
+    @Test
+    public void countsLazyRelationAgainstDocument() throws Exception {
+        ObjectMapper mapper = mapperWithLimits(
+                HalDecodingLimits.UNLIMITED.withMaxEmbeddedElementsPerDocument(2));
+        
+        try {
+            mapper.readValue(LAZY_ORDER, LazyOrder.class);
+            fail("Expected HalDecodingLimitExceededException");
+        } catch (HalDecodingLimitExceededException e) {
+            assertThat(e.getLimit()).isEqualTo(2);
+        }
+    }
+    
+    @Test
+    public void bindsLazyRelationWithLimitsOfMapper() throws Exception {
+        ObjectMapper mapper = mapperWithLimits(HalDecodingLimits.UNLIMITED.withMaxDepth(2));
+        LazyOrder order = mapper.readValue("{\"_embedded\":{\"items\":[{\"number\":1,"
+                + "\"_embedded\":{\"parts\":[{\"number\":2}]}}]}}", LazyOrder.class);
+        
+        try {
+            order.getItems();
+            fail("Expected HalDecodingLimitExceededException");
+        } catch (HalDecodingLimitExceededException e) {
+            assertThat(e.getLimit()).isEqualTo(2);
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidDepth() {
+        HalDecodingLimits.UNLIMITED.withMaxDepth(0);
+    }
+    
+    private static ObjectMapper mapperWithLimits(HalDecodingLimits limits) {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setConfig(mapper.getDeserializationConfig()
+                .withAttribute(HalDecodingLimits.ATTRIBUTE, limits));
+        return mapper;
+    }
+    
+    private void assertLimitExceeded(String json, int limit) throws Exception {
+        try {
+            objectMapper.readValue(json, Order.class);
+            fail("Expected HalDecodingLimitExceededException");
+        } catch (HalDecodingLimitExceededException e) {
+            assertThat(e.getLimit()).isEqualTo(limit);
+        }
+    }
+    
+    public static class Order extends HalResource {
+        
+        private int number;
+        private String state;
+        private List<Item> items;
+        private List<Item> related;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+        
+        public String getState() {
+            return state;
+        }
+        
+        public void setState(String state) {
+            this.state = state;
+        }
+        
+        public List<Item> getItems() {
+            return items;
+        }
+        
+        @Embedded(value = "items", collectionContentType = Item.class)
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+        
+        public List<Item> getRelated() {
+            return related;
+        }
+        
+        @Embedded(value = "related", collectionContentType = Item.class)
+        public void setRelated(List<Item> related) {
+            this.related = related;
+        }
+    }
+    
+    public static class LazyOrder extends HalResource {
+        
+        private LazyEmbedded<List<Part>> items;
+        private LazyEmbedded<Part> customer;
+        
+        public List<Part> getItems() {
+            return items == null ? null : items.get();
+        }
+        
+        @Embedded(value = "items", collectionContentType = Part.class)
+        public void setItems(LazyEmbedded<List<Part>> items) {
+            this.items = items;
+        }
+        
+        public Part getCustomer() {
+            return customer == null ? null : customer.get();
+        }
+        
+        @Embedded("customer")
+        public void setCustomer(LazyEmbedded<Part> customer) {
+            this.customer = customer;
+        }
+    }
+    
+    public static class Part extends HalResource {
+        
+        private int number;
+        private List<Part> parts;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+        
+        public List<Part> getParts() {
+            return parts;
+        }
+        
+        @Embedded(value = "parts", collectionContentType = Part.class)
+        public void setParts(List<Part> parts) {
+            this.parts = parts;
+        }
+    }
+    
+    public static class Item extends HalResource {
+        
+        private int number;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+    }
+}
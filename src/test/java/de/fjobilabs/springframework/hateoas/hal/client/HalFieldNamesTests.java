@@ -0,0 +1,129 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fjobilabs.springframework.hateoas.hal.client.exception.HalResourceDeserializerException;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:58:11
+ * @version 1.0
+ */
+public class HalFieldNamesTests {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    public void expectsPropertiesInSerializationOrderFollowedByLinksAndEmbedded() {
+        HalFieldNames fieldNames = HalResourceMetadataRegistry.getMetadata(Order.class)
+                .getFieldNames();
+        
+        assertThat(fieldNames.getExpectedName(0).getValue()).isEqualTo("number");
+        assertThat(fieldNames.getExpectedName(1).getValue()).isEqualTo("customer");
+        assertThat(fieldNames.getExpectedName(2).getValue()).isEqualTo("total");
+        assertThat(fieldNames.getExpectedName(3).getValue()).isEqualTo("_links");
+        assertThat(fieldNames.getExpectedName(4).getValue()).isEqualTo("_embedded");
+        assertThat(fieldNames.getExpectedName(5).getValue()).isEqualTo("class");
+        assertThat(fieldNames.getExpectedName(6)).isNull();
+        assertThat(fieldNames.getOrdinal("_links")).isEqualTo(HalFieldNames.LINKS);
+        assertThat(fieldNames.getOrdinal("_embedded")).isEqualTo(HalFieldNames.EMBEDDED);
+        assertThat(fieldNames.getOrdinal("unknown")).isEqualTo(HalFieldNames.UNKNOWN);
+    }
+    
+    @Test
+    public void bindsPropertiesInExpectedOrder() throws Exception {
+        String json = "{\"number\":1,\"customer\":\"Jane\",\"total\":10.5,"
+                + "\"_links\":{\"self\":{\"href\":\"/orders/1\"}}}";
+        
+        assertOrder(objectMapper.readValue(json, Order.class));
+        assertOrder(objectMapper.readValue(json.getBytes(StandardCharsets.UTF_8), Order.class));
+    }
+    
+    @Test
+    public void bindsPropertiesInAnyOrder() throws Exception {
+        String json = "{\"_links\":{\"self\":{\"href\":\"/orders/1\"}},\"total\":10.5,"
+                + "\"customer\":\"Jane\",\"number\":1}";
+        
+        assertOrder(objectMapper.readValue(json, Order.class));
+        assertOrder(objectMapper.readValue(json.getBytes(StandardCharsets.UTF_8), Order.class));
+    }
+    
+    @Test
+    public void bindsEscapedNames() throws Exception {
+        String json = "{\"n\\u0075mber\":1,\"customer\":\"Jane\",\"total\":10.5,"
+                + "\"\\u005flinks\":{\"self\":{\"href\":\"/orders/1\"}}}";
+        
+        assertOrder(objectMapper.readValue(json.getBytes(StandardCharsets.UTF_8), Order.class));
+    }
+    
+    @Test
+    public void skipsUnknownPropertiesBetweenExpectedOnes() throws Exception {
+        String json = "{\"number\":1,\"note\":{\"text\":\"x\"},\"customer\":\"Jane\","
+                + "\"total\":10.5,\"_links\":{\"self\":{\"href\":\"/orders/1\"}},\"extra\":[1]}";
+        
+        assertOrder(objectMapper.readValue(json, LenientOrder.class));
+    }
+    
+    @Test
+    public void rejectsUnknownProperties() {
+        String json = "{\"number\":1,\"note\":\"x\"}";
+        
+        Throwable thrown = catchThrowable(() -> objectMapper.readValue(json, Order.class));
+        
+        assertThat(thrown).isInstanceOf(HalResourceDeserializerException.class)
+                .hasMessageContaining("note");
+    }
+    
+    private static void assertOrder(Order order) {
+        assertThat(order.getNumber()).isEqualTo(1);
+        assertThat(order.getCustomer()).isEqualTo("Jane");
+        assertThat(order.getTotal()).isEqualTo(10.5);
+        assertThat(order.getHalLinks().getHref(Link.REL_SELF)).isEqualTo("/orders/1");
+    }
+    
+    @JsonPropertyOrder({"number", "customer", "total"})
+    public static class Order extends HalResource {
+        
+        private int number;
+        private String customer;
+        private double total;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+        
+        public String getCustomer() {
+            return customer;
+        }
+        
+        public void setCustomer(String customer) {
+            this.customer = customer;
+        }
+        
+        public double getTotal() {
+            return total;
+        }
+        
+        public void setTotal(double total) {
+            this.total = total;
+        }
+    }
+    
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class LenientOrder extends Order {
+    }
+}
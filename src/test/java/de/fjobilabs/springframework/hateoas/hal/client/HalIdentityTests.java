@@ -0,0 +1,224 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:57:14
+ * @version 1.0
+ */
+public class HalIdentityTests {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    public void sharesInstancesWithTheSameSelfLink() throws Exception {
+        Order order = objectMapper.readValue("{\"_embedded\":{\"items\":["
+                + item(1, "{\"_links\":{\"self\":{\"href\":\"/authors/1\"}},\"name\":\"Jane\"}")
+                + "," + item(2, "{\"_links\":{\"self\":{\"href\":\"/authors/1\"}},\"name\":\"X\"}")
+                + ","
+                + item(3, "{\"_links\":{\"self\":{\"href\":\"/authors/2\"}},\"name\":\"Joe\"}")
+                + "]}}", Order.class);
+        
+        List<Item> items = order.getItems();
+        assertThat(items.get(1).getAuthor()).isSameAs(items.get(0).getAuthor());
+        assertThat(items.get(1).getAuthor().getName()).isEqualTo("Jane");
+        assertThat(items.get(2).getAuthor()).isNotSameAs(items.get(0).getAuthor());
+    }
+    
+    @Test
+    public void sharesInstancesWithTheSameIdentityProperty() throws Exception {
+        Order order = objectMapper.readValue("{\"_embedded\":{\"items\":["
+                + item(1, "{\"id\":7,\"name\":\"Jane\"}") + ","
+                + item(2, "{\"id\":7,\"name\":\"X\"}") + "]}}", Order.class);
+        
+        List<Item> items = order.getItems();
+        assertThat(items.get(1).getPublisher()).isSameAs(items.get(0).getPublisher());
+        assertThat(items.get(1).getPublisher().getName()).isEqualTo("Jane");
+    }
+    
+    @Test
+    public void resolvesReferenceToResourceBeingDecoded() throws Exception {
+        Author author = objectMapper.readValue("{\"_links\":{\"self\":{\"href\":\"/authors/1\"}},"
+                + "\"name\":\"Jane\",\"_embedded\":{\"mentor\":"
+                + "{\"_links\":{\"self\":{\"href\":\"/authors/1\"}}}}}", Author.class);
+        
+        assertThat(author.getMentor()).isSameAs(author);
+    }
+    
+    @Test
+    public void doesNotShareInstancesAcrossDocuments() throws Exception {
+        String json = "{\"_links\":{\"self\":{\"href\":\"/authors/1\"}},\"name\":\"Jane\"}";
+        
+        Author first = objectMapper.readValue(json, Author.class);
+        Author second = objectMapper.readValue(json, Author.class);
+        
+        assertThat(second).isNotSameAs(first);
+    }
+    
+    @Test
+    public void sharesOnlyFullyBoundInstancesWithParallelDecoding() throws Exception {
+        ParallelDecodingConfig defaultConfig = ParallelDecodingConfig.getDefault();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ParallelDecodingConfig.setDefault(new ParallelDecodingConfig(executor, 2));
+        try {
+            StringBuilder json = new StringBuilder("{\"_embedded\":{\"items\":[");
+            for (int i = 0; i < 200; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append(item(i, "{\"_links\":{\"self\":{\"href\":\"/authors/1\"}},"
+                        + "\"name\":\"Jane\",\"age\":42}"));
+            }
+            json.append("]}}");
+            
+            ParallelOrder order = objectMapper.readValue(json.toString(), ParallelOrder.class);
+            
+            assertThat(order.getItems()).hasSize(200);
+            Author author = order.getItems().get(0).getAuthor();
+            for (Item item : order.getItems()) {
+                assertThat(item.getAuthor().getName()).isEqualTo("Jane");
+                assertThat(item.getAuthor().getAge()).isEqualTo(42);
+            }
+            assertThat(order.getItems()).extracting(Item::getAuthor).contains(author);
+        } finally {
+            ParallelDecodingConfig.setDefault(defaultConfig);
+            executor.shutdown();
+        }
+    }
+    
+    private static String item(int number, String author) {
+        String publisher = author.contains("\"id\"") ? ",\"publisher\":" + author : "";
+        String embeddedAuthor = author.contains("\"id\"") ? "{}" : author;
+        return "{\"number\":" + number + ",\"_embedded\":{\"author\":" + embeddedAuthor
+                + publisher + "}}";
+    }
+    
+    public static class Order extends HalResource {
+        
+        private List<Item> items;
+        
+        public List<Item> getItems() {
+            return items;
+        }
+        
+        @Embedded(value = "items", collectionContentType = Item.class)
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+    
+    public static class ParallelOrder extends HalResource {
+        
+        private List<Item> items;
+        
+        public List<Item> getItems() {
+            return items;
+        }
+        
+        @Embedded(value = "items", collectionContentType = Item.class, parallel = true)
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+    
+    public static class Item extends HalResource {
+        
+        private int number;
+        
+        private Author author;
+        
+        private Publisher publisher;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+        
+        public Author getAuthor() {
+            return author;
+        }
+        
+        @Embedded("author")
+        public void setAuthor(Author author) {
+            this.author = author;
+        }
+        
+        public Publisher getPublisher() {
+            return publisher;
+        }
+        
+        @Embedded("publisher")
+        public void setPublisher(Publisher publisher) {
+            this.publisher = publisher;
+        }
+    }
+    
+    @HalIdentity
+    public static class Author extends HalResource {
+        
+        private String name;
+        private int age;
+        
+        private Author mentor;
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public int getAge() {
+            return age;
+        }
+        
+        public void setAge(int age) {
+            this.age = age;
+        }
+        
+        public Author getMentor() {
+            return mentor;
+        }
+        
+        @Embedded("mentor")
+        public void setMentor(Author mentor) {
+            this.mentor = mentor;
+        }
+    }
+    
+    @HalIdentity(property = "id")
+    public static class Publisher extends HalResource {
+        
+        private long id;
+        private String name;
+        
+        public long getId() {
+            return id;
+        }
+        
+        public void setId(long id) {
+            this.id = id;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:54:21
+ * @version 1.0
+ */
+public class HalLinksTests {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    public void readsSingleLinksAndLinkArrays() throws Exception {
+        HalLinks links = read("{\"self\":{\"href\":\"/orders/1\"},\"items\":["
+                + "{\"href\":\"/items/1\"},{\"href\":\"/items/2\"}]}");
+        
+        assertThat(links.size()).isEqualTo(3);
+        assertThat(links.getHref("self")).isEqualTo("/orders/1");
+        assertThat(links.getLinks("items")).extracting(Link::getHref)
+                .containsExactly("/items/1", "/items/2");
+        assertThat(links.getLink("items").getHref()).isEqualTo("/items/1");
+    }
+    
+    @Test
+    public void readsTemplatedLinks() throws Exception {
+        HalLinks links = read("{\"search\":{\"href\":\"/orders{?page,size}\","
+                + "\"templated\":true,\"title\":\"Search\"}}");
+        
+        Link search = links.getLink("search");
+        assertThat(search.isTemplated()).isTrue();
+        assertThat(search.getVariableNames()).containsExactly("page", "size");
+        assertThat(search.expand(2, 20).getHref()).isEqualTo("/orders?page=2&size=20");
+    }
+    
+    @Test
+    public void readsCuriesAndCuriedRels() throws Exception {
+        HalLinks links = read("{\"curies\":[{\"name\":\"ex\",\"href\":\"/rels/{rel}\","
+                + "\"templated\":true}],\"ex:orders\":{\"href\":\"/orders\"}}");
+        
+        assertThat(links.getLink("curies").isTemplated()).isTrue();
+        assertThat(links.getLink("curies").expand("orders").getHref()).isEqualTo("/rels/orders");
+        assertThat(links.getHref("ex:orders")).isEqualTo("/orders");
+        assertThat(links.hasLink("orders")).isFalse();
+    }
+    
+    @Test
+    public void keepsLinksOfDuplicateRelsInDocumentOrder() throws Exception {
+        HalLinks links = read("{\"alternate\":{\"href\":\"/a\"},\"self\":{\"href\":\"/s\"},"
+                + "\"alternate\":[{\"href\":\"/b\"}]}");
+        
+        assertThat(links.getLinks("alternate")).extracting(Link::getHref)
+                .containsExactly("/a", "/b");
+        assertThat(links.getLinks()).extracting(Link::getRel)
+                .containsExactly("alternate", "self", "alternate");
+    }
+    
+    @Test
+    public void skipsLinksWithoutHref() throws Exception {
+        HalLinks links = read("{\"self\":{\"title\":\"No href\"},\"next\":\"/orders/2\","
+                + "\"prev\":[null,{\"href\":\"/orders/0\",\"name\":{\"x\":1}}]}");
+        
+        assertThat(links.getLinks()).extracting(Link::getHref).containsExactly("/orders/0");
+    }
+    
+    @Test
+    public void returnsNothingForMissingRel() throws Exception {
+        HalLinks links = read("{\"self\":{\"href\":\"/orders/1\"}}");
+        
+        assertThat(links.getLink("next")).isNull();
+        assertThat(links.getLinks("next")).isEmpty();
+        assertThat(links.getHref("next")).isNull();
+        assertThat(links.hasLink("next")).isFalse();
+        assertThat(read("[]").isEmpty()).isTrue();
+    }
+    
+    @Test
+    public void bindsLinksPropertyOfSubclass() throws Exception {
+        Page page = objectMapper.readValue("{\"links\":[\"a\",\"b\"],"
+                + "\"_links\":{\"self\":{\"href\":\"/pages/1\"}}}", Page.class);
+        
+        assertThat(page.getLinks()).containsExactly("a", "b");
+        assertThat(page.getLink("self").getHref()).isEqualTo("/pages/1");
+        assertThat(page.getHalLinks().getLinks()).hasSize(1);
+    }
+    
+    private HalLinks read(String json) throws Exception {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            parser.nextToken();
+            return HalLinks.read(parser);
+        }
+    }
+    
+    public static class Page extends HalResource {
+        
+        private List<String> links;
+        
+        public List<String> getLinks() {
+            return links;
+        }
+        
+        public void setLinks(List<String> links) {
+            this.links = links;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:55:49
+ * @version 1.0
+ */
+public class HalProjectionTests {
+    
+    private static final String ORDER = "{\"number\":7,\"total\":12.5,\"note\":\"Fragile\","
+            + "\"customer\":\"Jane\",\"_embedded\":{\"items\":[{\"name\":\"Pen\","
+            + "\"price\":2.5}],\"owner\":{\"name\":\"Joe\",\"price\":1}}}";
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    public void bindsOnlyProjectedPropertiesAndEmbeddedResources() throws Exception {
+        Order order = objectMapper.readerFor(Order.class)
+                .withAttribute(HalProjection.ATTRIBUTE,
+                        HalProjection.properties("number", "customer").embedded("owner"))
+                .readValue(ORDER);
+        
+        assertThat(order.getNumber()).isEqualTo(7);
+        assertThat(order.getCustomer()).isEqualTo("Jane");
+        assertThat(order.getTotal()).isNull();
+        assertThat(order.getNote()).isNull();
+        assertThat(order.getItems()).isNull();
+        assertThat(order.getOwner().getName()).isEqualTo("Joe");
+    }
+    
+    @Test
+    public void bindsEmbeddedResourcesCompletely() throws Exception {
+        Order order = objectMapper.readerFor(Order.class)
+                .withAttribute(HalProjection.ATTRIBUTE, HalProjection.properties("price")
+                        .embedded("items"))
+                .readValue(ORDER);
+        
+        assertThat(order.getNumber()).isEqualTo(0);
+        assertThat(order.getItems()).extracting(Item::getName).containsExactly("Pen");
+        assertThat(order.getItems().get(0).getPrice()).isEqualTo(2.5);
+    }
+    
+    @Test
+    public void selectsAnnotatedGettersSettersAndFieldsByView() {
+        HalResourceMetadata metadata = HalResourceMetadataRegistry.getMetadata(Order.class);
+        
+        HalProjection summary = metadata.getViewProjection(Summary.class, false);
+        HalProjection detail = metadata.getViewProjection(Detail.class, false);
+        
+        assertThat(summary.getProperties()).containsOnly("total", "customer");
+        assertThat(summary.getEmbeddedRels()).containsOnly("owner");
+        assertThat(detail.getProperties()).containsOnly("total", "customer", "note");
+        assertThat(detail.getEmbeddedRels()).containsOnly("owner", "items");
+    }
+    
+    @Test
+    public void includesPropertiesWithoutViewByDefaultViewInclusion() {
+        HalResourceMetadata metadata = HalResourceMetadataRegistry.getMetadata(Order.class);
+        
+        HalProjection summary = metadata.getViewProjection(Summary.class, true);
+        
+        assertThat(summary.getProperties()).containsOnly("number", "total", "customer");
+        assertThat(summary.getEmbeddedRels()).containsOnly("owner");
+    }
+    
+    @Test
+    public void bindsPropertiesOfActiveView() throws Exception {
+        Order inclusive = objectMapper.readerWithView(Summary.class).forType(Order.class)
+                .readValue(ORDER);
+        ObjectMapper exclusiveMapper = new ObjectMapper()
+                .configure(MapperFeature.DEFAULT_VIEW_INCLUSION, false);
+        Order exclusive = exclusiveMapper.readerWithView(Summary.class).forType(Order.class)
+                .readValue(ORDER);
+        
+        assertThat(inclusive.getNumber()).isEqualTo(7);
+        assertThat(inclusive.getTotal()).isEqualTo(12.5);
+        assertThat(inclusive.getCustomer()).isEqualTo("Jane");
+        assertThat(inclusive.getNote()).isNull();
+        assertThat(inclusive.getItems()).isNull();
+        assertThat(inclusive.getOwner().getName()).isEqualTo("Joe");
+        assertThat(exclusive.getNumber()).isEqualTo(0);
+        assertThat(exclusive.getTotal()).isEqualTo(12.5);
+        // Embedded resources are not projected by the view
+        assertThat(exclusive.getOwner().getPrice()).isEqualTo(1);
+    }
+    
+    @Test
+    public void intersectsProjectionWithActiveView() throws Exception {
+        Order order = objectMapper.readerWithView(Summary.class).forType(Order.class)
+                .withAttribute(HalProjection.ATTRIBUTE,
+                        HalProjection.properties("number", "note").embedded("items", "owner"))
+                .readValue(ORDER);
+        
+        assertThat(order.getNumber()).isEqualTo(7);
+        assertThat(order.getOwner().getName()).isEqualTo("Joe");
+        // Excluded by the view
+        assertThat(order.getNote()).isNull();
+        assertThat(order.getItems()).isNull();
+        // Excluded by the projection
+        assertThat(order.getTotal()).isNull();
+        assertThat(order.getCustomer()).isNull();
+    }
+    
+    public interface Summary {
+    }
+    
+    public interface Detail extends Summary {
+    }
+    
+    public static class Order extends HalResource {
+        
+        private int number;
+        private Double total;
+        private String note;
+        @JsonView(Summary.class)
+        private String customer;
+        private List<Item> items;
+        private Item owner;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+        
+        @JsonView(Summary.class)
+        public Double getTotal() {
+            return total;
+        }
+        
+        public void setTotal(Double total) {
+            this.total = total;
+        }
+        
+        public String getNote() {
+            return note;
+        }
+        
+        @JsonView(Detail.class)
+        public void setNote(String note) {
+            this.note = note;
+        }
+        
+        public String getCustomer() {
+            return customer;
+        }
+        
+        public void setCustomer(String customer) {
+            this.customer = customer;
+        }
+        
+        public List<Item> getItems() {
+            return items;
+        }
+        
+        @JsonView(Detail.class)
+        @Embedded(value = "items", collectionContentType = Item.class)
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+        
+        @JsonView(Summary.class)
+        public Item getOwner() {
+            return owner;
+        }
+        
+        @Embedded("owner")
+        public void setOwner(Item owner) {
+            this.owner = owner;
+        }
+    }
+    
+    public static class Item extends HalResource {
+        
+        private String name;
+        @JsonView(Detail.class)
+        private double price;
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public double getPrice() {
+            return price;
+        }
+        
+        public void setPrice(double price) {
+            this.price = price;
+        }
+    }
+}
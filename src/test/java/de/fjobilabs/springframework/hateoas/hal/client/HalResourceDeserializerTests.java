@@ -0,0 +1,147 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fjobilabs.springframework.hateoas.hal.client.exception.HalResourceDeserializerException;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:58:37
+ * @version 1.0
+ */
+public class HalResourceDeserializerTests {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    public void writesPropertiesAndEmbeddedResources() throws Exception {
+        Order order = objectMapper.readValue("{\"number\":7,\"_links\":{\"self\":"
+                + "{\"href\":\"/orders/7\"}},\"_embedded\":{\"items\":[{\"number\":1},"
+                + "{\"number\":2}]},\"state\":\"open\"}", Order.class);
+        
+        assertThat(order.getNumber()).isEqualTo(7);
+        assertThat(order.getState()).isEqualTo("open");
+        assertThat(order.getItems()).extracting(Item::getNumber).containsExactly(1, 2);
+    }
+    
+    @Test
+    public void doesNotWriteNullProperties() throws Exception {
+        Order order = objectMapper.readValue("{\"state\":null}", Order.class);
+        
+        assertThat(order.getState()).isEqualTo("new");
+    }
+    
+    @Test
+    public void writesNullEmbeddedCollectionAsEmptyCollection() throws Exception {
+        Order order = objectMapper.readValue("{\"_embedded\":{\"items\":null}}", Order.class);
+        
+        assertThat(order.getItems()).isEmpty();
+    }
+    
+    @Test
+    public void skipsIgnoredStructuredValues() throws Exception {
+        LenientOrder order = objectMapper.readValue("{\"unknown\":{\"a\":[1,{\"b\":2}]},"
+                + "\"_embedded\":{\"other\":[{\"number\":1}],\"items\":[{\"number\":3}]},"
+                + "\"more\":[[1],[2]],\"number\":5}", LenientOrder.class);
+        
+        assertThat(order.getNumber()).isEqualTo(5);
+        assertThat(order.getItems()).extracting(Item::getNumber).containsExactly(3);
+    }
+    
+    @Test
+    public void rejectsUnknownProperty() throws Exception {
+        try {
+            objectMapper.readValue("{\"number\":1,\"unknown\":2}", Order.class);
+            fail("Expected HalResourceDeserializerException");
+        } catch (HalResourceDeserializerException e) {
+            assertThat(e.getMessage()).contains("'unknown'");
+        }
+    }
+    
+    @Test
+    public void rejectsUnknownEmbeddedResource() throws Exception {
+        try {
+            objectMapper.readValue("{\"_embedded\":{\"unknown\":{}}}", Order.class);
+            fail("Expected HalResourceDeserializerException");
+        } catch (HalResourceDeserializerException e) {
+            assertThat(e.getMessage()).contains("'unknown'");
+        }
+    }
+    
+    public static class Order extends HalResource {
+        
+        private int number;
+        private String state = "new";
+        private List<Item> items;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+        
+        public String getState() {
+            return state;
+        }
+        
+        public void setState(String state) {
+            this.state = state;
+        }
+        
+        public List<Item> getItems() {
+            return items;
+        }
+        
+        @Embedded(value = "items", collectionContentType = Item.class)
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+    
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class LenientOrder extends HalResource {
+        
+        private int number;
+        private List<Item> items;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+        
+        public List<Item> getItems() {
+            return items;
+        }
+        
+        @Embedded(value = "items", collectionContentType = Item.class)
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+    
+    public static class Item extends HalResource {
+        
+        private int number;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+    }
+}
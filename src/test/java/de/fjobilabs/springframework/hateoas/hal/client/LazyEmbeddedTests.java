@@ -0,0 +1,132 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.Collection;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fjobilabs.springframework.hateoas.hal.client.exception.EmbeddedResourcePropertyException;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:58:54
+ * @version 1.0
+ */
+public class LazyEmbeddedTests {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    public void bindsResourceOnFirstAccess() throws Exception {
+        Order order = objectMapper.readValue("{\"_embedded\":{\"customer\":{\"name\":\"Jane\"}},"
+                + "\"number\":1}", Order.class);
+        
+        assertThat(order.getNumber()).isEqualTo(1);
+        assertThat(order.customer.isBound()).isFalse();
+        Customer customer = order.getCustomer();
+        assertThat(customer.getName()).isEqualTo("Jane");
+        assertThat(order.customer.isBound()).isTrue();
+        assertThat(order.getCustomer()).isSameAs(customer);
+    }
+    
+    @Test
+    public void bindsCollectionOnFirstAccess() throws Exception {
+        Order order = objectMapper.readValue("{\"_embedded\":{\"items\":[{\"number\":1},"
+                + "{\"number\":2}]}}", Order.class);
+        
+        assertThat(order.items.isBound()).isFalse();
+        assertThat(order.getItems()).extracting(Item::getNumber).containsExactly(1, 2);
+    }
+    
+    @Test
+    public void doesNotWriteNullRelation() throws Exception {
+        Order order = objectMapper.readValue("{\"_embedded\":{\"customer\":null}}", Order.class);
+        
+        assertThat(order.customer).isNull();
+    }
+    
+    @Test
+    public void failsOnAccessIfRelationIsInvalid() throws Exception {
+        Order order = objectMapper.readValue("{\"_embedded\":{\"customer\":[1]}}", Order.class);
+        
+        try {
+            order.getCustomer();
+            fail("Expected EmbeddedResourcePropertyException");
+        } catch (EmbeddedResourcePropertyException e) {
+            assertThat(e.getMessage()).contains("'customer'");
+        }
+    }
+    
+    @Test
+    public void createsBoundInstance() {
+        Customer customer = new Customer();
+        
+        LazyEmbedded<Customer> embedded = LazyEmbedded.of(customer);
+        
+        assertThat(embedded.isBound()).isTrue();
+        assertThat(embedded.get()).isSameAs(customer);
+    }
+    
+    public static class Order extends HalResource {
+        
+        private int number;
+        private LazyEmbedded<Customer> customer;
+        private LazyEmbedded<Collection<Item>> items;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+        
+        public Customer getCustomer() {
+            return customer == null ? null : customer.get();
+        }
+        
+        @Embedded("customer")
+        public void setCustomer(LazyEmbedded<Customer> customer) {
+            this.customer = customer;
+        }
+        
+        public Collection<Item> getItems() {
+            return items == null ? null : items.get();
+        }
+        
+        @Embedded(value = "items", collectionContentType = Item.class)
+        public void setItems(LazyEmbedded<Collection<Item>> items) {
+            this.items = items;
+        }
+    }
+    
+    public static class Customer extends HalResource {
+        
+        private String name;
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+    
+    public static class Item extends HalResource {
+        
+        private int number;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+    }
+}
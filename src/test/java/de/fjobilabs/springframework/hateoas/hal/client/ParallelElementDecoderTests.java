@@ -0,0 +1,156 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:57:48
+ * @version 1.0
+ */
+public class ParallelElementDecoderTests {
+    
+    private static final String JSON = createJson(100);
+    
+    @Test
+    public void bindsElementsInDocumentOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Page page = mapper(new ParallelDecodingConfig(executor, 7)).readValue(JSON,
+                    Page.class);
+            
+            assertThat(page.getEntries()).hasSize(100);
+            for (int i = 0; i < 100; i++) {
+                assertThat(page.getEntries().get(i).getNumber()).isEqualTo(i);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    public void bindsChunksOnParserThreadIfExecutorDoesNotStartThem() throws Exception {
+        AtomicInteger submittedChunks = new AtomicInteger();
+        // Queues the chunks forever, like an executor whose threads are all busy
+        ParallelDecodingConfig config = new ParallelDecodingConfig(
+                task -> submittedChunks.incrementAndGet(), 10);
+        
+        Page page = mapper(config).readValue(JSON, Page.class);
+        
+        assertThat(page.getEntries()).hasSize(100);
+        assertThat(submittedChunks.get()).isEqualTo(10);
+    }
+    
+    @Test
+    public void bindsChunksOnParserThreadIfExecutorRejectsThem() throws Exception {
+        ParallelDecodingConfig config = new ParallelDecodingConfig(task -> {
+            throw new RejectedExecutionException();
+        }, 10);
+        
+        Page page = mapper(config).readValue(JSON, Page.class);
+        
+        assertThat(page.getEntries()).hasSize(100);
+    }
+    
+    @Test
+    public void doesNotDeadlockOnSaturatedSharedExecutor() throws Exception {
+        // The documents and their chunks share a single thread
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ObjectMapper mapper = mapper(new ParallelDecodingConfig(executor, 10));
+            CountDownLatch started = new CountDownLatch(1);
+            Future<Page> page = executor.submit(() -> {
+                started.countDown();
+                return mapper.readValue(JSON, Page.class);
+            });
+            
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(page.get(10, TimeUnit.SECONDS).getEntries()).hasSize(100);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    public void usesConfigurationOfTheMapper() throws Exception {
+        AtomicInteger configuredChunks = new AtomicInteger();
+        AtomicInteger defaultChunks = new AtomicInteger();
+        ParallelDecodingConfig defaultConfig = ParallelDecodingConfig.getDefault();
+        ParallelDecodingConfig.setDefault(new ParallelDecodingConfig(task -> {
+            defaultChunks.incrementAndGet();
+            task.run();
+        }, 10));
+        try {
+            ObjectMapper mapper = mapper(new ParallelDecodingConfig(task -> {
+                configuredChunks.incrementAndGet();
+                task.run();
+            }, 10));
+            
+            mapper.readValue(JSON, Page.class);
+            assertThat(configuredChunks.get()).isEqualTo(10);
+            assertThat(defaultChunks.get()).isEqualTo(0);
+            
+            new ObjectMapper().readValue(JSON, Page.class);
+            assertThat(defaultChunks.get()).isEqualTo(10);
+        } finally {
+            ParallelDecodingConfig.setDefault(defaultConfig);
+        }
+    }
+    
+    private static ObjectMapper mapper(ParallelDecodingConfig config) {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setConfig(mapper.getDeserializationConfig()
+                .withAttribute(ParallelDecodingConfig.ATTRIBUTE, config));
+        return mapper;
+    }
+    
+    private static String createJson(int size) {
+        StringBuilder json = new StringBuilder("{\"_embedded\":{\"entries\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"number\":").append(i).append('}');
+        }
+        return json.append("]}}").toString();
+    }
+    
+    public static class Page extends HalResource {
+        
+        private List<Entry> entries;
+        
+        public List<Entry> getEntries() {
+            return entries;
+        }
+        
+        @Embedded(value = "entries", collectionContentType = Entry.class, parallel = true)
+        public void setEntries(List<Entry> entries) {
+            this.entries = entries;
+        }
+    }
+    
+    public static class Entry extends HalResource {
+        
+        private int number;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+    }
+}
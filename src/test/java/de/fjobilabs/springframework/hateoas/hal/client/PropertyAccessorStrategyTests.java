@@ -0,0 +1,148 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:58:12
+ * @version 1.0
+ */
+public class PropertyAccessorStrategyTests {
+    
+    @Test
+    public void writesPublicSetterWithGeneratedAccessor() throws Throwable {
+        PropertyWriteAccessor accessor = new LambdaPropertyAccessorStrategy()
+                .createWriteAccessor(Bean.class.getMethod("setName", String.class));
+        Bean bean = new Bean();
+        
+        accessor.write(bean, "Jane");
+        
+        assertThat(bean.getName()).isEqualTo("Jane");
+    }
+    
+    @Test
+    public void unboxesPrimitiveValues() throws Throwable {
+        PropertyWriteAccessor accessor = new LambdaPropertyAccessorStrategy()
+                .createWriteAccessor(Bean.class.getMethod("setAge", int.class));
+        Bean bean = new Bean();
+        
+        accessor.write(bean, 42);
+        
+        assertThat(bean.getAge()).isEqualTo(42);
+    }
+    
+    @Test
+    public void writesSetterOfNonPublicClass() throws Throwable {
+        RecordingStrategy fallback = new RecordingStrategy();
+        PropertyWriteAccessor accessor = new LambdaPropertyAccessorStrategy(fallback)
+                .createWriteAccessor(PackageBean.class.getMethod("setName", String.class));
+        PackageBean bean = new PackageBean();
+        
+        accessor.write(bean, "Jane");
+        
+        assertThat(bean.name).isEqualTo("Jane");
+        assertThat(fallback.methods).isEmpty();
+    }
+    
+    @Test
+    public void usesFallbackIfMethodIsNotAccessible() throws Throwable {
+        RecordingStrategy fallback = new RecordingStrategy();
+        Method writeMethod = PrivateBean.class.getDeclaredMethod("setName", String.class);
+        
+        PropertyWriteAccessor accessor = new LambdaPropertyAccessorStrategy(fallback)
+                .createWriteAccessor(writeMethod);
+        
+        assertThat(accessor).isSameAs(fallback.accessor);
+        assertThat(fallback.methods).containsExactly(writeMethod);
+    }
+    
+    @Test
+    public void propagatesExceptionOfSetter() throws Throwable {
+        PropertyWriteAccessor accessor = new LambdaPropertyAccessorStrategy()
+                .createWriteAccessor(Bean.class.getMethod("setFailing", String.class));
+        
+        try {
+            accessor.write(new Bean(), "value");
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertThat(e).hasMessage("value");
+        }
+    }
+    
+    @Test
+    public void reflectionStrategyWritesSetter() throws Throwable {
+        PropertyWriteAccessor accessor = new ReflectionPropertyAccessorStrategy()
+                .createWriteAccessor(Bean.class.getMethod("setName", String.class));
+        Bean bean = new Bean();
+        
+        accessor.write(bean, "Jane");
+        
+        assertThat(bean.getName()).isEqualTo("Jane");
+    }
+    
+    public static class Bean {
+        
+        private String name;
+        private int age;
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public int getAge() {
+            return age;
+        }
+        
+        public void setAge(int age) {
+            this.age = age;
+        }
+        
+        public void setFailing(String value) {
+            throw new IllegalStateException(value);
+        }
+    }
+    
+    static class PackageBean {
+        
+        private String name;
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+    
+    private static class PrivateBean {
+        
+        @SuppressWarnings("unused")
+        private String name;
+        
+        @SuppressWarnings("unused")
+        private void setName(String name) {
+            this.name = name;
+        }
+    }
+    
+    private static class RecordingStrategy implements PropertyAccessorStrategy {
+        
+        private final List<Method> methods = new ArrayList<>();
+        private final PropertyWriteAccessor accessor = (instance, value) -> {
+        };
+        
+        @Override
+        public PropertyWriteAccessor createWriteAccessor(Method writeMethod) {
+            this.methods.add(writeMethod);
+            return this.accessor;
+        }
+    }
+}
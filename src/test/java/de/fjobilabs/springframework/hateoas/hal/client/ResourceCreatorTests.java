@@ -0,0 +1,243 @@
+package de.fjobilabs.springframework.hateoas.hal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fjobilabs.springframework.hateoas.hal.client.exception.HalResourceDeserializerException;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:55:17
+ * @version 1.0
+ */
+public class ResourceCreatorTests {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    public void createsInstanceWithJsonCreator() throws Exception {
+        Order order = objectMapper.readValue("{\"number\":7,\"customer_name\":\"Jane\","
+                + "\"_links\":{\"self\":{\"href\":\"/orders/7\"}}}", Order.class);
+        
+        assertThat(order.getNumber()).isEqualTo(7);
+        assertThat(order.getCustomerName()).isEqualTo("Jane");
+        assertThat(order.getHalLinks().getHref("self")).isEqualTo("/orders/7");
+    }
+    
+    @Test
+    public void createsInstanceWithConstructorProperties() throws Exception {
+        Item item = objectMapper.readValue("{\"name\":\"Pen\",\"amount\":3}", Item.class);
+        
+        assertThat(item.getName()).isEqualTo("Pen");
+        assertThat(item.getAmount()).isEqualTo(3);
+    }
+    
+    @Test
+    public void passesEmbeddedResourcesAsArguments() throws Exception {
+        Order order = objectMapper.readValue("{\"number\":7,\"_embedded\":{\"items\":["
+                + "{\"name\":\"Pen\",\"amount\":3},{\"name\":\"Ink\",\"amount\":1}],"
+                + "\"gift\":{\"name\":\"Card\",\"amount\":1}}}", Order.class);
+        
+        assertThat(order.getItems()).extracting(Item::getName).containsExactly("Pen", "Ink");
+        assertThat(order.getGift().getName()).isEqualTo("Card");
+    }
+    
+    @Test
+    public void writesOtherValuesAfterCreation() throws Exception {
+        Order order = objectMapper.readValue("{\"note\":\"Fragile\",\"number\":7,"
+                + "\"_embedded\":{\"gift\":{\"name\":\"Card\",\"amount\":1}}}", Order.class);
+        
+        assertThat(order.getNote()).isEqualTo("Fragile (7)");
+        assertThat(order.getGift().getName()).isEqualTo("Card");
+    }
+    
+    @Test
+    public void defaultsMissingPrimitiveArguments() throws Exception {
+        Item item = objectMapper.readValue("{\"name\":\"Pen\"}", Item.class);
+        
+        assertThat(item.getName()).isEqualTo("Pen");
+        assertThat(item.getAmount()).isEqualTo(0);
+    }
+    
+    @Test
+    public void ignoresDisabledCreator() throws Exception {
+        assertThat(ResourceCreator.find(DisabledCreatorItem.class)).isNull();
+        
+        DisabledCreatorItem item = objectMapper.readValue("{\"name\":\"Pen\"}",
+                DisabledCreatorItem.class);
+        
+        assertThat(item.getName()).isEqualTo("Pen");
+    }
+    
+    @Test
+    public void rejectsDelegatingCreator() {
+        assertThatThrownBy(() -> ResourceCreator.find(DelegatingCreatorItem.class))
+                .isInstanceOf(HalResourceDeserializerException.class)
+                .hasMessageContaining("Delegating creators are not supported");
+    }
+    
+    @Test
+    public void sharesCreatedInstancesWithTheSameIdentity() throws Exception {
+        Order order = objectMapper.readValue("{\"number\":7,\"_embedded\":{\"items\":["
+                + "{\"name\":\"Pen\",\"_embedded\":{\"maker\":{\"_links\":{\"self\":"
+                + "{\"href\":\"/makers/1\"}},\"name\":\"Acme\"}}},"
+                + "{\"name\":\"Ink\",\"_embedded\":{\"maker\":{\"_links\":{\"self\":"
+                + "{\"href\":\"/makers/1\"}},\"name\":\"Other\"}}}]}}", Order.class);
+        
+        List<Item> items = order.getItems();
+        assertThat(items.get(1).getMaker()).isSameAs(items.get(0).getMaker());
+        assertThat(items.get(1).getMaker().getName()).isEqualTo("Acme");
+    }
+    
+    @Test
+    public void decodesReferenceFromWithinCreatedInstanceSeparately() throws Exception {
+        Maker maker = objectMapper.readValue("{\"_links\":{\"self\":{\"href\":\"/makers/1\"}},"
+                + "\"name\":\"Acme\",\"_embedded\":{\"parent\":{\"_links\":{\"self\":"
+                + "{\"href\":\"/makers/1\"}},\"name\":\"Self\"}}}", Maker.class);
+        
+        assertThat(maker.getName()).isEqualTo("Acme");
+        assertThat(maker.getParent().getName()).isEqualTo("Self");
+    }
+    
+    public static class Order extends HalResource {
+        
+        private final int number;
+        private final String customerName;
+        private final List<Item> items;
+        private final Item gift;
+        
+        private String note;
+        
+        @JsonCreator
+        public Order(@JsonProperty("number") int number,
+                @JsonProperty("customer_name") String customerName,
+                @Embedded(value = "items", collectionContentType = Item.class) List<Item> items,
+                @Embedded("gift") Item gift) {
+            this.number = number;
+            this.customerName = customerName;
+            this.items = items;
+            this.gift = gift;
+        }
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public String getCustomerName() {
+            return customerName;
+        }
+        
+        public List<Item> getItems() {
+            return items;
+        }
+        
+        public Item getGift() {
+            return gift;
+        }
+        
+        public String getNote() {
+            return note;
+        }
+        
+        public void setNote(String note) {
+            // Only the created instance knows its number
+            this.note = note + " (" + number + ")";
+        }
+    }
+    
+    public static class Item extends HalResource {
+        
+        private final String name;
+        private final int amount;
+        
+        private Maker maker;
+        
+        @ConstructorProperties({"name", "amount"})
+        public Item(String name, int amount) {
+            this.name = name;
+            this.amount = amount;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public int getAmount() {
+            return amount;
+        }
+        
+        public Maker getMaker() {
+            return maker;
+        }
+        
+        @Embedded("maker")
+        public void setMaker(Maker maker) {
+            this.maker = maker;
+        }
+    }
+    
+    @HalIdentity
+    public static class Maker extends HalResource {
+        
+        private final String name;
+        private final Maker parent;
+        
+        @JsonCreator
+        public Maker(@JsonProperty("name") String name, @Embedded("parent") Maker parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public Maker getParent() {
+            return parent;
+        }
+    }
+    
+    public static class DisabledCreatorItem extends HalResource {
+        
+        private String name;
+        
+        public DisabledCreatorItem() {
+        }
+        
+        @JsonCreator(mode = JsonCreator.Mode.DISABLED)
+        public DisabledCreatorItem(@JsonProperty("name") String name) {
+            this.name = "Creator " + name;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+    
+    public static class DelegatingCreatorItem extends HalResource {
+        
+        private final String name;
+        
+        @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+        public DelegatingCreatorItem(String name) {
+            this.name = name;
+        }
+        
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package de.fjobilabs.springframework.hateoas.hal.client.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+import de.fjobilabs.springframework.hateoas.hal.client.exception.HalBulkRecordException;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:59:26
+ * @version 1.0
+ */
+public class HalBulkReaderTests {
+    
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private final HalBulkReader reader = new HalBulkReader(new ObjectMapper(), 4);
+    
+    @After
+    public void closeReader() {
+        this.reader.close();
+    }
+    
+    @Test
+    public void readsFileInOrder() throws Exception {
+        Path file = writeFile(records(1000));
+        List<Integer> numbers = new ArrayList<>();
+        
+        long count = reader.read(file, Order.class, order -> numbers.add(order.getNumber()));
+        
+        assertThat(count).isEqualTo(1000);
+        assertThat(numbers).hasSize(1000).isSorted().startsWith(1).endsWith(1000);
+    }
+    
+    @Test
+    public void readsRecordsAcrossMappedRegions() throws Exception {
+        reader.setMappingSize(16);
+        Path file = writeFile(record(1, "x") + "\n" + record(2, repeat('y', 100)) + "\n"
+                + record(3, "z"));
+        List<String> names = new ArrayList<>();
+        
+        long count = reader.read(file, Order.class, order -> names.add(order.getName()));
+        
+        assertThat(count).isEqualTo(3);
+        assertThat(names).containsExactly("x", repeat('y', 100), "z");
+    }
+    
+    @Test
+    public void skipsBlankLinesAndCarriageReturns() throws Exception {
+        Path file = writeFile(record(1, "a") + "\r\n\r\n  \n" + record(2, "b") + "\r\n");
+        List<Integer> numbers = new ArrayList<>();
+        
+        long count = reader.read(file, Order.class, order -> numbers.add(order.getNumber()));
+        
+        assertThat(count).isEqualTo(2);
+        assertThat(numbers).containsExactly(1, 2);
+    }
+    
+    @Test
+    public void readsStreamWithRecordsLargerThanBuffer() throws Exception {
+        String largeName = repeat('n', 200 * 1024);
+        String content = record(1, "a") + "\n" + record(2, largeName) + "\n" + record(3, "c");
+        List<String> names = new ArrayList<>();
+        
+        long count = reader.read(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), Order.class,
+                order -> names.add(order.getName()));
+        
+        assertThat(count).isEqualTo(3);
+        assertThat(names).containsExactly("a", largeName, "c");
+    }
+    
+    @Test
+    public void reportsNumberOfInvalidRecord() throws Exception {
+        Path file = writeFile(record(1, "a") + "\n\n" + record(2, "b") + "\n{\"number\":}\n"
+                + record(4, "d"));
+        
+        try {
+            reader.read(file, Order.class, order -> {
+            });
+            fail("Expected HalBulkRecordException");
+        } catch (HalBulkRecordException e) {
+            assertThat(e.getRecordNumber()).isEqualTo(3);
+        }
+    }
+    
+    @Test
+    public void propagatesExceptionOfConsumer() throws Exception {
+        Path file = writeFile(records(100));
+        List<Integer> numbers = new ArrayList<>();
+        
+        try {
+            reader.read(file, Order.class, order -> {
+                if (order.getNumber() == 10) {
+                    throw new IllegalStateException("Stop");
+                }
+                numbers.add(order.getNumber());
+            });
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertThat(e).hasMessage("Stop");
+        }
+        assertThat(numbers).hasSize(9);
+    }
+    
+    private Path writeFile(String content) throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+    
+    private static String records(int count) {
+        StringBuilder records = new StringBuilder();
+        for (int i = 1; i <= count; i++) {
+            records.append(record(i, "order " + i)).append('\n');
+        }
+        return records.toString();
+    }
+    
+    private static String record(int number, String name) {
+        return "{\"number\":" + number + ",\"name\":\"" + name
+                + "\",\"_links\":{\"self\":{\"href\":\"/orders/" + number + "\"}}}";
+    }
+    
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+    
+    public static class Order extends HalResource {
+        
+        private int number;
+        private String name;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
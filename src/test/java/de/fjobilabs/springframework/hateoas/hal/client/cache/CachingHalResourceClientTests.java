@@ -0,0 +1,267 @@
+package de.fjobilabs.springframework.hateoas.hal.client.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.test.web.client.response.DefaultResponseCreator;
+import org.springframework.web.client.RestTemplate;
+
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:59:37
+ * @version 1.0
+ */
+public class CachingHalResourceClientTests {
+    
+    private static final String URI = "http://localhost/orders/1";
+    
+    private RestTemplate restTemplate;
+    private MutableClock clock;
+    private MockRestServiceServer server;
+    private CachingHalResourceClient client;
+    
+    @Before
+    public void setUp() {
+        this.restTemplate = new RestTemplate();
+        this.clock = new MutableClock();
+        this.server = MockRestServiceServer.bindTo(this.restTemplate).build();
+        this.client = new CachingHalResourceClient(this.restTemplate, 10,
+                Duration.ofSeconds(60), this.clock);
+    }
+    
+    @After
+    public void tearDown() {
+        this.server.verify();
+    }
+    
+    @Test
+    public void servesFreshResourceFromCache() {
+        server.expect(once(), requestTo(URI)).andRespond(order(1, null));
+        
+        Order first = client.get(URI, Order.class);
+        clock.advance(Duration.ofSeconds(30));
+        Order second = client.get(URI, Order.class);
+        
+        assertThat(second).isSameAs(first);
+        assertThat(second.getNumber()).isEqualTo(1);
+        assertThat(client.getStatistics().getHitCount()).isEqualTo(1);
+        assertThat(client.getStatistics().getMissCount()).isEqualTo(1);
+    }
+    
+    @Test
+    public void servesResourceBySelfLink() {
+        String uri = "http://localhost/orders/latest";
+        server.expect(once(), requestTo(uri)).andRespond(order(1, null));
+        
+        Order first = client.get(uri, Order.class);
+        Order second = client.get(URI, Order.class);
+        
+        assertThat(second).isSameAs(first);
+        assertThat(client.size()).isEqualTo(1);
+    }
+    
+    @Test
+    public void evictsLeastRecentlyUsedResourceWithAllItsKeys() {
+        String latestUri = "http://localhost/orders/latest";
+        String otherUri = "http://localhost/orders/2";
+        String newUri = "http://localhost/orders/3";
+        server.expect(once(), requestTo(latestUri)).andRespond(order(1, URI, null));
+        server.expect(once(), requestTo(otherUri)).andRespond(order(2, otherUri, null));
+        server.expect(once(), requestTo(newUri)).andRespond(order(3, newUri, null));
+        server.expect(once(), requestTo(latestUri)).andRespond(order(1, URI, null));
+        CachingHalResourceClient client = new CachingHalResourceClient(restTemplate, 2,
+                Duration.ofSeconds(60), clock);
+        
+        client.get(latestUri, Order.class);
+        client.get(otherUri, Order.class);
+        assertThat(client.size()).isEqualTo(2);
+        client.get(newUri, Order.class);
+        
+        assertThat(client.size()).isEqualTo(2);
+        assertThat(client.getStatistics().getEvictionCount()).isEqualTo(1);
+        client.get(latestUri, Order.class);
+        assertThat(client.getStatistics().getMissCount()).isEqualTo(4);
+        assertThat(client.getStatistics().getEvictionCount()).isEqualTo(2);
+    }
+    
+    @Test
+    public void evictsResourceByAnyOfItsKeys() {
+        String latestUri = "http://localhost/orders/latest";
+        server.expect(once(), requestTo(latestUri)).andRespond(order(1, URI, null));
+        server.expect(once(), requestTo(URI)).andRespond(order(1, URI, null));
+        
+        client.get(latestUri, Order.class);
+        client.evict(java.net.URI.create(latestUri));
+        
+        assertThat(client.size()).isEqualTo(0);
+        client.get(URI, Order.class);
+        assertThat(client.getStatistics().getMissCount()).isEqualTo(2);
+    }
+    
+    @Test
+    public void revalidatesExpiredResource() {
+        server.expect(once(), requestTo(URI)).andRespond(order(1, "\"v1\""));
+        server.expect(once(), requestTo(URI))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        
+        Order first = client.get(URI, Order.class);
+        clock.advance(Duration.ofSeconds(60));
+        Order second = client.get(URI, Order.class);
+        clock.advance(Duration.ofSeconds(30));
+        Order third = client.get(URI, Order.class);
+        
+        assertThat(second).isSameAs(first);
+        assertThat(third).isSameAs(first);
+        assertThat(client.getStatistics().getRevalidatedCount()).isEqualTo(1);
+        assertThat(client.getStatistics().getHitCount()).isEqualTo(1);
+    }
+    
+    @Test
+    public void fetchesExpiredResourceWithoutValidators() {
+        server.expect(once(), requestTo(URI)).andRespond(order(1, null));
+        server.expect(once(), requestTo(URI)).andRespond(order(2, null));
+        
+        client.get(URI, Order.class);
+        clock.advance(Duration.ofSeconds(61));
+        Order second = client.get(URI, Order.class);
+        
+        assertThat(second.getNumber()).isEqualTo(2);
+        assertThat(client.getStatistics().getMissCount()).isEqualTo(2);
+    }
+    
+    @Test
+    public void evictsResourceWhenRevalidationIsNotCacheable() {
+        HttpHeaders noStore = new HttpHeaders();
+        noStore.setCacheControl("no-store");
+        server.expect(once(), requestTo(URI)).andRespond(order(1, "\"v1\""));
+        server.expect(once(), requestTo(URI)).andRespond(order(2, null).headers(noStore));
+        server.expect(once(), requestTo(URI))
+                .andExpect(request -> assertThat(request.getHeaders().getIfNoneMatch()).isEmpty())
+                .andRespond(order(3, null));
+        
+        client.get(URI, Order.class);
+        clock.advance(Duration.ofSeconds(60));
+        Order second = client.get(URI, Order.class);
+        Order third = client.get(URI, Order.class);
+        
+        assertThat(second.getNumber()).isEqualTo(2);
+        assertThat(third.getNumber()).isEqualTo(3);
+    }
+    
+    @Test
+    public void coalescesConcurrentFetches() throws Exception {
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch respond = new CountDownLatch(1);
+        ResponseCreator response = order(1, null);
+        server.expect(once(), requestTo(URI)).andRespond(request -> {
+            requested.countDown();
+            try {
+                respond.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return response.createResponse(request);
+        });
+        
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Order> first = executor.submit(() -> client.get(URI, Order.class));
+            assertThat(requested.await(10, TimeUnit.SECONDS)).isTrue();
+            Thread[] waiter = new Thread[1];
+            Future<Order> second = executor.submit(() -> {
+                waiter[0] = Thread.currentThread();
+                return client.get(URI, Order.class);
+            });
+            awaitWaiting(waiter);
+            respond.countDown();
+            
+            assertThat(second.get(10, TimeUnit.SECONDS)).isSameAs(first.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private static void awaitWaiting(Thread[] thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (thread[0] == null || thread[0].getState() != Thread.State.WAITING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+    
+    private static DefaultResponseCreator order(int number, String eTag) {
+        return order(number, URI, eTag);
+    }
+    
+    private static DefaultResponseCreator order(int number, String selfHref, String eTag) {
+        HttpHeaders headers = new HttpHeaders();
+        if (eTag != null) {
+            headers.setETag(eTag);
+        }
+        return withSuccess("{\"number\":" + number + ",\"_links\":{\"self\":{\"href\":\""
+                + selfHref + "\"}}}", MediaTypes.HAL_JSON).headers(headers);
+    }
+    
+    public static class Order extends HalResource {
+        
+        private int number;
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        public void setNumber(int number) {
+            this.number = number;
+        }
+    }
+    
+    private static class MutableClock extends Clock {
+        
+        private Instant now = Instant.parse("2026-10-18T12:00:00Z");
+        
+        void advance(Duration duration) {
+            this.now = this.now.plus(duration);
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+        
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package de.fjobilabs.springframework.hateoas.hal.client.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fjobilabs.springframework.hateoas.hal.client.HalProjection;
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:58:03
+ * @version 1.0
+ */
+public class InMemoryHalDeserializationMetricsTests {
+    
+    private static final String JSON = "{\"id\":1,\"total\":10,\"unknown\":true}";
+    
+    @Test
+    public void countsUnknownAndExcludedPropertiesSeparately() throws Exception {
+        InMemoryHalDeserializationMetrics metrics = new InMemoryHalDeserializationMetrics();
+        ObjectMapper mapper = mapper(metrics);
+        
+        mapper.readerFor(Order.class)
+                .withAttribute(HalProjection.ATTRIBUTE, HalProjection.properties("id", "unknown"))
+                .readValue(JSON);
+        
+        InMemoryHalDeserializationMetrics.ResourceMetrics orderMetrics = metrics
+                .getMetrics(Order.class);
+        assertThat(orderMetrics.getCount()).isEqualTo(1);
+        assertThat(orderMetrics.getPropertyCount().getMax()).isEqualTo(1);
+        assertThat(orderMetrics.getSkippedPropertyCount().getMax()).isEqualTo(1);
+        assertThat(orderMetrics.getExcludedPropertyCount().getMax()).isEqualTo(1);
+    }
+    
+    @Test
+    public void notifiesOnlyTheListenerOfTheMapper() throws Exception {
+        InMemoryHalDeserializationMetrics metrics = new InMemoryHalDeserializationMetrics();
+        InMemoryHalDeserializationMetrics otherMetrics = new InMemoryHalDeserializationMetrics();
+        
+        mapper(metrics).readValue(JSON, Order.class);
+        mapper(otherMetrics).readValue(JSON, Order.class);
+        mapper(otherMetrics).readValue(JSON, Order.class);
+        new ObjectMapper().readValue(JSON, Order.class);
+        
+        assertThat(metrics.getMetrics(Order.class).getCount()).isEqualTo(1);
+        assertThat(otherMetrics.getMetrics(Order.class).getCount()).isEqualTo(2);
+    }
+    
+    private static ObjectMapper mapper(HalDeserializationListener listener) {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setConfig(mapper.getDeserializationConfig()
+                .withAttribute(HalDeserializationListener.ATTRIBUTE, listener));
+        return mapper;
+    }
+    
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Order extends HalResource {
+        
+        private long id;
+        private long total;
+        
+        public long getId() {
+            return id;
+        }
+        
+        public void setId(long id) {
+            this.id = id;
+        }
+        
+        public long getTotal() {
+            return total;
+        }
+        
+        public void setTotal(long total) {
+            this.total = total;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package de.fjobilabs.springframework.hateoas.hal.client.traversal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.fjobilabs.springframework.hateoas.hal.client.HalResource;
+
+/**
+ * @author Felix Jordan
+ * @since 18.10.2026 - 23:59:51
+ * @version 1.0
+ */
+public class HalTraversalClientTests {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+    private HalTraversalClient client;
+    
+    @Before
+    public void setUp() {
+        this.restTemplate = new RestTemplate();
+        this.server = MockRestServiceServer.bindTo(this.restTemplate).ignoreExpectOrder(true)
+                .build();
+        // Runs the requests on the calling thread, so the stub server is used sequentially
+        this.client = new HalTraversalClient(this.restTemplate, Runnable::run);
+    }
+    
+    @Test
+    public void followsRelativeLinksAndFetchesEachUriOnce() throws Exception {
+        Order order = order("{\"self\":{\"href\":\"http://localhost/orders/1\"},"
+                + "\"customer\":{\"href\":\"/customers/7\"},"
+                + "\"items\":[{\"href\":\"items/1\"},{\"href\":\"items/2\"},"
+                + "{\"href\":\"items/1\"}]}");
+        server.expect(once(), requestTo("http://localhost/customers/7"))
+                .andRespond(withSuccess("{\"name\":\"Jane\"}", MediaTypes.HAL_JSON));
+        server.expect(once(), requestTo("http://localhost/orders/items/1"))
+                .andRespond(withSuccess("{\"name\":\"first\"}", MediaTypes.HAL_JSON));
+        server.expect(once(), requestTo("http://localhost/orders/items/2"))
+                .andRespond(withSuccess("{\"name\":\"second\"}", MediaTypes.HAL_JSON));
+        
+        HalTraversalResult result = client.traverse(order).follow("customer", Named.class)
+                .follow("items", Named.class).execute().join();
+        
+        server.verify();
+        assertThat(result.getResource("customer", Named.class).getName()).isEqualTo("Jane");
+        assertThat(result.getResources("items", Named.class)).extracting(Named::getName)
+                .containsExactly("first", "second", "first");
+        assertThat(result.getRequestCount()).isEqualTo(3);
+    }
+    
+    @Test
+    public void returnsNullForMissingLink() {
+        Order order = order("{\"self\":{\"href\":\"http://localhost/orders/1\"}}");
+        
+        Named customer = client.follow(order, "customer", Named.class).join();
+        
+        assertThat(customer).isNull();
+    }
+    
+    @Test
+    public void completesExceptionallyForInvalidLink() {
+        Order order = order("{\"customer\":{\"href\":\"http://localhost/customers/7\"},"
+                + "\"items\":{\"href\":\"http://localhost/items/a b\"}}");
+        
+        CompletableFuture<HalTraversalResult> result = client.traverse(order)
+                .follow("customer", Named.class).follow("items", Named.class).execute();
+        
+        assertThat(result.isCompletedExceptionally()).isTrue();
+        assertThat(catchThrowable(result::join)).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        // No request has been started
+        server.verify();
+    }
+    
+    @Test
+    public void completesExceptionallyForFailedRequest() {
+        Order order = order("{\"customer\":{\"href\":\"http://localhost/customers/7\"}}");
+        server.expect(once(), requestTo("http://localhost/customers/7"))
+                .andRespond(withServerError());
+        
+        CompletableFuture<Named> customer = client.follow(order, "customer", Named.class);
+        
+        assertThat(catchThrowable(customer::join)).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(HttpServerErrorException.class);
+    }
+    
+    @Test
+    public void completesExceptionallyAfterClose() {
+        Order order = order("{\"customer\":{\"href\":\"http://localhost/customers/7\"}}");
+        HalTraversalClient ownPoolClient = new HalTraversalClient(this.restTemplate, 1);
+        ownPoolClient.close();
+        
+        CompletableFuture<Named> customer = ownPoolClient.follow(order, "customer", Named.class);
+        
+        assertThat(catchThrowable(customer::join)).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+    
+    private Order order(String links) {
+        try {
+            return this.objectMapper.readValue("{\"_links\":" + links + "}", Order.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    public static class Order extends HalResource {
+    }
+    
+    public static class Named extends HalResource {
+        
+        private String name;
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}